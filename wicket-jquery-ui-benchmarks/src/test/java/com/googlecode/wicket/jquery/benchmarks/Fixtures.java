@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.markup.repeater.data.ListDataProvider;
+import org.apache.wicket.util.io.IClusterable;
+
+import com.googlecode.wicket.kendo.ui.datatable.column.DatePropertyColumn;
+import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+import com.googlecode.wicket.kendo.ui.datatable.column.IExportableColumn;
+import com.googlecode.wicket.kendo.ui.datatable.column.PropertyColumn;
+
+/**
+ * Provides the beans, columns and data providers shared by the benchmarks
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class Fixtures
+{
+	/**
+	 * Utility class
+	 */
+	private Fixtures()
+	{
+	}
+
+	/**
+	 * Gets a new list of {@link Person}<tt>s</tt>
+	 *
+	 * @param count the number of beans
+	 * @return a new list of {@link Person}<tt>s</tt>
+	 */
+	public static List<Person> newPersons(int count)
+	{
+		List<Person> list = new ArrayList<Person>(count);
+		long now = System.currentTimeMillis();
+
+		for (int i = 0; i < count; i++)
+		{
+			list.add(new Person(i, "Name \"" + i + "\"", "name" + i + "@example.com", new Date(now - i * 86400000L), new Address("Street " + i, "City " + (i % 10))));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Gets a new {@link IDataProvider} of {@link Person}<tt>s</tt>
+	 *
+	 * @param count the number of beans
+	 * @return a new {@link IDataProvider}
+	 */
+	public static IDataProvider<Person> newProvider(int count)
+	{
+		return new ListDataProvider<Person>(newPersons(count));
+	}
+
+	/**
+	 * Gets the columns matching {@link Person} properties
+	 *
+	 * @return the list of {@link IColumn}
+	 */
+	public static List<IColumn> newColumns()
+	{
+		List<IColumn> columns = new ArrayList<IColumn>();
+
+		for (IExportableColumn column : newExportableColumns())
+		{
+			columns.add(column);
+		}
+
+		return columns;
+	}
+
+	/**
+	 * Gets the exportable columns matching {@link Person} properties
+	 *
+	 * @return the list of {@link IExportableColumn}
+	 */
+	public static List<IExportableColumn> newExportableColumns()
+	{
+		List<IExportableColumn> columns = new ArrayList<IExportableColumn>();
+
+		columns.add(new PropertyColumn("ID", "id", 50));
+		columns.add(new PropertyColumn("Name", "name", 150));
+		columns.add(new PropertyColumn("E-mail", "email", 200));
+		columns.add(new DatePropertyColumn("Birth", "birth"));
+		columns.add(new PropertyColumn("Street", "address.street"));
+		columns.add(new PropertyColumn("City", "address.city"));
+
+		return columns;
+	}
+
+	/**
+	 * Iterates over the whole provider, so its cost is not attributed to the benchmark
+	 *
+	 * @param provider the {@link IDataProvider}
+	 * @return the list of beans
+	 */
+	public static <T> List<T> toList(IDataProvider<T> provider)
+	{
+		List<T> list = new ArrayList<T>();
+		Iterator<? extends T> iterator = provider.iterator(0, provider.size());
+
+		while (iterator.hasNext())
+		{
+			list.add(iterator.next());
+		}
+
+		return list;
+	}
+
+	/**
+	 * Fixture bean
+	 */
+	public static class Person implements IClusterable
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int id;
+		private final String name;
+		private final String email;
+		private final Date birth;
+		private final Address address;
+
+		public Person(int id, String name, String email, Date birth, Address address)
+		{
+			this.id = id;
+			this.name = name;
+			this.email = email;
+			this.birth = birth;
+			this.address = address;
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public String getEmail()
+		{
+			return this.email;
+		}
+
+		public Date getBirth()
+		{
+			return this.birth;
+		}
+
+		public Address getAddress()
+		{
+			return this.address;
+		}
+	}
+
+	/**
+	 * Nested fixture bean
+	 */
+	public static class Address implements IClusterable
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final String street;
+		private final String city;
+
+		public Address(String street, String city)
+		{
+			this.street = street;
+			this.city = city;
+		}
+
+		public String getStreet()
+		{
+			return this.street;
+		}
+
+		public String getCity()
+		{
+			return this.city;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.Options;
+
+/**
+ * Benchmarks the {@link JQueryBehavior} statement rendering, with and without option changes between renders
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JQueryBehaviorBenchmark
+{
+	private JQueryBehavior behavior;
+	private boolean flag;
+
+	@Setup
+	public void setup()
+	{
+		Options options = new Options();
+		options.set("autoOpen", false);
+		options.set("width", 400);
+		options.set("title", Options.asString("My dialog"));
+
+		this.behavior = new JQueryBehavior("#dialog", "dialog", options);
+	}
+
+	@Benchmark
+	public String statement()
+	{
+		return this.behavior.toString();
+	}
+
+	@Benchmark
+	public String statementDirty()
+	{
+		this.flag = !this.flag;
+		this.behavior.setOption("modal", this.flag);
+
+		return this.behavior.toString();
+	}
+
+	/**
+	 * Re-sets the same options before each render, as widgets do in their onConfigure
+	 */
+	@Benchmark
+	public String statementOptionsReset()
+	{
+		this.behavior.setOption("autoOpen", false);
+		this.behavior.setOption("width", 400);
+		this.behavior.setOption("title", Options.asString("My dialog"));
+
+		return this.behavior.toString();
+	}
+
+	@Benchmark
+	public String statementWithOptions()
+	{
+		return this.behavior.$("{ autoOpen: false }");
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks.core;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.core.Options;
+
+/**
+ * Benchmarks the {@link Options} JSON serialization
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionsBenchmark
+{
+	private Options options;
+	private Options nested;
+
+	@Setup
+	public void setup()
+	{
+		this.options = new Options();
+		this.options.set("autoOpen", false);
+		this.options.set("width", 400);
+		this.options.set("title", Options.asString("Title with \"quotes\" and </script>"));
+		this.options.set("date", Options.asDate(new Date()));
+		this.options.set("position", "{ my: 'center', at: 'center' }");
+
+		this.nested = new Options("modal", true);
+		this.nested.set("animation", new Options("open", new Options("effects", Options.asString("fade:in"))));
+	}
+
+	@Benchmark
+	public String toJson()
+	{
+		return this.options.toString();
+	}
+
+	@Benchmark
+	public String toJsonNested()
+	{
+		return this.nested.toString();
+	}
+
+	@Benchmark
+	public String asString()
+	{
+		return Options.asString("Lorem ipsum \"dolor\" sit amet,\nconsectetur </adipiscing> elit");
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks.kendo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.benchmarks.Fixtures;
+import com.googlecode.wicket.jquery.benchmarks.Fixtures.Person;
+import com.googlecode.wicket.jquery.benchmarks.WicketContext;
+import com.googlecode.wicket.kendo.ui.datatable.column.IExportableColumn;
+import com.googlecode.wicket.kendo.ui.datatable.export.CSVDataExporter;
+
+/**
+ * Benchmarks the {@link CSVDataExporter} export
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSVDataExporterBenchmark
+{
+	@Param({ "100", "1000" })
+	private int rows;
+
+	private CSVDataExporter exporter;
+	private IDataProvider<Person> provider;
+	private List<IExportableColumn> columns;
+	private ByteArrayOutputStream output;
+
+	@Setup
+	public void setup()
+	{
+		this.exporter = new CSVDataExporter();
+		this.provider = Fixtures.newProvider(this.rows);
+		this.columns = Fixtures.newExportableColumns();
+		this.output = new ByteArrayOutputStream(this.rows * 128);
+	}
+
+	@Benchmark
+	public int exportData(WicketContext context) throws IOException
+	{
+		this.output.reset();
+		this.exporter.exportData(this.provider, this.columns, this.output);
+
+		return this.output.size();
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks.kendo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.wicket.behavior.AbstractAjaxBehavior;
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.request.Url;
+import org.apache.wicket.util.tester.WicketTester;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.benchmarks.Fixtures;
+import com.googlecode.wicket.jquery.benchmarks.Fixtures.Person;
+import com.googlecode.wicket.kendo.ui.datatable.DataTable;
+
+/**
+ * Benchmarks the {@link DataTable} data source response, through its public callback url
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataSourceBenchmark
+{
+	@Param({ "1", "100" })
+	private int rows;
+
+	private WicketTester tester;
+	private String url;
+
+	@Setup
+	public void setup()
+	{
+		this.tester = new WicketTester(new MockApplication());
+
+		DataTable<Person> table = new DataTable<Person>("table", Fixtures.newColumns(), Fixtures.newProvider(this.rows), this.rows);
+		this.tester.startComponentInPage(table);
+
+		AbstractAjaxBehavior behavior = table.getBehaviors(AbstractAjaxBehavior.class).get(0);
+		this.url = behavior.getCallbackUrl() + "&take=" + this.rows;
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		this.tester.destroy();
+	}
+
+	@Benchmark
+	public int respond()
+	{
+		this.tester.executeAjaxUrl(Url.parse(this.url));
+
+		// the tester keeps every request/response otherwise //
+		this.tester.getPreviousRequests().clear();
+		this.tester.getPreviousResponses().clear();
+
+		return this.tester.getLastResponse().getDocument().length();
+	}
+}
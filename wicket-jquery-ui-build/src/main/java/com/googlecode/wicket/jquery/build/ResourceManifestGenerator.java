@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.build;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build-time tool that writes the manifest of the content hashes of the bundled resources, loaded by <code>com.googlecode.wicket.jquery.core.resource.ResourceManifest</code>.<br/>
+ * It is run by the library modules at 'process-classes' phase, against their output directory (see the 'resource-manifest' execution of the parent pom):<br/>
+ * <code>java ResourceManifestGenerator target/classes</code>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class ResourceManifestGenerator
+{
+	/** Classpath location of the manifest, which should be the same as <code>ResourceManifest#PATH</code> */
+	static final String PATH = "META-INF/wicket-jquery-ui.manifest";
+
+	private static final String ALGORITHM = "MD5";
+	private static final String[] EXTENSIONS = { ".js", ".css", ".png", ".gif", ".jpg", ".jpeg", ".svg", ".ttf", ".woff", ".eot" };
+
+	/**
+	 * Utility class
+	 */
+	private ResourceManifestGenerator()
+	{
+	}
+
+	/**
+	 * Writes the manifest of the resources of the supplied directory, in that directory
+	 *
+	 * @param args the output directory
+	 * @throws IOException if the manifest cannot be written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		File directory = new File(args[0]);
+		Map<String, String> hashes = new TreeMap<String, String>(); // sorted, so the manifest is reproducible
+
+		ResourceManifestGenerator.hash(directory, "", hashes);
+
+		File file = new File(directory, PATH);
+		file.getParentFile().mkdirs();
+
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+
+		try
+		{
+			for (Map.Entry<String, String> entry : hashes.entrySet())
+			{
+				writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+			}
+		}
+		finally
+		{
+			writer.close();
+		}
+	}
+
+	/**
+	 * Computes the hashes of the resources of the directory, recursively
+	 *
+	 * @param directory the directory
+	 * @param path the path of the directory, relative to the output directory
+	 * @param hashes the map of hashes
+	 * @throws IOException if a resource cannot be read
+	 */
+	private static void hash(File directory, String path, Map<String, String> hashes) throws IOException
+	{
+		for (File file : directory.listFiles())
+		{
+			if (file.isDirectory())
+			{
+				ResourceManifestGenerator.hash(file, path + file.getName() + "/", hashes);
+			}
+			else if (ResourceManifestGenerator.accept(file.getName()))
+			{
+				hashes.put(path + file.getName(), ResourceManifestGenerator.hash(file));
+			}
+		}
+	}
+
+	/**
+	 * Indicates whether the file is a web resource
+	 *
+	 * @param name the file name
+	 * @return true or false
+	 */
+	private static boolean accept(String name)
+	{
+		for (String extension : EXTENSIONS)
+		{
+			if (name.endsWith(extension))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Computes the hash of the file
+	 *
+	 * @param file the {@link File}
+	 * @return the hex-encoded hash
+	 * @throws IOException if the file cannot be read
+	 */
+	private static String hash(File file) throws IOException
+	{
+		InputStream input = new FileInputStream(file);
+
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+			byte[] buffer = new byte[8192];
+
+			for (int length = input.read(buffer); length != -1; length = input.read(buffer))
+			{
+				digest.update(buffer, 0, length);
+			}
+
+			StringBuilder builder = new StringBuilder();
+
+			for (byte b : digest.digest())
+			{
+				builder.append(String.format("%02x", b));
+			}
+
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IOException(e.getMessage());
+		}
+		finally
+		{
+			input.close();
+		}
+	}
+}
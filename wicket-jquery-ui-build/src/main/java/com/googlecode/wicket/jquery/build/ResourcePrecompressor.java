@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.build;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build-time tool that writes the gzip siblings ('name.js.gz') served by <code>com.googlecode.wicket.jquery.core.resource.PrecompressedResourceReference</code>.<br/>
+ * It is run by the library modules at 'process-classes' phase, against their output directory (see the 'precompress-resources' execution of the parent pom):<br/>
+ * <code>java ResourcePrecompressor target/classes</code><br/>
+ * <br/>
+ * <b>Note:</b> There is no brotli encoder available to the build, so brotli siblings ('name.js.br') have to be produced by an external tool, if wanted.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class ResourcePrecompressor
+{
+	/** Files smaller than the threshold are not worth compressing */
+	static final int THRESHOLD = 1024;
+
+	/** Extension of gzip variants */
+	static final String GZIP_EXTENSION = ".gz";
+
+	/**
+	 * Utility class
+	 */
+	private ResourcePrecompressor()
+	{
+	}
+
+	/**
+	 * Writes the gzip siblings of the resources of the supplied directories
+	 *
+	 * @param args the directories
+	 * @throws IOException if a resource cannot be compressed
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		for (String arg : args)
+		{
+			File directory = new File(arg);
+
+			if (directory.isDirectory())
+			{
+				ResourcePrecompressor.compress(directory);
+			}
+		}
+	}
+
+	/**
+	 * Writes the gzip siblings of the javascript and stylesheet resources of the directory, recursively
+	 *
+	 * @param directory the directory
+	 * @throws IOException if a resource cannot be compressed
+	 */
+	private static void compress(File directory) throws IOException
+	{
+		for (File file : directory.listFiles())
+		{
+			if (file.isDirectory())
+			{
+				ResourcePrecompressor.compress(file);
+			}
+			else if (ResourcePrecompressor.accept(file))
+			{
+				File gzip = new File(file.getPath() + GZIP_EXTENSION);
+
+				if (!gzip.exists() || gzip.lastModified() < file.lastModified())
+				{
+					ResourcePrecompressor.gzip(file, gzip);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indicates whether the file should be compressed
+	 *
+	 * @param file the {@link File}
+	 * @return true if the file is a javascript or a stylesheet, larger than the {@link #THRESHOLD}
+	 */
+	private static boolean accept(File file)
+	{
+		String name = file.getName();
+
+		return (name.endsWith(".js") || name.endsWith(".css")) && file.length() >= THRESHOLD;
+	}
+
+	/**
+	 * Compresses the source file to the target file, using the best compression level
+	 *
+	 * @param source the source {@link File}
+	 * @param target the target {@link File}
+	 * @throws IOException if the file cannot be compressed
+	 */
+	private static void gzip(File source, File target) throws IOException
+	{
+		InputStream input = new FileInputStream(source);
+
+		try
+		{
+			OutputStream output = new GZIPOutputStream(new FileOutputStream(target)) {
+
+				{
+					this.def.setLevel(Deflater.BEST_COMPRESSION);
+				}
+			};
+
+			try
+			{
+				byte[] buffer = new byte[8192];
+
+				for (int length = input.read(buffer); length != -1; length = input.read(buffer))
+				{
+					output.write(buffer, 0, length);
+				}
+			}
+			finally
+			{
+				output.close();
+			}
+		}
+		finally
+		{
+			input.close();
+		}
+	}
+}
@@ -16,7 +16,9 @@
  */
 package com.googlecode.wicket.jquery.ui.calendar;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import org.apache.wicket.Application;
 import org.apache.wicket.Component;
@@ -28,14 +30,20 @@ import org.apache.wicket.markup.head.JavaScriptHeaderItem;
 import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.handler.resource.ResourceReferenceRequestHandler;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 import org.apache.wicket.util.time.Duration;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.JQueryEvent;
+import com.googlecode.wicket.jquery.core.JQueryLoader;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxDispatcher;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 import com.googlecode.wicket.jquery.ui.calendar.settings.CalendarLibrarySettings;
 import com.googlecode.wicket.jquery.ui.calendar.settings.ICalendarLibrarySettings;
@@ -66,6 +74,41 @@ public abstract class CalendarBehavior extends JQueryBehavior implements IJQuery
 		return CalendarLibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS & JavaScript resource references shared by all {@link CalendarBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			ICalendarLibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			// fullcalendar.css //
+			if (settings.getCalendarStyleSheetReference() != null)
+			{
+				references.add(settings.getCalendarStyleSheetReference());
+			}
+
+			// fullcalendar.min.js //
+			if (settings.getCalendarJavaScriptReference() != null)
+			{
+				references.add(settings.getCalendarJavaScriptReference());
+			}
+
+			// gcal.js //
+			if (settings.getGCalJavaScriptReference() != null)
+			{
+				references.add(settings.getGCalJavaScriptReference());
+			}
+
+			return references;
+		}
+	};
+
+	private JQueryAjaxDispatcher dispatcher; // single ajax endpoint for the behaviors below
+
 	private JQueryAjaxBehavior onSelectBehavior = null; // date range-select behavior;
 
 	private JQueryAjaxBehavior onDayClickBehavior; // day click
@@ -96,34 +139,6 @@ public abstract class CalendarBehavior extends JQueryBehavior implements IJQuery
 	public CalendarBehavior(final String selector, Options options)
 	{
 		super(selector, METHOD, options);
-
-		this.initReferences();
-	}
-
-	/**
-	 * Initializes CSS & JavaScript resource references
-	 */
-	private void initReferences()
-	{
-		ICalendarLibrarySettings settings = getLibrarySettings();
-
-		// fullcalendar.css //
-		if (settings.getCalendarStyleSheetReference() != null)
-		{
-			this.add(settings.getCalendarStyleSheetReference());
-		}
-
-		// fullcalendar.min.js //
-		if (settings.getCalendarJavaScriptReference() != null)
-		{
-			this.add(settings.getCalendarJavaScriptReference());
-		}
-
-		// gcal.js //
-		if (settings.getGCalJavaScriptReference() != null)
-		{
-			this.add(settings.getGCalJavaScriptReference());
-		}
 	}
 
 	// Methods //
@@ -132,39 +147,41 @@ public abstract class CalendarBehavior extends JQueryBehavior implements IJQuery
 	{
 		super.bind(component);
 
+		component.add(this.dispatcher = new JQueryAjaxDispatcher());
+
 		if (this.isSelectable())
 		{
-			component.add(this.onSelectBehavior = this.newOnSelectBehavior());
+			this.onSelectBehavior = this.dispatcher.register("select", this.newOnSelectBehavior());
 		}
 
 		if (this.isDayClickEnabled())
 		{
-			component.add(this.onDayClickBehavior = this.newOnDayClickBehavior());
+			this.onDayClickBehavior = this.dispatcher.register("dayClick", this.newOnDayClickBehavior());
 		}
 
 		if (this.isEventClickEnabled())
 		{
-			component.add(this.onEventClickBehavior = this.newOnEventClickBehavior());
+			this.onEventClickBehavior = this.dispatcher.register("eventClick", this.newOnEventClickBehavior());
 		}
 
 		if (this.isEventDropEnabled())
 		{
-			component.add(this.onEventDropBehavior = this.newOnEventDropBehavior());
+			this.onEventDropBehavior = this.dispatcher.register("eventDrop", this.newOnEventDropBehavior());
 		}
 
 		if (this.isEventResizeEnabled())
 		{
-			component.add(this.onEventResizeBehavior = this.newOnEventResizeBehavior());
+			this.onEventResizeBehavior = this.dispatcher.register("eventResize", this.newOnEventResizeBehavior());
 		}
 
 		if (this.isObjectDropEnabled())
 		{
-			component.add(this.onObjectDropBehavior = this.newOnObjectDropBehavior());
+			this.onObjectDropBehavior = this.dispatcher.register("drop", this.newOnObjectDropBehavior());
 		}
 
 		if (this.isViewRenderEnabled())
 		{
-			component.add(this.onViewRenderBehavior = this.newOnViewRenderBehavior());
+			this.onViewRenderBehavior = this.dispatcher.register("viewRender", this.newOnViewRenderBehavior());
 		}
 	}
 
@@ -184,10 +201,20 @@ public abstract class CalendarBehavior extends JQueryBehavior implements IJQuery
 		builder.append("jQuery(document).ajaxStop(function() { jQuery('#calendar-indicator').hide(); });\n");
 		builder.append("});\n");
 
-		response.render(JavaScriptHeaderItem.forScript(builder, this.getClass().getSimpleName() + "-indicator"));
+		response.render(JavaScriptHeaderItem.forScript(JQueryLoader.queue(builder), this.getClass().getSimpleName() + "-indicator"));
 	}
 
 	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * fullcalendar uses jQuery UI draggable and resizable to edit events.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return new JQueryUIModule[] { JQueryUIModule.DRAGGABLE, JQueryUIModule.RESIZABLE };
+	}
+
 	/**
 	 * Indicates whether the Calendar will be editable
 	 *
@@ -27,6 +27,8 @@ import org.apache.wicket.request.IRequestParameters;
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.http.WebResponse;
 
+import com.googlecode.wicket.jquery.core.JsonWriter;
+
 /**
  * Provides the behavior that loads {@link CalendarEvent}<code>s</code> according to {@link CalendarModel} start &amp; end dates
  *
@@ -114,26 +116,29 @@ public class CalendarModelBehavior extends AbstractAjaxBehavior
 
 					if (list != null)
 					{
-						StringBuilder builder = new StringBuilder("[ ");
+						JsonWriter writer = JsonWriter.get(response);
 
-						int count = 0;
-						for (CalendarEvent event : list)
+						try
 						{
-							if (model instanceof ICalendarVisitor)
-							{
-								event.accept((ICalendarVisitor) model); // last chance to set options
-							}
+							writer.beginArray();
 
-							if (count++ > 0)
+							for (CalendarEvent event : list)
 							{
-								builder.append(", ");
-							}
-							builder.append(event.toString());
-						}
+								if (model instanceof ICalendarVisitor)
+								{
+									event.accept((ICalendarVisitor) model); // last chance to set options
+								}
 
-						builder.append(" ]");
+								writer.value(event.createOptions());
+							}
 
-						response.write(builder);
+							writer.endArray();
+							writer.flush();
+						}
+						finally
+						{
+							writer.release();
+						}
 					}
 				}
 			}
@@ -145,4 +150,4 @@ public class CalendarModelBehavior extends AbstractAjaxBehavior
 			}
 		};
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -16,8 +16,7 @@
  */
 package com.googlecode.wicket.jquery.ui.calendar.resource;
 
-import org.apache.wicket.resource.JQueryPluginResourceReference;
-
+import com.googlecode.wicket.jquery.core.resource.PrecompressedResourceReference;
 import com.googlecode.wicket.jquery.ui.calendar.settings.ICalendarLibrarySettings;
 
 /**
@@ -28,7 +27,7 @@ import com.googlecode.wicket.jquery.ui.calendar.settings.ICalendarLibrarySetting
  * @author Sebastien Briquet - sebfz1
  *
  */
-public class CalendarJavaScriptResourceReference extends JQueryPluginResourceReference
+public class CalendarJavaScriptResourceReference extends PrecompressedResourceReference
 {
 	private static final long serialVersionUID = 1L;
 
@@ -31,21 +31,16 @@ import com.googlecode.wicket.jquery.ui.calendar.resource.GCalJavaScriptResourceR
  */
 public class CalendarLibrarySettings extends JQueryLibrarySettings implements ICalendarLibrarySettings
 {
-	private static CalendarLibrarySettings instance = null;
+	private static final CalendarLibrarySettings INSTANCE = new CalendarLibrarySettings();
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link CalendarLibrarySettings} instance
 	 * @return the {@link CalendarLibrarySettings} instance
 	 */
-	public static synchronized CalendarLibrarySettings get()
+	public static CalendarLibrarySettings get()
 	{
-		if (CalendarLibrarySettings.instance == null)
-		{
-			CalendarLibrarySettings.instance = new CalendarLibrarySettings();
-		}
-
-		return CalendarLibrarySettings.instance;
+		return CalendarLibrarySettings.INSTANCE;
 	}
 
 
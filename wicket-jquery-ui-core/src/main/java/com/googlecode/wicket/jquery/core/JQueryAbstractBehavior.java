@@ -32,9 +32,13 @@ import org.apache.wicket.request.resource.JavaScriptResourceReference;
 import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.resource.JQueryPluginResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
+import org.apache.wicket.util.lang.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxScriptCollector;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
 import com.googlecode.wicket.jquery.core.settings.IJQueryLibrarySettings;
 import com.googlecode.wicket.jquery.core.settings.JQueryLibrarySettings;
 
@@ -64,6 +68,18 @@ public abstract class JQueryAbstractBehavior extends Behavior
 		return JQueryLibrarySettings.get();
 	}
 
+	/**
+	 * Indicates whether jQuery UI should be rendered per module
+	 *
+	 * @param settings the {@link IJQueryLibrarySettings}
+	 * @return true if the settings are {@link JQueryLibrarySettings} with modular loading enabled
+	 * @see JQueryLibrarySettings#setJQueryUIModular(boolean)
+	 */
+	private static boolean isJQueryUIModular(IJQueryLibrarySettings settings)
+	{
+		return (settings instanceof JQueryLibrarySettings) && ((JQueryLibrarySettings) settings).isJQueryUIModular();
+	}
+
 
 	/**
 	 * Behavior name
@@ -71,9 +87,22 @@ public abstract class JQueryAbstractBehavior extends Behavior
 	private final String name;
 
 	/**
-	 * Additional references
+	 * Additional references, lazily created.<br/>
+	 * References shared by all instances of a class are provided by the {@link LibraryResourceRegistry} and are not part of the behavior state.
+	 */
+	private List<ResourceReference> references = null;
+
+	/**
+	 * Cached token
+	 */
+	private transient String token = null;
+
+	/**
+	 * Cached statement, and the key &amp; stamp it has been built for (see {@link #getCachedStatement(Object, long)})
 	 */
-	private final List<ResourceReference> references;
+	private transient String statement = null;
+	private transient Object statementKey = null;
+	private transient long statementStamp = -1L;
 
 	/**
 	 * Constructor.
@@ -82,22 +111,58 @@ public abstract class JQueryAbstractBehavior extends Behavior
 	public JQueryAbstractBehavior(final String name)
 	{
 		this.name = name;
-		this.references = new ArrayList<ResourceReference>();
 	}
 
 
 	/**
-	 * Adds a reference to be added at {@link #renderHead(Component, IHeaderResponse)} time.
+	 * Adds a reference to be added at {@link #renderHead(Component, IHeaderResponse)} time.<br/>
+	 * <b>Note:</b> references that are the same for all instances of a behavior class should rather be registered to the {@link LibraryResourceRegistry}, so they are not serialized with each instance.
 	 * @param reference a {@link CssResourceReference}, a {@link JavaScriptResourceReference} or a {@link JQueryPluginResourceReference}
 	 * @return true (as specified by Collection.add(E))
 	 */
 	public boolean add(ResourceReference reference)
 	{
+		if (this.references == null)
+		{
+			this.references = new ArrayList<ResourceReference>(1);
+		}
+
 		return this.references.add(reference);
 	}
 
 	@Override
 	public void renderHead(Component component, IHeaderResponse response)
+	{
+		JQueryLoader loader = new JQueryLoader(response);
+
+		this.renderReferences(component, loader);
+
+		// Adds the statement //
+		AjaxRequestTarget target = component.getRequestCycle().find(AjaxRequestTarget.class);
+		String statement = this.toString();
+
+		if (target != null)
+		{
+			JQueryAjaxScriptCollector.append(target, loader.ready(statement));
+		}
+		else if (loader.isEnabled())
+		{
+			this.renderScript(new JQueryHeaderItem(loader.ready(statement), this.getToken(), null), response);
+		}
+		else
+		{
+			this.renderScript(new JQueryHeaderItem(statement, this.getToken(), this.getStatementBody(statement)), response);
+		}
+	}
+
+	/**
+	 * Renders the references of the behavior: jQuery UI, jQuery Globalize and the additional references<br/>
+	 * Javascript libraries are rendered through the {@link JQueryLoader}, so the statement of the behavior can wait for them when they are not loaded as blocking scripts.
+	 *
+	 * @param component the {@link Component}
+	 * @param loader the {@link JQueryLoader}
+	 */
+	protected void renderReferences(Component component, JQueryLoader loader)
 	{
 		// Gets the library settings //
 		IJQueryLibrarySettings settings = getJQueryLibrarySettings();
@@ -105,40 +170,55 @@ public abstract class JQueryAbstractBehavior extends Behavior
 		// jQuery UI resource reference //
 		if (settings.getJQueryUIReference() != null)
 		{
-			response.render(new PriorityHeaderItem(JavaScriptHeaderItem.forReference(settings.getJQueryUIReference())));
+			if (JQueryAbstractBehavior.isJQueryUIModular(settings))
+			{
+				for (JQueryUIModule module : this.getJQueryUIModules())
+				{
+					loader.render(module.getReference());
+				}
+			}
+			else
+			{
+				loader.render(settings.getJQueryUIReference());
+			}
 		}
 
 		// jQuery Globalize resource reference //
 		if (settings.getJQueryGlobalizeReference() != null)
 		{
-			response.render(new PriorityHeaderItem(JavaScriptHeaderItem.forReference(settings.getJQueryGlobalizeReference())));
+			loader.render(settings.getJQueryGlobalizeReference());
 		}
 
+		// Shared resource references (see LibraryResourceRegistry) //
+		JQueryAbstractBehavior.renderReferences(LibraryResourceRegistry.get().getResourceReferences(this.getClass()), loader);
+
 		// Additional resource references //
-		for(ResourceReference reference : this.references)
+		if (this.references != null)
+		{
+			JQueryAbstractBehavior.renderReferences(this.references, loader);
+		}
+	}
+
+	/**
+	 * Renders css and javascript resource references
+	 *
+	 * @param references the list of {@link ResourceReference}<tt>s</tt>
+	 * @param loader the {@link JQueryLoader}
+	 */
+	private static void renderReferences(List<ResourceReference> references, JQueryLoader loader)
+	{
+		for (ResourceReference reference : references)
 		{
 			if (reference instanceof CssResourceReference)
 			{
-				response.render(new PriorityHeaderItem(CssHeaderItem.forReference(reference)));
+				loader.getResponse().render(new PriorityHeaderItem(CssHeaderItem.forReference(reference)));
 			}
 
 			if (reference instanceof JavaScriptResourceReference)
 			{
-				response.render(new PriorityHeaderItem(JavaScriptHeaderItem.forReference(reference)));
+				loader.render(reference);
 			}
 		}
-
-		// Adds the statement //
-		AjaxRequestTarget target = component.getRequestCycle().find(AjaxRequestTarget.class);
-
-		if (target != null)
-		{
-			target.appendJavaScript(this.toString());
-		}
-		else
-		{
-			this.renderScript(JavaScriptHeaderItem.forScript(this.toString(), this.getToken()), response);
-		}
 	}
 
 	/**
@@ -160,16 +240,102 @@ public abstract class JQueryAbstractBehavior extends Behavior
 	 */
 	protected abstract String $();
 
+	/**
+	 * Gets the cached statement, if it has been built for the supplied key and stamp.<br/>
+	 * This is intended to be used by {@link #$()} implementations whose statement only depends on a key (ie: the selector) and a modification stamp (ie: {@link Options#getModificationStamp()}):
+	 *
+	 * <pre>
+	 * String statement = this.getCachedStatement(key, stamp);
+	 *
+	 * if (statement == null)
+	 * {
+	 * 	statement = this.cacheStatement(key, stamp, ...);
+	 * }
+	 * </pre>
+	 *
+	 * @param key the key, can be null
+	 * @param stamp the stamp
+	 * @return the cached statement, or null if there is none for this key and stamp
+	 * @see #cacheStatement(Object, long, String)
+	 */
+	protected final String getCachedStatement(Object key, long stamp)
+	{
+		if (this.statement != null && stamp == this.statementStamp && Objects.equal(key, this.statementKey))
+		{
+			return this.statement;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Caches the statement built for the supplied key and stamp, replacing the previous one
+	 *
+	 * @param key the key, can be null
+	 * @param stamp the stamp
+	 * @param statement the statement
+	 * @return the statement, for chaining
+	 * @see #getCachedStatement(Object, long)
+	 */
+	protected final String cacheStatement(Object key, long stamp, String statement)
+	{
+		this.statement = statement;
+		this.statementKey = key;
+		this.statementStamp = stamp;
+
+		return statement;
+	}
+
+	/**
+	 * Indicates whether the supplied statement is the cached one (identity)
+	 *
+	 * @param statement the statement
+	 * @return true or false
+	 */
+	final boolean isCachedStatement(String statement)
+	{
+		return statement != null && statement == this.statement;
+	}
+
+	/**
+	 * Gets the body of the supplied statement (the statement without its 'jQuery(function() { ... });' wrapper)
+	 *
+	 * @param statement the statement, as returned by {@link #$()}
+	 * @return null by default, meaning the body cannot be safely extracted from the statement
+	 */
+	CharSequence getStatementBody(String statement)
+	{
+		return null;
+	}
+
 
 	// Properties //
 
+	/**
+	 * Gets the jQuery UI modules this behavior needs, when jQuery UI is loaded per module.<br/>
+	 * Dependencies of the returned modules are resolved by the header response and do not have to be listed.<br/>
+	 * Default implementation returns all modules, which is equivalent to the whole jQuery UI library.
+	 *
+	 * @return the array of {@link JQueryUIModule}
+	 * @see JQueryLibrarySettings#setJQueryUIModular(boolean)
+	 */
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return JQueryUIModule.values();
+	}
+
 	/**
 	 * Get the unique behavior token that act as the script id.
 	 * @return the token
 	 */
 	String getToken()
 	{
-		return String.format("jquery-%s-%d", this.name, this.hashCode());
+		if (this.token == null)
+		{
+			this.token = String.format("jquery-%s-%d", this.name, this.hashCode());
+		}
+
+		return this.token;
 	}
 
 	// Events //
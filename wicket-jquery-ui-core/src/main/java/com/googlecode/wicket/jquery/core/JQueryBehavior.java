@@ -18,13 +18,18 @@ package com.googlecode.wicket.jquery.core;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import org.apache.wicket.Component;
 import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.markup.ComponentTag;
 import org.apache.wicket.markup.head.IHeaderResponse;
-import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+
+import com.googlecode.wicket.jquery.core.event.DelegatedEvents;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a default implementation of {@link JQueryAbstractBehavior}.
@@ -37,11 +42,22 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 	private static final long serialVersionUID = 1L;
 	private static final String NULL_OPTIONS = "Options have not been defined (null has been supplied to the constructor)";
 
+	/** Statement wrapper */
+	private static final String READY_PREFIX = "jQuery(function() { ";
+	private static final String READY_SUFFIX = " });";
+
 	protected String selector = null;
 	protected final String method;
 	protected final Options options;
 
 	private List<String> events = null;
+	/** delegated events: callback keys by event type, and registration statements by callback key */
+	private Map<String, String> delegates = null;
+	private Map<String, String> delegateStatements = null;
+
+	/** Body of the cached statement (see {@link #getStatementBody(String)}) */
+	private transient String statementBody = null;
+	private transient String statementOfBody = null;
 
 	/**
 	 * Constructor
@@ -89,16 +105,25 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 		// renders javascript events
 		if (this.events != null)
 		{
-			StringBuilder statements = new StringBuilder("jQuery(function() { ");
+			StringBuilder statements = new StringBuilder();
 
 			for (String event : this.events)
 			{
 				statements.append(event);
 			}
 
-			statements.append(" });");
+			response.render(new JQueryHeaderItem(READY_PREFIX + statements + READY_SUFFIX, this.getToken() + "-events", statements));
+		}
 
-			response.render(JavaScriptHeaderItem.forScript(statements, this.getToken() + "-events"));
+		// renders delegated events, once per callback (the item id being the callback key)
+		if (this.delegates != null)
+		{
+			DelegatedEvents.renderHead(response);
+
+			for (Entry<String, String> delegate : this.delegateStatements.entrySet())
+			{
+				response.render(new JQueryHeaderItem(READY_PREFIX + delegate.getValue() + READY_SUFFIX, "delegated-" + delegate.getKey(), delegate.getValue()));
+			}
 		}
 	}
 
@@ -133,6 +158,23 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 		return this.method;
 	}
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * If the method is a jQuery UI widget method, only the corresponding module is returned.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		JQueryUIModule module = JQueryUIModule.forMethod(this.method);
+
+		if (module != null)
+		{
+			return new JQueryUIModule[] { module };
+		}
+
+		return super.getJQueryUIModules();
+	}
+
 	/**
 	 * Gets a behavior option, referenced by its key
 	 *
@@ -221,10 +263,71 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 		this.events.add(String.format("jQuery('%s').on('%s', %s);", selector, event, callback));
 	}
 
+	/**
+	 * Registers a jQuery event callback on the bound component, through the delegated events registry (see {@link DelegatedEvents}).<br/>
+	 * Unlike {@link #on(String, String)}, no handler is bound to the element: a single document-level listener per event type dispatches to the callback,
+	 * which is registered once per page for all the components sharing the same callback (ie: the rows of a table). The callback is called with the element as <code>this</code>.<br/>
+	 * <b>Note:</b> a component can have only one delegated callback per event type.
+	 *
+	 * @param event the jQuery event (ie: "click")
+	 * @param callback the jQuery callback
+	 */
+	protected void delegate(String event, String callback)
+	{
+		if (this.delegates == null)
+		{
+			this.delegates = new LinkedHashMap<String, String>();
+			this.delegateStatements = new LinkedHashMap<String, String>();
+		}
+
+		String key = DelegatedEvents.keyOf(event, callback);
+		String previous = this.delegates.put(event, key);
+
+		if (previous != null)
+		{
+			this.delegateStatements.remove(previous);
+		}
+
+		this.delegateStatements.put(key, DelegatedEvents.on(event, key, callback));
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * The statement is cached and only rebuilt when the selector or the {@link Options} have changed (see {@link #getCachedStatement(Object, long)} and {@link Options#getModificationStamp()})
+	 */
 	@Override
 	protected String $()
 	{
-		return JQueryBehavior.$(this.selector, this.method, this.options.toString());
+		final long stamp = this.options != null ? this.options.getModificationStamp() : 0L;
+		final String statement = this.getCachedStatement(this.selector, stamp);
+
+		if (statement != null)
+		{
+			return statement;
+		}
+
+		return this.cacheStatement(this.selector, stamp, JQueryBehavior.$(this.selector, this.method, this.options));
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * The body can only be extracted if the statement has been built by this class (ie: {@link #$()} has not been overridden, or returns <code>super.$()</code>)
+	 */
+	@Override
+	CharSequence getStatementBody(String statement)
+	{
+		if (this.isCachedStatement(statement) && statement.startsWith(READY_PREFIX) && statement.endsWith(READY_SUFFIX)) // identity: built by JQueryBehavior#$()
+		{
+			if (statement != this.statementOfBody)
+			{
+				this.statementBody = statement.substring(READY_PREFIX.length(), statement.length() - READY_SUFFIX.length());
+				this.statementOfBody = statement;
+			}
+
+			return this.statementBody;
+		}
+
+		return null;
 	}
 
 	/**
@@ -256,12 +359,24 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 	 *
 	 * @param selector the html selector (ie: "#myId")
 	 * @param method the jQuery method to invoke
-	 * @param options the options to be applied
+	 * @param options the options to be applied, either as an already serialized {@link String} or as {@link Options}
 	 * @return Statement like 'jQuery(function() { ... })'
 	 */
-	private static String $(String selector, String method, String options)
+	private static String $(String selector, String method, Object options)
 	{
-		return String.format("jQuery(function() { jQuery('%s').%s(%s); });", selector, method, options);
+		JsonWriter writer = JsonWriter.get();
+
+		try
+		{
+			writer.append(READY_PREFIX).append("jQuery('").append(selector).append("').").append(method).append('(');
+			writer.value(options);
+
+			return writer.append(");").append(READY_SUFFIX).toString();
+		}
+		finally
+		{
+			writer.release();
+		}
 	}
 
 	// Events //
@@ -297,4 +412,19 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 			((IJQueryWidget) component).onBeforeRender(this);
 		}
 	}
+
+	@Override
+	public void onComponentTag(Component component, ComponentTag tag)
+	{
+		super.onComponentTag(component, tag);
+
+		// identifies the callbacks of the component for the delegated events registry
+		if (this.delegates != null)
+		{
+			for (Entry<String, String> delegate : this.delegates.entrySet())
+			{
+				tag.put(DelegatedEvents.getAttributeName(delegate.getKey()), delegate.getValue());
+			}
+		}
+	}
 }
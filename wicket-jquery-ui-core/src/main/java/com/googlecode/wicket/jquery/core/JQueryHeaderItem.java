@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core;
+
+import org.apache.wicket.markup.head.JavaScriptContentHeaderItem;
+
+/**
+ * Provides the {@link JavaScriptContentHeaderItem} rendered by {@link JQueryAbstractBehavior}<tt>s</tt>.<br/>
+ * Besides the statement, the item may hold the statement body (the statement without its 'jQuery(function() { ... });' wrapper) so it can be aggregated by the {@link JQueryHeaderResponse}.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryHeaderItem extends JavaScriptContentHeaderItem
+{
+	private static final long serialVersionUID = 1L;
+
+	private final CharSequence body;
+
+	/**
+	 * Constructor
+	 *
+	 * @param statement the statement, like 'jQuery(function() { ... });'
+	 * @param id the script id
+	 * @param body the statement body, or null if the body cannot be extracted from the statement
+	 */
+	public JQueryHeaderItem(CharSequence statement, String id, CharSequence body)
+	{
+		super(statement, id, null);
+
+		this.body = body;
+	}
+
+	/**
+	 * Gets the statement body
+	 *
+	 * @return the statement body, or null if the body cannot be extracted from the statement
+	 */
+	public CharSequence getBody()
+	{
+		return this.body;
+	}
+}
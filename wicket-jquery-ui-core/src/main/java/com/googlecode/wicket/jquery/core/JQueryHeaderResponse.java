@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.markup.html.DecoratingHeaderResponse;
+import org.apache.wicket.markup.html.IHeaderResponseDecorator;
+
+import com.googlecode.wicket.jquery.core.resource.ChainingHeaderResponseDecorator;
+
+/**
+ * Provides an {@link IHeaderResponse} that collects the statements of {@link JQueryAbstractBehavior}<tt>s</tt> and renders them, in order, within one single script block and one single 'jQuery(function() { ... });' handler.<br/>
+ * <br/>
+ * This is an opt-in feature, which can be enabled using the {@link JQueryHeaderResponse.Decorator}:
+ *
+ * <code><pre>
+ * public class MyApplication extends WebApplication
+ * {
+ *     public void init()
+ *     {
+ *         super.init();
+ *
+ *         this.setHeaderResponseDecorator(new JQueryHeaderResponse.Decorator());
+ *     }
+ * }
+ * <pre></code>
+ *
+ * The decorator can be chained with other decorators (see {@link ChainingHeaderResponseDecorator}).<br/>
+ * <b>Note:</b> Statements rendered using a {@link org.apache.wicket.markup.head.PriorityHeaderItem} are not aggregated.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryHeaderResponse extends DecoratingHeaderResponse
+{
+	/** The id of the aggregated script */
+	private static final String TOKEN = "jquery-statements";
+
+	private final Map<String, CharSequence> statements;
+
+	/**
+	 * Constructor
+	 *
+	 * @param response the decorated {@link IHeaderResponse}
+	 */
+	public JQueryHeaderResponse(IHeaderResponse response)
+	{
+		super(response);
+
+		this.statements = new LinkedHashMap<String, CharSequence>();
+	}
+
+	@Override
+	public void render(HeaderItem item)
+	{
+		if (item instanceof JQueryHeaderItem && !this.isClosed())
+		{
+			JQueryHeaderItem script = (JQueryHeaderItem) item;
+
+			if (!this.statements.containsKey(script.getId()))
+			{
+				this.statements.put(script.getId(), script.getBody() != null ? script.getBody() : script.getJavaScript());
+			}
+		}
+		else
+		{
+			super.render(item);
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		if (!this.statements.isEmpty())
+		{
+			StringBuilder builder = new StringBuilder("jQuery(function() {");
+
+			for (CharSequence statement : this.statements.values())
+			{
+				builder.append('\n').append(statement);
+			}
+
+			builder.append("\n});");
+
+			this.statements.clear();
+			super.render(JavaScriptHeaderItem.forScript(builder, TOKEN));
+		}
+
+		super.close();
+	}
+
+	/**
+	 * Provides the {@link IHeaderResponseDecorator} that decorates header responses with a {@link JQueryHeaderResponse}
+	 */
+	public static class Decorator extends ChainingHeaderResponseDecorator
+	{
+		/**
+		 * Constructor
+		 */
+		public Decorator()
+		{
+			super();
+		}
+
+		/**
+		 * Constructor
+		 *
+		 * @param decorator another {@link IHeaderResponseDecorator} to chain with, can be null
+		 */
+		public Decorator(IHeaderResponseDecorator decorator)
+		{
+			super(decorator);
+		}
+
+		@Override
+		protected IHeaderResponse newHeaderResponse(IHeaderResponse response)
+		{
+			return new JQueryHeaderResponse(response);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.markup.head.PriorityHeaderItem;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.request.resource.ResourceReference;
+
+import com.googlecode.wicket.jquery.core.resource.JQueryLoaderHeaderItem;
+import com.googlecode.wicket.jquery.core.settings.IJQueryLoaderSettings;
+import com.googlecode.wicket.jquery.core.settings.JQueryLibrarySettings;
+import com.googlecode.wicket.jquery.core.settings.LoadingMode;
+
+/**
+ * Renders the javascript libraries of a behavior according to the {@link LoadingMode} of the application, and collects them so the statements of the behavior can wait for them.<br/>
+ * A new instance is created for each header contribution.
+ *
+ * <code><pre>
+ * JQueryLoader loader = new JQueryLoader(response);
+ * loader.render(MyPluginResourceReference.get());
+ * response.render(JavaScriptHeaderItem.forScript(loader.ready(statement), id));
+ * </pre></code>
+ *
+ * @author Sebastien Briquet - sebfz1
+ * @see JQueryLibrarySettings#setLoadingMode(LoadingMode)
+ */
+public class JQueryLoader
+{
+	/**
+	 * Gets the {@link LoadingMode} of the application
+	 *
+	 * @return the {@link LoadingMode}, {@link LoadingMode#BLOCKING} if the application's settings are not {@link IJQueryLoaderSettings}
+	 */
+	public static LoadingMode getLoadingMode()
+	{
+		if (Application.exists() && (Application.get().getJavaScriptLibrarySettings() instanceof IJQueryLoaderSettings))
+		{
+			return ((IJQueryLoaderSettings) Application.get().getJavaScriptLibrarySettings()).getLoadingMode();
+		}
+
+		return LoadingMode.BLOCKING;
+	}
+
+	/**
+	 * Gets the statement that runs once the supplied libraries are loaded. Statements that become ready together run in queue order.<br/>
+	 * This is intended for scripts rendered outside of {@link JQueryAbstractBehavior}<tt>s</tt>.<br/>
+	 * If libraries are not loaded through the script loader, the statement is returned as is.
+	 *
+	 * @param statement the statement
+	 * @param references the javascript {@link ResourceReference}<tt>s</tt> the statement depends on
+	 * @return the statement
+	 */
+	public static CharSequence queue(CharSequence statement, ResourceReference... references)
+	{
+		LoadingMode mode = JQueryLoader.getLoadingMode();
+
+		if (mode == LoadingMode.BLOCKING)
+		{
+			return statement;
+		}
+
+		Set<String> depends = new LinkedHashSet<String>();
+
+		for (ResourceReference reference : references)
+		{
+			depends.add(new JQueryLoaderHeaderItem(reference, null, mode == LoadingMode.ASYNC).getUrl());
+		}
+
+		return JQueryLoaderHeaderItem.ready(depends, statement);
+	}
+
+
+	private final IHeaderResponse response;
+	private final LoadingMode mode;
+	private final Set<String> depends;
+
+	/**
+	 * Constructor
+	 *
+	 * @param response the {@link IHeaderResponse}
+	 */
+	public JQueryLoader(IHeaderResponse response)
+	{
+		this(response, JQueryLoader.getLoadingMode());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param response the {@link IHeaderResponse}
+	 * @param mode the {@link LoadingMode}
+	 */
+	public JQueryLoader(IHeaderResponse response, LoadingMode mode)
+	{
+		this.response = response;
+		this.mode = mode;
+		this.depends = new LinkedHashSet<String>();
+	}
+
+	/**
+	 * Gets the {@link IHeaderResponse}
+	 *
+	 * @return the {@link IHeaderResponse}
+	 */
+	public IHeaderResponse getResponse()
+	{
+		return this.response;
+	}
+
+	/**
+	 * Indicates whether libraries are loaded through the script loader
+	 *
+	 * @return false if the {@link LoadingMode} is {@link LoadingMode#BLOCKING}
+	 */
+	public boolean isEnabled()
+	{
+		return this.mode != LoadingMode.BLOCKING;
+	}
+
+	/**
+	 * Indicates whether libraries are executed as soon as they are loaded
+	 *
+	 * @return true if the {@link LoadingMode} is {@link LoadingMode#ASYNC}
+	 */
+	public boolean isAsync()
+	{
+		return this.mode == LoadingMode.ASYNC;
+	}
+
+	/**
+	 * Renders a javascript library
+	 *
+	 * @param reference the javascript {@link ResourceReference}
+	 */
+	public void render(ResourceReference reference)
+	{
+		this.render(reference, null);
+	}
+
+	/**
+	 * Renders a javascript library
+	 *
+	 * @param reference the javascript {@link ResourceReference}
+	 * @param parameters the {@link PageParameters}, can be null
+	 */
+	public void render(ResourceReference reference, PageParameters parameters)
+	{
+		if (this.isEnabled())
+		{
+			JQueryLoaderHeaderItem item = new JQueryLoaderHeaderItem(reference, parameters, this.isAsync());
+
+			this.response.render(new PriorityHeaderItem(item));
+			this.depends.add(item.getUrl());
+		}
+		else
+		{
+			this.response.render(new PriorityHeaderItem(JavaScriptHeaderItem.forReference(reference, parameters, null)));
+		}
+	}
+
+	/**
+	 * Renders a {@link HeaderItem} that loads a javascript library by its own (ie: a bundle).<br/>
+	 * The item is expected to load the library through the script loader when {@link #isEnabled()}, providing the supplied aliases.
+	 *
+	 * @param item the {@link HeaderItem}
+	 * @param provides the aliases, provided by the item once loaded, the statements should wait for
+	 */
+	public void render(HeaderItem item, String... provides)
+	{
+		this.response.render(new PriorityHeaderItem(item));
+
+		if (this.isEnabled())
+		{
+			this.depends.addAll(Arrays.asList(provides));
+		}
+	}
+
+	/**
+	 * Gets the statement that runs once the libraries rendered so far are loaded.<br/>
+	 * If libraries are not loaded through the script loader, the statement is returned as is.
+	 *
+	 * @param statement the statement
+	 * @return the statement
+	 */
+	public CharSequence ready(CharSequence statement)
+	{
+		if (this.isEnabled())
+		{
+			return JQueryLoaderHeaderItem.ready(this.depends, statement);
+		}
+
+		return statement;
+	}
+}
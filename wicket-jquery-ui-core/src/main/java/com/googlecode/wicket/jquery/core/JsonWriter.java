@@ -0,0 +1,619 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import org.apache.wicket.request.Response;
+
+import com.googlecode.wicket.jquery.core.utils.DateUtils;
+
+/**
+ * Provides a lightweight streaming JSON writer.<br/>
+ * The writer appends to a reusable, thread-local buffer which is either returned as a {@link String} ({@link #toString()}) or flushed to a {@link Response} by chunks.<br/>
+ * <br/>
+ * Usage:
+ *
+ * <pre>
+ * JsonWriter writer = JsonWriter.get(response);
+ *
+ * try
+ * {
+ * 	writer.beginArray();
+ * 	writer.string(&quot;myvalue&quot;);
+ * 	writer.endArray();
+ * 	writer.flush(); // on success only
+ * }
+ * finally
+ * {
+ * 	writer.release(); // discards the unflushed content & gives the buffer back
+ * }
+ * </pre>
+ *
+ * <b>Note:</b> In accordance with {@link Options}, a value supplied to {@link #value(Object)} is considered to be already serialized (ie: "'myvalue'", "true", "function() { }"), whereas a value supplied to {@link #string(Object)} is quoted and escaped.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class JsonWriter
+{
+	/** The buffer size above which the content is flushed to the {@link Response}, if any */
+	private static final int FLUSH_SIZE = 8 * 1024;
+
+	/** The buffer capacity above which the buffer is not kept for reuse */
+	private static final int MAX_CAPACITY = 64 * 1024;
+
+	/** The maximum depth supported without growing the scope stack */
+	private static final int DEPTH = 16;
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/** Unicode line terminators, which are valid in JSON strings but not in javascript literals */
+	private static final char LINE_SEPARATOR = 0x2028;
+	private static final char PARAGRAPH_SEPARATOR = 0x2029;
+
+	private static final ThreadLocal<JsonWriter> WRITERS = new ThreadLocal<JsonWriter>() {
+
+		@Override
+		protected JsonWriter initialValue()
+		{
+			return new JsonWriter(true);
+		}
+	};
+
+	/**
+	 * Gets a {@link JsonWriter} that writes to an internal buffer.<br/>
+	 * The writer should be released (using {@link #release()}) when done.
+	 *
+	 * @return the {@link JsonWriter}
+	 */
+	public static JsonWriter get()
+	{
+		return JsonWriter.get(null);
+	}
+
+	/**
+	 * Gets a {@link JsonWriter} that writes to the supplied {@link Response}.<br/>
+	 * The writer should be released (using {@link #release()}) when done.
+	 *
+	 * @param response the {@link Response}, or null to write to the internal buffer only
+	 * @return the {@link JsonWriter}
+	 */
+	public static JsonWriter get(Response response)
+	{
+		JsonWriter writer = WRITERS.get();
+
+		if (writer.acquired)
+		{
+			writer = new JsonWriter(false); // reentrant call, the thread-local writer is already in use
+		}
+
+		writer.acquired = true;
+		writer.response = response;
+
+		return writer;
+	}
+
+	/**
+	 * Converts a string to its javascript representation. ie: "myvalue" (with the double quotes)
+	 *
+	 * @param value the {@link CharSequence}
+	 * @return the JSON value
+	 */
+	public static String quote(CharSequence value)
+	{
+		JsonWriter writer = JsonWriter.get();
+
+		try
+		{
+			return writer.string(value).toString();
+		}
+		finally
+		{
+			writer.release();
+		}
+	}
+
+	/**
+	 * Appends the quoted & escaped representation of a string to the supplied {@link StringBuilder}.<br/>
+	 * Double quotes, backslashes and control characters are escaped, as well as '&lt;/' so the value can be safely embedded in a &lt;script&gt; tag.
+	 *
+	 * @param builder the {@link StringBuilder}
+	 * @param value the {@link CharSequence}
+	 * @return the {@link StringBuilder}
+	 */
+	public static StringBuilder quote(StringBuilder builder, CharSequence value)
+	{
+		final int length = value.length();
+		int start = 0;
+
+		builder.append('"');
+
+		for (int i = 0; i < length; i++)
+		{
+			final char c = value.charAt(i);
+			final String escaped = JsonWriter.escape(c, i > 0 ? value.charAt(i - 1) : 0);
+
+			if (escaped != null)
+			{
+				builder.append(value, start, i); // appends the pending chars in one go
+
+				if (escaped.length() > 0)
+				{
+					builder.append(escaped);
+				}
+				else
+				{
+					builder.append("\\u").append(HEX[(c >> 12) & 0xF]).append(HEX[(c >> 8) & 0xF]).append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+				}
+
+				start = i + 1;
+			}
+		}
+
+		builder.append(value, start, length);
+
+		return builder.append('"');
+	}
+
+	/**
+	 * Gets the escape sequence of the supplied char
+	 *
+	 * @param c the char
+	 * @param previous the previous char, or 0
+	 * @return null if the char does not need to be escaped, an empty string if it should be unicode-escaped
+	 */
+	private static String escape(char c, char previous)
+	{
+		switch (c)
+		{
+			case '"':
+				return "\\\"";
+			case '\\':
+				return "\\\\";
+			case '\n':
+				return "\\n";
+			case '\r':
+				return "\\r";
+			case '\t':
+				return "\\t";
+			case '\b':
+				return "\\b";
+			case '\f':
+				return "\\f";
+			case '/':
+				return previous == '<' ? "\\/" : null;
+			case LINE_SEPARATOR:
+			case PARAGRAPH_SEPARATOR:
+				return "";
+			default:
+				return c < 0x20 ? "" : null;
+		}
+	}
+
+	private final boolean local;
+	private boolean acquired = false;
+	private Response response = null;
+	private StringBuilder builder;
+
+	/** Scope stack: true if the scope (object or array) does not have any member yet */
+	private boolean[] scopes = new boolean[DEPTH];
+	private int depth = 0;
+
+	/** Indicates whether a name has just been written (so the next value should not be preceded by a separator) */
+	private boolean named = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param local indicates whether the writer is the thread-local one
+	 */
+	private JsonWriter(boolean local)
+	{
+		this.local = local;
+		this.builder = new StringBuilder(256);
+	}
+
+	// Methods //
+
+	/**
+	 * Releases the writer so the buffer can be reused by the current thread.<br/>
+	 * The content that has not been flushed is discarded, so a writer released after a failure does not commit a partial JSON to the {@link Response}: {@link #flush()} should be called once the writing succeeded.<br/>
+	 * <b>Note:</b> the chunks already flushed while writing a large content cannot be withdrawn.
+	 */
+	public void release()
+	{
+		this.reset();
+		this.response = null;
+		this.acquired = false;
+
+		if (this.local && this.builder.capacity() > MAX_CAPACITY)
+		{
+			this.builder = new StringBuilder(256); // do not retain large buffers
+		}
+	}
+
+	/**
+	 * Flushes the buffer to the {@link Response}, if any.
+	 */
+	public void flush()
+	{
+		if (this.response != null && this.builder.length() > 0)
+		{
+			this.response.write(this.builder);
+			this.builder.setLength(0);
+		}
+	}
+
+	/**
+	 * Clears the buffer and the scope stack
+	 */
+	private void reset()
+	{
+		this.builder.setLength(0);
+		this.depth = 0;
+		this.named = false;
+	}
+
+	/**
+	 * Flushes the buffer if it exceeds the flush size
+	 */
+	private void flushIfNeeded()
+	{
+		if (this.response != null && this.builder.length() >= FLUSH_SIZE)
+		{
+			this.flush();
+		}
+	}
+
+	/**
+	 * Appends the separator if needed, before a member or an element
+	 */
+	private void separate()
+	{
+		if (this.named)
+		{
+			this.named = false;
+		}
+		else if (this.depth > 0)
+		{
+			if (this.scopes[this.depth - 1])
+			{
+				this.scopes[this.depth - 1] = false;
+			}
+			else
+			{
+				this.builder.append(", ");
+			}
+		}
+	}
+
+	/**
+	 * Opens a new scope
+	 *
+	 * @param c the opening char
+	 * @return this, for chaining
+	 */
+	private JsonWriter open(char c)
+	{
+		this.separate();
+
+		if (this.depth == this.scopes.length)
+		{
+			boolean[] scopes = new boolean[this.depth * 2];
+			System.arraycopy(this.scopes, 0, scopes, 0, this.depth);
+			this.scopes = scopes;
+		}
+
+		this.scopes[this.depth++] = true;
+		this.builder.append(c).append(' ');
+
+		return this;
+	}
+
+	/**
+	 * Closes the current scope
+	 *
+	 * @param c the closing char
+	 * @return this, for chaining
+	 */
+	private JsonWriter close(char c)
+	{
+		this.depth--;
+		this.builder.append(' ').append(c);
+		this.flushIfNeeded();
+
+		return this;
+	}
+
+	/**
+	 * Begins a new object
+	 *
+	 * @return this, for chaining
+	 */
+	public JsonWriter beginObject()
+	{
+		return this.open('{');
+	}
+
+	/**
+	 * Ends the current object
+	 *
+	 * @return this, for chaining
+	 */
+	public JsonWriter endObject()
+	{
+		return this.close('}');
+	}
+
+	/**
+	 * Begins a new array
+	 *
+	 * @return this, for chaining
+	 */
+	public JsonWriter beginArray()
+	{
+		return this.open('[');
+	}
+
+	/**
+	 * Ends the current array
+	 *
+	 * @return this, for chaining
+	 */
+	public JsonWriter endArray()
+	{
+		return this.close(']');
+	}
+
+	/**
+	 * Writes the name of the next object member
+	 *
+	 * @param name the member name
+	 * @return this, for chaining
+	 */
+	public JsonWriter name(String name)
+	{
+		this.separate();
+		JsonWriter.quote(this.builder, name).append(": ");
+		this.named = true;
+
+		return this;
+	}
+
+	/**
+	 * Writes the name of the next object member, which has already been quoted & escaped (see {@link #quote(CharSequence)}).<br/>
+	 * This avoids escaping the same name over and over, when writing many objects having the same members.
+	 *
+	 * @param name the quoted member name
+	 * @return this, for chaining
+	 */
+	public JsonWriter quotedName(CharSequence name)
+	{
+		this.separate();
+		this.builder.append(name).append(": ");
+		this.named = true;
+
+		return this;
+	}
+
+	/**
+	 * Writes an already serialized value (ie: "'myvalue'", "true", "function() { }").<br/>
+	 * {@link Options} are written as nested objects and null is written as 'null'.
+	 *
+	 * @param value the value
+	 * @return this, for chaining
+	 */
+	public JsonWriter value(Object value)
+	{
+		if (value instanceof Options)
+		{
+			return this.value((Options) value);
+		}
+
+		this.separate();
+
+		if (value instanceof CharSequence)
+		{
+			this.builder.append((CharSequence) value);
+		}
+		else
+		{
+			this.builder.append(value);
+		}
+
+		this.flushIfNeeded();
+
+		return this;
+	}
+
+	/**
+	 * Writes a number value
+	 *
+	 * @param value the value
+	 * @return this, for chaining
+	 */
+	public JsonWriter value(long value)
+	{
+		this.separate();
+		this.builder.append(value);
+
+		return this;
+	}
+
+	/**
+	 * Writes a boolean value
+	 *
+	 * @param value the value
+	 * @return this, for chaining
+	 */
+	public JsonWriter value(boolean value)
+	{
+		this.separate();
+		this.builder.append(value);
+
+		return this;
+	}
+
+	/**
+	 * Writes the {@link Options} as an object
+	 *
+	 * @param options the {@link Options}
+	 * @return this, for chaining
+	 */
+	public JsonWriter value(Options options)
+	{
+		this.beginObject();
+		options.writeMembers(this);
+
+		return this.endObject();
+	}
+
+	/**
+	 * Writes a string value, quoted and escaped. null is written as 'null'.
+	 *
+	 * @param value the value
+	 * @return this, for chaining
+	 */
+	public JsonWriter string(Object value)
+	{
+		if (value == null)
+		{
+			return this.value((Object) null);
+		}
+
+		this.separate();
+		JsonWriter.quote(this.builder, value instanceof CharSequence ? (CharSequence) value : value.toString());
+		this.flushIfNeeded();
+
+		return this;
+	}
+
+	/**
+	 * Writes a date value, in its ISO8601 representation. null is written as 'null'.
+	 *
+	 * @param date the date
+	 * @return this, for chaining
+	 */
+	public JsonWriter date(Date date)
+	{
+		return this.string(date != null ? DateUtils.toISO8601(date) : null);
+	}
+
+	/**
+	 * Writes a java object according to its type: numbers and booleans are written as is, collections and arrays as arrays, maps as objects (keys being the member names), strings and other objects are quoted and escaped.
+	 *
+	 * @param object the object
+	 * @return this, for chaining
+	 */
+	public JsonWriter object(Object object)
+	{
+		if (object == null || object instanceof Boolean)
+		{
+			return this.value(object);
+		}
+
+		if (object instanceof Number)
+		{
+			double d = ((Number) object).doubleValue();
+
+			return this.value(Double.isNaN(d) || Double.isInfinite(d) ? null : object);
+		}
+
+		if (object instanceof Date)
+		{
+			return this.date((Date) object);
+		}
+
+		if (object instanceof Collection<?>)
+		{
+			this.beginArray();
+
+			for (Object element : (Collection<?>) object)
+			{
+				this.object(element);
+			}
+
+			return this.endArray();
+		}
+
+		if (object instanceof Map<?, ?>)
+		{
+			this.beginObject();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet())
+			{
+				this.name(String.valueOf(entry.getKey()));
+				this.object(entry.getValue());
+			}
+
+			return this.endObject();
+		}
+
+		if (object.getClass().isArray())
+		{
+			this.beginArray();
+
+			for (int i = 0, length = Array.getLength(object); i < length; i++)
+			{
+				this.object(Array.get(object, i)); // primitive arrays included
+			}
+
+			return this.endArray();
+		}
+
+		return this.string(object);
+	}
+
+	/**
+	 * Appends raw content, without separator
+	 *
+	 * @param value the raw content
+	 * @return this, for chaining
+	 */
+	public JsonWriter append(CharSequence value)
+	{
+		this.builder.append(value);
+
+		return this;
+	}
+
+	/**
+	 * Appends a raw char, without separator
+	 *
+	 * @param c the raw char
+	 * @return this, for chaining
+	 */
+	public JsonWriter append(char c)
+	{
+		this.builder.append(c);
+
+		return this;
+	}
+
+	/**
+	 * Gets the content of the buffer
+	 */
+	@Override
+	public String toString()
+	{
+		return this.builder.toString();
+	}
+}
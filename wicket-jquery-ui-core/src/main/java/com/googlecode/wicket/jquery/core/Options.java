@@ -16,20 +16,36 @@
  */
 package com.googlecode.wicket.jquery.core;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.WicketRuntimeException;
 import org.apache.wicket.util.io.IClusterable;
 
 import com.googlecode.wicket.jquery.core.utils.DateUtils;
 
 /**
- * Provides a wrapper on a {@link Map} that will contains jQuery behavior options (key/value).<br/>
+ * Provides a compact, insertion-ordered, {@link Map}-like container that will contains jQuery behavior options (key/value).<br/>
  * the {@link #toString()} methods returns the JSON representation of the options.
  *
  * @author Sebastien Briquet - sebfz1
@@ -52,14 +68,15 @@ public class Options implements IClusterable
 	}
 
 	/**
-	 * Converts a string to its javascript representation. ie: "myvalue" (with the double quotes)
+	 * Converts a string to its javascript representation. ie: "myvalue" (with the double quotes)<br/>
+	 * Double quotes, backslashes and control characters are escaped (see {@link JsonWriter#quote(StringBuilder, CharSequence)}).
 	 *
 	 * @param value the object
 	 * @return the JSON value
 	 */
 	public static String asString(String value)
 	{
-		return String.format("%s%s%s", QUOTE, value.replace(QUOTE, "\\" + QUOTE), QUOTE);
+		return JsonWriter.quote(value);
 	}
 
 	/**
@@ -73,6 +90,72 @@ public class Options implements IClusterable
 		return Options.asString(DateUtils.toISO8601(date));
 	}
 
+	/**
+	 * Registers an application-scoped {@link Options} template, that can be shared by widgets using {@link #fromTemplate(String)}.<br/>
+	 * The template (and its nested {@link Options}) is frozen, any further modification will throw an {@link UnsupportedOperationException}.<br/>
+	 * This is typically called in {@link Application#init()}.
+	 *
+	 * @param key the template key
+	 * @param options the {@link Options} to be used as template
+	 * @return the frozen template
+	 */
+	public static Options registerTemplate(String key, Options options)
+	{
+		Application application = Application.get();
+
+		synchronized (TEMPLATES)
+		{
+			ConcurrentMap<String, Options> templates = application.getMetaData(TEMPLATES);
+
+			if (templates == null)
+			{
+				templates = new ConcurrentHashMap<String, Options>();
+				application.setMetaData(TEMPLATES, templates);
+			}
+
+			templates.put(key, options.freeze());
+		}
+
+		return options;
+	}
+
+	/**
+	 * Gets a new {@link Options} which is an overlay on a template registered with {@link #registerTemplate(String, Options)}.<br/>
+	 * The template is shared and only referenced by its key, options set on the returned instance are kept in the (copy-on-write) overlay.
+	 *
+	 * @param key the template key
+	 * @return a new {@link Options}
+	 * @throws WicketRuntimeException if the template is not registered
+	 */
+	public static Options fromTemplate(String key)
+	{
+		Options options = new Options();
+		options.templateKey = key;
+		options.template = Options.getTemplate(key);
+
+		return options;
+	}
+
+	/**
+	 * Gets the registered template
+	 *
+	 * @param key the template key
+	 * @return the template
+	 * @throws WicketRuntimeException if the template is not registered
+	 */
+	private static Options getTemplate(String key)
+	{
+		ConcurrentMap<String, Options> templates = Application.get().getMetaData(TEMPLATES);
+		Options template = templates != null ? templates.get(key) : null;
+
+		if (template == null)
+		{
+			throw new WicketRuntimeException(String.format("Options template '%s' is not registered", key));
+		}
+
+		return template;
+	}
+
 	/**
 	 * Converts a list of options to a comma delimited string.
 	 *
@@ -96,14 +179,46 @@ public class Options implements IClusterable
 		return builder.toString();
 	}
 
-	private final Map<String, Serializable> map;
+	/**
+	 * Global modification sequence. Stamps are drawn from a single sequence so that a stamp of nested {@link Options} can be compared with its parent's one.
+	 */
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	/** Application-scoped templates */
+	private static final MetaDataKey<ConcurrentMap<String, Options>> TEMPLATES = new MetaDataKey<ConcurrentMap<String, Options>>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/** Initial capacity, most of behaviors have only a few options */
+	private static final int CAPACITY = 4;
+
+	/** Keys, in insertion order (interned) */
+	private transient String[] keys = null;
+
+	/** Values, in insertion order */
+	private transient Serializable[] values = null;
+
+	/** Number of options */
+	private transient int size = 0;
+
+	/** Stamp of the last modification, not serialized (a deserialized instance is considered as new) */
+	private transient long stamp = 0L;
+
+	/** Indicates whether the options are read-only (templates) */
+	private boolean frozen = false;
+
+	/** Key of the template, if the options are an overlay */
+	private String templateKey = null;
+
+	/** The template, not serialized (resolved from its key) */
+	private transient Options template = null;
 
 	/**
 	 * Constructor.
 	 */
 	public Options()
 	{
-		this.map = new HashMap<String, Serializable>();
 	}
 
 	/**
@@ -118,6 +233,33 @@ public class Options implements IClusterable
 		this.set(key, value);
 	}
 
+	/**
+	 * Gets the index of the key
+	 *
+	 * @param key the key
+	 * @return the index, or -1 if not found
+	 */
+	private int indexOf(String key)
+	{
+		for (int i = 0; i < this.size; i++)
+		{
+			if (this.keys[i] == key) // keys are interned
+			{
+				return i;
+			}
+		}
+
+		for (int i = 0; i < this.size; i++)
+		{
+			if (this.keys[i].equals(key))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
 	/**
 	 * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
 	 *
@@ -126,60 +268,385 @@ public class Options implements IClusterable
 	 */
 	public Serializable get(String key)
 	{
-		return this.map.get(key);
+		int index = this.indexOf(key);
+
+		if (index >= 0)
+		{
+			return this.values[index] != Removed.INSTANCE ? this.values[index] : null;
+		}
+
+		if (this.templateKey != null)
+		{
+			return this.getTemplate().get(key);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the template this overlay is based on
+	 *
+	 * @return the template, or null if the options are not an overlay
+	 */
+	private Options getTemplate()
+	{
+		if (this.template == null && this.templateKey != null)
+		{
+			this.template = Options.getTemplate(this.templateKey); // deserialized overlay
+		}
+
+		return this.template;
+	}
+
+	/**
+	 * Freezes the options, and their nested {@link Options}
+	 *
+	 * @return this
+	 */
+	private Options freeze()
+	{
+		this.frozen = true;
+
+		for (int i = 0; i < this.size; i++)
+		{
+			if (this.values[i] instanceof Options)
+			{
+				((Options) this.values[i]).freeze();
+			}
+		}
+
+		return this;
 	}
 
 	/**
 	 * Adds or replace an options defined by a key/value pair.<br/>
-	 * If for a given key, the value is null, then the pair is removed.
+	 * If for a given key, the value is null, then the pair is removed.<br/>
+	 * Options are kept in insertion order, replacing a value does not change its position.<br/>
+	 * If the options are an overlay on a template, the template is left untouched.
 	 *
 	 * @param key - key with which the specified value is to be associated
 	 * @param value - value to be associated with the specified key
 	 * @return this
+	 * @throws UnsupportedOperationException if the options are a template
 	 */
 	public final Options set(String key, Serializable value)
 	{
-		if (value != null)
+		if (this.frozen)
+		{
+			throw new UnsupportedOperationException("Options template cannot be modified");
+		}
+
+		if (value == null && this.templateKey != null && this.getTemplate().get(key) != null)
 		{
-			this.map.put(key, value);
+			value = Removed.INSTANCE; // hides the template value
+		}
+
+		int index = this.indexOf(key);
+
+		if (index >= 0)
+		{
+			if (value == null)
+			{
+				this.remove(index);
+			}
+			else
+			{
+				// keeps the stamp if an equal immutable value is set again (ie: options re-set in #onConfigure on each render);
+				// otherwise invalidates, the value may be a mutated mutable instance
+				if (!Options.isUnchanged(this.values[index], value))
+				{
+					this.stamp = SEQUENCE.incrementAndGet();
+				}
+
+				this.values[index] = value;
+			}
 		}
-		else
+		else if (value != null)
 		{
-			this.map.remove(key);
+			this.add(key.intern(), value);
 		}
 
 		return this;
 	}
 
 	/**
-	 * Gets a read-only entry set of options
+	 * Indicates whether replacing the old value by the new one leaves the JSON representation unchanged.<br/>
+	 * This is the case if the values are equal and immutable, or if both are the same {@link Options}, whose own modifications are tracked by its stamp (see {@link #getModificationStamp()})
+	 *
+	 * @param oldValue the old value
+	 * @param newValue the new value
+	 * @return true or false
+	 */
+	private static boolean isUnchanged(Serializable oldValue, Serializable newValue)
+	{
+		if (newValue instanceof Options)
+		{
+			return oldValue == newValue;
+		}
+
+		return Options.isImmutable(newValue) && newValue.equals(oldValue);
+	}
+
+	/**
+	 * Indicates whether the value is of a well known immutable type
 	 *
-	 * @return an unmodifiable set of internal map entries
+	 * @param value the value
+	 * @return true or false
+	 */
+	private static boolean isImmutable(Serializable value)
+	{
+		return value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum<?> || value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float || value instanceof Short || value instanceof Byte || value instanceof BigDecimal || value instanceof BigInteger;
+	}
+
+	/**
+	 * Appends a new key/value pair
+	 *
+	 * @param key the interned key
+	 * @param value the value
+	 */
+	private void add(String key, Serializable value)
+	{
+		if (this.keys == null)
+		{
+			this.keys = new String[CAPACITY];
+			this.values = new Serializable[CAPACITY];
+		}
+		else if (this.size == this.keys.length)
+		{
+			this.keys = Arrays.copyOf(this.keys, this.size * 2);
+			this.values = Arrays.copyOf(this.values, this.size * 2);
+		}
+
+		this.keys[this.size] = key;
+		this.values[this.size] = value;
+		this.size++;
+		this.stamp = SEQUENCE.incrementAndGet();
+	}
+
+	/**
+	 * Removes the key/value pair at the specified index
+	 *
+	 * @param index the index
+	 */
+	private void remove(int index)
+	{
+		int moved = this.size - index - 1;
+
+		if (moved > 0)
+		{
+			System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+			System.arraycopy(this.values, index + 1, this.values, index, moved);
+		}
+
+		this.size--;
+		this.keys[this.size] = null;
+		this.values[this.size] = null;
+		this.stamp = SEQUENCE.incrementAndGet();
+	}
+
+	/**
+	 * Gets the modification stamp of the options, including nested {@link Options}.<br/>
+	 * The stamp changes each time an option is added, replaced - by a different or mutable value - or removed, so it can be used to know whether the JSON representation has to be rebuilt.<br/>
+	 * <b>Note:</b> modifications of mutable values other than {@link Options} are only tracked once the value is set again.
+	 *
+	 * @return the modification stamp
+	 */
+	public long getModificationStamp()
+	{
+		long stamp = this.templateKey != null ? Math.max(this.stamp, this.getTemplate().getModificationStamp()) : this.stamp;
+
+		for (int i = 0; i < this.size; i++)
+		{
+			if (this.values[i] instanceof Options)
+			{
+				stamp = Math.max(stamp, ((Options) this.values[i]).getModificationStamp());
+			}
+		}
+
+		return stamp;
+	}
+
+	/**
+	 * Gets a read-only entry set of options, in insertion order
+	 *
+	 * @return an unmodifiable set of entries
 	 */
 	public Set<Entry<String, Serializable>> entries()
 	{
-		return Collections.unmodifiableSet(this.map.entrySet());
+		if (this.templateKey != null)
+		{
+			final Map<String, Serializable> map = new LinkedHashMap<String, Serializable>();
+			final Options template = this.getTemplate();
+
+			for (int i = 0; i < template.size; i++)
+			{
+				Serializable value = this.get(template.keys[i]);
+
+				if (value != null)
+				{
+					map.put(template.keys[i], value);
+				}
+			}
+
+			for (int i = 0; i < this.size; i++)
+			{
+				if (this.values[i] != Removed.INSTANCE)
+				{
+					map.put(this.keys[i], this.values[i]);
+				}
+			}
+
+			return Collections.unmodifiableSet(map.entrySet());
+		}
+
+		return new AbstractSet<Entry<String, Serializable>>() {
+
+			@Override
+			public Iterator<Entry<String, Serializable>> iterator()
+			{
+				return new Iterator<Entry<String, Serializable>>() {
+
+					private int index = 0;
+
+					@Override
+					public boolean hasNext()
+					{
+						return this.index < Options.this.size;
+					}
+
+					@Override
+					public Entry<String, Serializable> next()
+					{
+						if (!this.hasNext())
+						{
+							throw new NoSuchElementException();
+						}
+
+						int i = this.index++;
+
+						return new AbstractMap.SimpleImmutableEntry<String, Serializable>(Options.this.keys[i], Options.this.values[i]);
+					}
+
+					@Override
+					public void remove()
+					{
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size()
+			{
+				return Options.this.size;
+			}
+		};
 	}
 
 	/**
-	 * Gets the JSON representation of the Options<br/>
+	 * Writes the options, as members of the current object of the {@link JsonWriter}.<br/>
+	 * Template options come first (possibly overridden by the overlay), followed by the overlay-only options.
+	 *
+	 * @param writer the {@link JsonWriter}
 	 */
-	@Override
-	public String toString()
+	void writeMembers(JsonWriter writer)
 	{
-		StringBuilder builder = new StringBuilder("{ ");
+		final Options template = this.getTemplate();
 
-		int i = 0;
-		for (Entry<String, Serializable> entry : this.map.entrySet())
+		if (template != null)
 		{
-			if (i++ > 0)
+			for (int i = 0; i < template.size; i++)
 			{
-				builder.append(", ");
+				int index = this.indexOf(template.keys[i]);
+				Serializable value = index < 0 ? template.values[i] : this.values[index];
+
+				if (value != Removed.INSTANCE)
+				{
+					writer.name(template.keys[i]).value(value);
+				}
+			}
+		}
+
+		for (int i = 0; i < this.size; i++)
+		{
+			if (template == null || template.indexOf(this.keys[i]) < 0)
+			{
+				writer.name(this.keys[i]).value(this.values[i]);
 			}
+		}
+	}
+
+	// Serialization //
+
+	/**
+	 * Writes the size followed by the key/value pairs, without the unused capacity
+	 *
+	 * @param out the {@link ObjectOutputStream}
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		out.writeInt(this.size);
 
-			builder.append(QUOTE).append(entry.getKey()).append(QUOTE).append(": ").append(entry.getValue());
+		for (int i = 0; i < this.size; i++)
+		{
+			out.writeUTF(this.keys[i]);
+			out.writeObject(this.values[i]);
 		}
+	}
 
-		return builder.append(" }").toString();
+	/**
+	 * Reads the key/value pairs written by {@link #writeObject(ObjectOutputStream)}
+	 *
+	 * @param in the {@link ObjectInputStream}
+	 * @throws IOException if an I/O error occurs
+	 * @throws ClassNotFoundException if the class of a value cannot be found
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+
+		final int size = in.readInt();
+
+		if (size > 0)
+		{
+			this.keys = new String[size];
+			this.values = new Serializable[size];
+
+			for (int i = 0; i < size; i++)
+			{
+				this.keys[i] = in.readUTF().intern();
+				this.values[i] = (Serializable) in.readObject();
+			}
+		}
+
+		this.size = size;
+	}
+
+	/**
+	 * Marks an option of the template as removed in the overlay
+	 */
+	private enum Removed
+	{
+		INSTANCE
+	}
+
+	/**
+	 * Gets the JSON representation of the Options<br/>
+	 */
+	@Override
+	public String toString()
+	{
+		JsonWriter writer = JsonWriter.get();
+
+		try
+		{
+			return writer.value(this).toString();
+		}
+		finally
+		{
+			writer.release();
+		}
 	}
 }
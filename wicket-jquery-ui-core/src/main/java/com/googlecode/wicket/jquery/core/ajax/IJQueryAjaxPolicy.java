@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+import org.apache.wicket.util.io.IClusterable;
+
+/**
+ * Specifies a client-side policy applied to the ajax calls of a {@link JQueryAjaxBehavior} (see {@link JQueryAjaxBehavior#addPolicy(IJQueryAjaxPolicy)})<br/>
+ * A policy can alter the ajax attributes (channel, call listeners) and/or wrap the script that performs the ajax call.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public interface IJQueryAjaxPolicy extends IClusterable
+{
+	/**
+	 * Updates the ajax attributes of the behavior's calls
+	 *
+	 * @param attributes the {@link AjaxRequestAttributes}
+	 * @param key the client-side key identifying the behavior
+	 */
+	void updateAjaxAttributes(AjaxRequestAttributes attributes, String key);
+
+	/**
+	 * Wraps the script performing the ajax call.<br/>
+	 * The script is evaluated within the callback function, so it can refer to the function arguments and to <code>this</code>.
+	 *
+	 * @param script the script performing the ajax call
+	 * @param key the client-side key identifying the behavior
+	 * @return the wrapped script, or the supplied script if the policy does not need to wrap it
+	 */
+	CharSequence wrap(CharSequence script, String key);
+}
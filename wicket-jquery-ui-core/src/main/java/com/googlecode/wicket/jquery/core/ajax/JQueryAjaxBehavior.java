@@ -16,16 +16,24 @@
  */
 package com.googlecode.wicket.jquery.core.ajax;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.wicket.Component;
 import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
 import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
 import org.apache.wicket.ajax.attributes.CallbackParameter;
 import org.apache.wicket.ajax.attributes.ThrottlingSettings;
 import org.apache.wicket.behavior.Behavior;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.util.lang.Args;
 import org.apache.wicket.util.time.Duration;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.JQueryEvent;
+import com.googlecode.wicket.jquery.core.resource.AjaxPolicyResourceReference;
 
 /**
  * Base class for implementing AJAX GET calls to a {@link IJQueryAjaxAware} source, which is usually a {@link JQueryBehavior}<br />
@@ -142,6 +150,12 @@ public abstract class JQueryAjaxBehavior extends AbstractDefaultAjaxBehavior
 	private final IJQueryAjaxAware source;
 	private final Duration duration;
 
+	/** The dispatcher this behavior is registered to, if any */
+	private JQueryAjaxDispatcher dispatcher = null;
+	private String name = null;
+
+	/** Client-side policies applied to the ajax calls */
+	private List<IJQueryAjaxPolicy> policies = null;
 
 	/**
 	 * Constructor
@@ -178,6 +192,91 @@ public abstract class JQueryAjaxBehavior extends AbstractDefaultAjaxBehavior
 	 */
 	protected abstract JQueryEvent newEvent();
 
+	/**
+	 * Adds a client-side {@link IJQueryAjaxPolicy} (ie: debounce, coalesce) to be applied to the ajax calls of this behavior.<br/>
+	 * Policies wrap the ajax call in the order they have been added, the first one being the outermost.
+	 *
+	 * @param policy the {@link IJQueryAjaxPolicy}
+	 * @return this, for chaining
+	 */
+	public JQueryAjaxBehavior addPolicy(IJQueryAjaxPolicy policy)
+	{
+		if (this.policies == null)
+		{
+			this.policies = new ArrayList<IJQueryAjaxPolicy>();
+		}
+
+		this.policies.add(Args.notNull(policy, "policy"));
+
+		return this;
+	}
+
+	/**
+	 * Gets the client-side key identifying this behavior, used by the {@link IJQueryAjaxPolicy}<code>s</code>
+	 *
+	 * @return the key
+	 */
+	private String getPolicyKey()
+	{
+		Component component = this.getComponent();
+
+		if (this.dispatcher != null)
+		{
+			return component.getMarkupId() + "-" + this.name;
+		}
+
+		return component.getMarkupId() + "-" + component.getBehaviorId(this);
+	}
+
+	/**
+	 * Wraps the script performing the ajax call with the {@link IJQueryAjaxPolicy}<code>s</code>, if any
+	 *
+	 * @param script the script
+	 * @return the wrapped script
+	 */
+	private CharSequence wrap(CharSequence script)
+	{
+		if (this.policies == null)
+		{
+			return script;
+		}
+
+		String key = this.getPolicyKey();
+
+		for (int i = this.policies.size() - 1; i >= 0; i--)
+		{
+			script = this.policies.get(i).wrap(script, key);
+		}
+
+		return script;
+	}
+
+	/**
+	 * Sets the {@link JQueryAjaxDispatcher} this behavior is registered to
+	 *
+	 * @param dispatcher the {@link JQueryAjaxDispatcher}
+	 * @param name the event name
+	 */
+	void setDispatcher(JQueryAjaxDispatcher dispatcher, String name)
+	{
+		this.dispatcher = dispatcher;
+		this.name = name;
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * If the behavior is registered to a {@link JQueryAjaxDispatcher}, the dispatcher's callback url is returned
+	 */
+	@Override
+	public CharSequence getCallbackUrl()
+	{
+		if (this.dispatcher != null)
+		{
+			return this.dispatcher.getCallbackUrl();
+		}
+
+		return super.getCallbackUrl();
+	}
 
 	// wicket 6.x //
 	@Override
@@ -189,6 +288,44 @@ public abstract class JQueryAjaxBehavior extends AbstractDefaultAjaxBehavior
 		{
 			attributes.setThrottlingSettings(new ThrottlingSettings("jquery-throttle", this.duration));
 		}
+
+		if (this.dispatcher != null)
+		{
+			attributes.getExtraParameters().put(JQueryAjaxDispatcher.EVENT_PARAMETER, this.name);
+		}
+
+		if (this.policies != null)
+		{
+			String key = this.getPolicyKey();
+
+			for (IJQueryAjaxPolicy policy : this.policies)
+			{
+				policy.updateAjaxAttributes(attributes, key);
+			}
+		}
+	}
+
+	@Override
+	public void renderHead(Component component, IHeaderResponse response)
+	{
+		super.renderHead(component, response);
+
+		if (this.policies != null)
+		{
+			response.render(JavaScriptHeaderItem.forReference(AjaxPolicyResourceReference.get()));
+		}
+	}
+
+	@Override
+	protected CharSequence getCallbackScript(Component component)
+	{
+		return this.wrap(super.getCallbackScript(component));
+	}
+
+	@Override
+	public CharSequence getCallbackFunctionBody(CallbackParameter... parameters)
+	{
+		return this.wrap(super.getCallbackFunctionBody(parameters));
 	}
 
 	/**
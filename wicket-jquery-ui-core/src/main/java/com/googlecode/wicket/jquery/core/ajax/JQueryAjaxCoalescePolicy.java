@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import org.apache.wicket.ajax.AjaxChannel;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+
+/**
+ * Provides a "latest value wins" {@link IJQueryAjaxPolicy}: while a call of the behavior is in-flight, the calls that
+ * are waiting for it are replaced by the latest one.<br/>
+ * The behavior gets its own {@link AjaxChannel} (of type {@link AjaxChannel.Type#DROP}), so its calls do not wait for
+ * the calls of other behaviors anymore.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryAjaxCoalescePolicy implements IJQueryAjaxPolicy
+{
+	private static final long serialVersionUID = 1L;
+
+	private final String channel;
+
+	/**
+	 * Constructor, for a channel dedicated to the behavior
+	 */
+	public JQueryAjaxCoalescePolicy()
+	{
+		this(null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param channel the channel name, to coalesce the calls of several behaviors, or null for a channel dedicated to the behavior
+	 */
+	public JQueryAjaxCoalescePolicy(String channel)
+	{
+		this.channel = channel;
+	}
+
+	@Override
+	public void updateAjaxAttributes(AjaxRequestAttributes attributes, String key)
+	{
+		attributes.setChannel(new AjaxChannel(this.channel != null ? this.channel : key, AjaxChannel.Type.DROP));
+	}
+
+	@Override
+	public CharSequence wrap(CharSequence script, String key)
+	{
+		return script;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.time.Duration;
+
+import com.googlecode.wicket.jquery.core.Options;
+
+/**
+ * Provides a debounce {@link IJQueryAjaxPolicy}: calls are grouped into bursts that end after a quiet period, and only
+ * the leading and/or the trailing call of a burst is sent. The trailing call is the latest one, so its values win.<br/>
+ * A max-wait can be specified so that the latest call is sent periodically during a long burst.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryAjaxDebouncePolicy implements IJQueryAjaxPolicy
+{
+	private static final long serialVersionUID = 1L;
+
+	private final Duration wait;
+	private Duration maxWait = Duration.NONE;
+	private boolean leading = false;
+	private boolean trailing = true;
+
+	/**
+	 * Constructor, for a trailing debounce
+	 *
+	 * @param wait the quiet period that ends a burst
+	 */
+	public JQueryAjaxDebouncePolicy(Duration wait)
+	{
+		this.wait = Args.notNull(wait, "wait");
+	}
+
+	/**
+	 * Sets the maximum time the latest call can be delayed during a burst
+	 *
+	 * @param maxWait the max-wait {@link Duration}, or {@link Duration#NONE}
+	 * @return this, for chaining
+	 */
+	public JQueryAjaxDebouncePolicy setMaxWait(Duration maxWait)
+	{
+		this.maxWait = Args.notNull(maxWait, "maxWait");
+
+		return this;
+	}
+
+	/**
+	 * Indicates whether the first call of a burst is sent immediately
+	 *
+	 * @param leading true to send the leading call
+	 * @return this, for chaining
+	 */
+	public JQueryAjaxDebouncePolicy setLeading(boolean leading)
+	{
+		this.leading = leading;
+
+		return this;
+	}
+
+	/**
+	 * Indicates whether the latest call of a burst is sent once the burst ends
+	 *
+	 * @param trailing true to send the trailing call
+	 * @return this, for chaining
+	 */
+	public JQueryAjaxDebouncePolicy setTrailing(boolean trailing)
+	{
+		this.trailing = trailing;
+
+		return this;
+	}
+
+	@Override
+	public void updateAjaxAttributes(AjaxRequestAttributes attributes, String key)
+	{
+		// noop
+	}
+
+	@Override
+	public CharSequence wrap(CharSequence script, String key)
+	{
+		if (!this.leading && !this.trailing)
+		{
+			throw new IllegalStateException("A debounce policy should send either the leading or the trailing call");
+		}
+
+		Options options = new Options();
+		options.set("wait", this.wait.getMilliseconds());
+		options.set("maxWait", this.maxWait.getMilliseconds());
+		options.set("leading", this.leading);
+		options.set("trailing", this.trailing);
+
+		return String.format("jQuery.ajaxPolicy.debounce(%s, %s, this, function() { %s });", Options.asString(key), options, script);
+	}
+}
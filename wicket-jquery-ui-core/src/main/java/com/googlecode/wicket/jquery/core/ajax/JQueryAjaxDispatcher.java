@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.markup.ComponentTag;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.util.lang.Args;
+
+import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
+
+/**
+ * Provides a single Ajax endpoint for all the {@link JQueryAjaxBehavior}<code>s</code> of a widget.<br/>
+ * Registered behaviors are not added to the component: they share the dispatcher's callback url and send their event name
+ * as the {@link #EVENT_PARAMETER} parameter, which is used to route the request to the right behavior.<br/>
+ * Registered behaviors keep their own callback parameters, ajax attributes and {@link JQueryAjaxBehavior#newEvent()} factory.<br/>
+ * The dispatcher forwards the component lifecycle (bind, configure, render, tag, head, detach, unbind) to the registered behaviors,
+ * skipping - as the component does - the ones that are not enabled (see {@link JQueryAjaxBehavior#isEnabled(Component)}).
+ *
+ * <pre>
+ * public void bind(Component component)
+ * {
+ * 	super.bind(component);
+ *
+ * 	component.add(this.dispatcher = new JQueryAjaxDispatcher());
+ * 	this.onMyEventBehavior = this.dispatcher.register("myevent", this.newOnMyEventBehavior());
+ * }
+ * </pre>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryAjaxDispatcher extends AbstractDefaultAjaxBehavior
+{
+	private static final long serialVersionUID = 1L;
+
+	/** Name of the request parameter holding the event name */
+	public static final String EVENT_PARAMETER = "jqevent";
+
+	private final Map<String, JQueryAjaxBehavior> behaviors;
+
+	/**
+	 * Constructor
+	 */
+	public JQueryAjaxDispatcher()
+	{
+		this.behaviors = new LinkedHashMap<String, JQueryAjaxBehavior>();
+	}
+
+	/**
+	 * Registers a {@link JQueryAjaxBehavior} to be dispatched for the supplied event name
+	 *
+	 * @param name the event name, unique for this dispatcher
+	 * @param behavior the {@link JQueryAjaxBehavior}
+	 * @return the behavior, for chaining
+	 */
+	public <T extends JQueryAjaxBehavior> T register(String name, T behavior)
+	{
+		Args.notNull(behavior, "behavior");
+
+		if (this.behaviors.containsKey(Args.notEmpty(name, "name")))
+		{
+			throw new IllegalArgumentException(String.format("An event named '%s' is already registered", name));
+		}
+
+		behavior.setDispatcher(this, name);
+		this.behaviors.put(name, behavior);
+
+		if (this.getComponent() != null)
+		{
+			behavior.bind(this.getComponent());
+		}
+
+		return behavior;
+	}
+
+	/**
+	 * Gets the registered behaviors of the supplied type, in registration order
+	 *
+	 * @param type the behavior class
+	 * @return the list of behaviors
+	 */
+	public <T extends JQueryAjaxBehavior> List<T> getBehaviors(Class<T> type)
+	{
+		List<T> list = new ArrayList<T>();
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			if (type.isInstance(behavior))
+			{
+				list.add(type.cast(behavior));
+			}
+		}
+
+		return list;
+	}
+
+	// Events //
+
+	@Override
+	protected void onBind()
+	{
+		super.onBind();
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			behavior.bind(this.getComponent());
+		}
+	}
+
+	@Override
+	protected void onUnbind()
+	{
+		super.onUnbind();
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			behavior.unbind(this.getComponent());
+		}
+	}
+
+	@Override
+	public void onConfigure(Component component)
+	{
+		super.onConfigure(component);
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			if (behavior.isEnabled(component))
+			{
+				behavior.onConfigure(component);
+			}
+		}
+	}
+
+	@Override
+	public void beforeRender(Component component)
+	{
+		super.beforeRender(component);
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			if (behavior.isEnabled(component))
+			{
+				behavior.beforeRender(component);
+			}
+		}
+	}
+
+	@Override
+	protected void onComponentTag(ComponentTag tag)
+	{
+		super.onComponentTag(tag);
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			if (behavior.isEnabled(this.getComponent()))
+			{
+				behavior.onComponentTag(this.getComponent(), tag);
+			}
+		}
+	}
+
+	@Override
+	public void renderHead(Component component, IHeaderResponse response)
+	{
+		super.renderHead(component, response);
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			if (behavior.isEnabled(component))
+			{
+				behavior.renderHead(component, response);
+			}
+		}
+	}
+
+	@Override
+	protected void onComponentRendered()
+	{
+		super.onComponentRendered();
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			if (behavior.isEnabled(this.getComponent()))
+			{
+				behavior.afterRender(this.getComponent());
+			}
+		}
+	}
+
+	@Override
+	public void detach(Component component)
+	{
+		super.detach(component);
+
+		for (JQueryAjaxBehavior behavior : this.behaviors.values())
+		{
+			behavior.detach(component);
+		}
+	}
+
+	@Override
+	protected void respond(AjaxRequestTarget target)
+	{
+		String name = RequestCycleUtils.getQueryParameterValue(EVENT_PARAMETER).toString();
+		JQueryAjaxBehavior behavior = this.behaviors.get(name);
+
+		// as a behavior that is not enabled cannot be called back //
+		if (behavior != null && behavior.isEnabled(this.getComponent()))
+		{
+			behavior.respond(target);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.AjaxRequestTarget.IJavaScriptResponse;
+import org.apache.wicket.request.cycle.RequestCycle;
+
+/**
+ * Provides a per-{@link AjaxRequestTarget} collector of jQuery statements.<br/>
+ * Statements are de-duplicated and evaluated at once, after the components have been replaced in the DOM.<br/>
+ * If the same statement is appended several times, only its last occurrence is kept, so the final state is the same as if all statements were evaluated (ie: hide, show, hide).
+ *
+ * <pre>
+ * JQueryAjaxScriptCollector.append(target, statement);
+ * </pre>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryAjaxScriptCollector implements AjaxRequestTarget.IListener
+{
+	private static final MetaDataKey<JQueryAjaxScriptCollector> KEY = new MetaDataKey<JQueryAjaxScriptCollector>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * Gets the {@link JQueryAjaxScriptCollector} of the supplied {@link AjaxRequestTarget}, creating it if needed
+	 *
+	 * @param target the {@link AjaxRequestTarget}
+	 * @return the {@link JQueryAjaxScriptCollector}
+	 */
+	public static JQueryAjaxScriptCollector get(AjaxRequestTarget target)
+	{
+		RequestCycle requestCycle = RequestCycle.get();
+		JQueryAjaxScriptCollector collector = requestCycle.getMetaData(KEY);
+
+		if (collector == null || collector.target != target)
+		{
+			collector = new JQueryAjaxScriptCollector(target);
+			requestCycle.setMetaData(KEY, collector);
+			target.addListener(collector);
+		}
+
+		return collector;
+	}
+
+	/**
+	 * Appends a statement to the {@link JQueryAjaxScriptCollector} of the supplied {@link AjaxRequestTarget}
+	 *
+	 * @param target the {@link AjaxRequestTarget}
+	 * @param statement the statement
+	 */
+	public static void append(AjaxRequestTarget target, CharSequence statement)
+	{
+		JQueryAjaxScriptCollector.get(target).append(statement);
+	}
+
+	private final AjaxRequestTarget target;
+	private final Set<String> statements;
+	private boolean responded = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param target the {@link AjaxRequestTarget}
+	 */
+	private JQueryAjaxScriptCollector(AjaxRequestTarget target)
+	{
+		this.target = target;
+		this.statements = new LinkedHashSet<String>();
+	}
+
+	/**
+	 * Appends a statement.<br/>
+	 * If the target has already responded, the statement is directly appended to the target.
+	 *
+	 * @param statement the statement
+	 */
+	public void append(CharSequence statement)
+	{
+		if (this.responded)
+		{
+			this.target.appendJavaScript(statement);
+		}
+		else
+		{
+			String script = statement.toString();
+
+			this.statements.remove(script); // only keeps the last occurrence
+			this.statements.add(script);
+		}
+	}
+
+	@Override
+	public void onBeforeRespond(Map<String, Component> map, AjaxRequestTarget target)
+	{
+		// noop
+	}
+
+	@Override
+	public void onAfterRespond(Map<String, Component> map, IJavaScriptResponse response)
+	{
+		this.responded = true;
+
+		if (!this.statements.isEmpty())
+		{
+			StringBuilder builder = new StringBuilder();
+
+			for (String statement : this.statements)
+			{
+				builder.append(statement).append('\n');
+			}
+
+			this.statements.clear();
+			response.addJavaScript(builder.toString());
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import org.apache.wicket.ajax.attributes.AjaxCallListener;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+
+import com.googlecode.wicket.jquery.core.Options;
+
+/**
+ * Provides a {@link IJQueryAjaxPolicy} that aborts the in-flight call of the behavior when a new call is sent.<br/>
+ * <b>Note:</b> the superseded request may already have been processed by the server; only its response is dropped.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryAjaxSupersedePolicy implements IJQueryAjaxPolicy
+{
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public void updateAjaxAttributes(AjaxRequestAttributes attributes, String key)
+	{
+		String quoted = Options.asString(key);
+
+		AjaxCallListener listener = new AjaxCallListener();
+		listener.onBeforeSend(String.format("jQuery.ajaxPolicy.track(%s, jqXHR);", quoted));
+		listener.onComplete(String.format("jQuery.ajaxPolicy.untrack(%s, jqXHR);", quoted));
+
+		attributes.getAjaxCallListeners().add(listener);
+	}
+
+	@Override
+	public CharSequence wrap(CharSequence script, String key)
+	{
+		return String.format("jQuery.ajaxPolicy.supersede(%s, this, function() { %s });", Options.asString(key), script);
+	}
+}
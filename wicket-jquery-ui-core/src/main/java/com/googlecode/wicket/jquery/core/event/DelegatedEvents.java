@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.event;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.markup.head.PriorityHeaderItem;
+
+import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.DelegatedEventsResourceReference;
+
+/**
+ * Provides the server side of the delegated events registry.<br/>
+ * Instead of binding one handler per element, the registry binds a single document-level listener per event type, which
+ * dispatches to the callback registered under the key carried by the element's {@code data-event-<type>} attribute.<br/>
+ * <br/>
+ * Usage:
+ * <ul>
+ * <li>renders the registry script, using {@link #renderHead(IHeaderResponse)}</li>
+ * <li>puts the {@link #getAttributeName(String)} attribute on the element, using the key as value</li>
+ * <li>registers the callback under the same key, using the {@link #on(String, String, CharSequence)} statement</li>
+ * </ul>
+ * Components bind their callbacks through {@link com.googlecode.wicket.jquery.core.JQueryBehavior#delegate(String, String)}; callbacks are keyed by their content (see {@link #keyOf(String, CharSequence)}),
+ * so components sharing the same callback - ie: the rows of a table - share a single registration statement.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class DelegatedEvents
+{
+	/** Prefix of the data attribute carrying the callback key */
+	public static final String ATTRIBUTE_PREFIX = "data-event-";
+
+	private static final String ALGORITHM = "MD5";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Utility class
+	 */
+	private DelegatedEvents()
+	{
+	}
+
+	/**
+	 * Gets the name of the data attribute that identifies the element for the supplied event type
+	 *
+	 * @param event the jQuery event (ie: "click")
+	 * @return the attribute name (ie: "data-event-click")
+	 */
+	public static String getAttributeName(String event)
+	{
+		return ATTRIBUTE_PREFIX + event;
+	}
+
+	/**
+	 * Gets the key of a callback, derived from its content
+	 *
+	 * @param event the jQuery event (ie: "click")
+	 * @param callback the jQuery callback
+	 * @return the key
+	 */
+	public static String keyOf(String event, CharSequence callback)
+	{
+		try
+		{
+			byte[] bytes = MessageDigest.getInstance(ALGORITHM).digest(callback.toString().getBytes("UTF-8"));
+			StringBuilder builder = new StringBuilder(event).append('-');
+
+			for (byte b : bytes)
+			{
+				builder.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+			}
+
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+		catch (UnsupportedEncodingException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Gets the statement that registers a callback for the supplied event type and key
+	 *
+	 * @param event the jQuery event (ie: "click")
+	 * @param key the key, which is the value of the {@link #getAttributeName(String)} attribute
+	 * @param callback the jQuery callback
+	 * @return the statement
+	 */
+	public static String on(String event, String key, CharSequence callback)
+	{
+		return String.format("jQuery.delegatedEvents.on(%s, %s, %s);", Options.asString(event), Options.asString(key), callback);
+	}
+
+	/**
+	 * Renders the delegated events registry script
+	 *
+	 * @param response the {@link IHeaderResponse}
+	 */
+	public static void renderHead(IHeaderResponse response)
+	{
+		response.render(new PriorityHeaderItem(JavaScriptHeaderItem.forReference(DelegatedEventsResourceReference.get())));
+	}
+}
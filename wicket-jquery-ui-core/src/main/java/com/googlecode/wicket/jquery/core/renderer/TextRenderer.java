@@ -16,7 +16,7 @@
  */
 package com.googlecode.wicket.jquery.core.renderer;
 
-import org.apache.wicket.core.util.lang.PropertyResolver;
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
 
 /**
  * Provides the default {@link ITextRenderer}
@@ -72,7 +72,7 @@ public class TextRenderer<T> implements ITextRenderer<T>
 	{
 		if (expression != null)
 		{
-			Object value = PropertyResolver.getValue(expression, object); //if the object is null, null is returned
+			Object value = PropertyAccessor.getValue(expression, object); //if the object is null, null is returned
 
 			if (value != null)
 			{
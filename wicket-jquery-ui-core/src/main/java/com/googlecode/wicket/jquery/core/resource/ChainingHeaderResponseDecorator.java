@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.html.IHeaderResponseDecorator;
+
+/**
+ * Provides the base class of the {@link IHeaderResponseDecorator}<code>s</code> of the library, which can be chained with one another (or with any other {@link IHeaderResponseDecorator}):
+ *
+ * <pre><code>
+ * this.setHeaderResponseDecorator(new PreloadHeaderResponseDecorator(new KendoUIHeaderResponseDecorator(new JQueryHeaderResponse.Decorator())));
+ * </code></pre>
+ *
+ * The chained decorator decorates the header response of this decorator, so it receives the header items first: in the example above, the statements are aggregated first,
+ * then the Kendo UI modules are merged into a bundle, which is finally preloaded.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public abstract class ChainingHeaderResponseDecorator implements IHeaderResponseDecorator
+{
+	private final IHeaderResponseDecorator decorator;
+
+	/**
+	 * Constructor
+	 */
+	public ChainingHeaderResponseDecorator()
+	{
+		this(null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param decorator another {@link IHeaderResponseDecorator} to chain with, can be null
+	 */
+	public ChainingHeaderResponseDecorator(IHeaderResponseDecorator decorator)
+	{
+		this.decorator = decorator;
+	}
+
+	/**
+	 * Gets the chained {@link IHeaderResponseDecorator}
+	 *
+	 * @return the {@link IHeaderResponseDecorator}, or null
+	 */
+	public IHeaderResponseDecorator getDecorator()
+	{
+		return this.decorator;
+	}
+
+	@Override
+	public final IHeaderResponse decorate(IHeaderResponse response)
+	{
+		IHeaderResponse decorated = this.newHeaderResponse(response);
+
+		if (this.decorator != null)
+		{
+			return this.decorator.decorate(decorated);
+		}
+
+		return decorated;
+	}
+
+	/**
+	 * Gets a new {@link IHeaderResponse} that decorates the supplied one
+	 *
+	 * @param response the {@link IHeaderResponse} to decorate
+	 * @return a new {@link IHeaderResponse}
+	 */
+	protected abstract IHeaderResponse newHeaderResponse(IHeaderResponse response);
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.io.IOException;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.http.WebResponse;
+import org.apache.wicket.request.resource.AbstractResource.ResourceResponse;
+import org.apache.wicket.request.resource.IResource.Attributes;
+import org.apache.wicket.request.resource.caching.FilenameWithVersionResourceCachingStrategy;
+import org.apache.wicket.request.resource.caching.IResourceCachingStrategy;
+import org.apache.wicket.request.resource.caching.IStaticCacheableResource;
+import org.apache.wicket.request.resource.caching.ResourceUrl;
+import org.apache.wicket.request.resource.caching.version.IResourceVersion;
+import org.apache.wicket.settings.IResourceSettings;
+import org.apache.wicket.util.resource.IFixedLocationResourceStream;
+import org.apache.wicket.util.resource.IResourceStream;
+import org.apache.wicket.util.resource.ResourceStreamWrapper;
+
+/**
+ * Provides a {@link IResourceCachingStrategy} that serves the resources listed in the {@link ResourceManifest} at content-hashed urls (ie: 'kendo.web.min-ver-9f3a[...].js'), with a one year, immutable, cache policy.<br/>
+ * Other resources are handled by the strategy being decorated.<br/>
+ * <br/>
+ * Resources that are not {@link IStaticCacheableResource}<tt>s</tt>, like the Kendo UI bundles or the templates, are never passed to a caching strategy.
+ * They fingerprint their urls themselves, with the '{@value #VERSION_PARAMETER}' parameter, and decorate their responses through {@link #decorateResponse(ResourceResponse, Attributes, String)},
+ * so they are cached the same way whether this strategy is installed or not.<br/>
+ * <br/>
+ * Usage:
+ * <pre><code>
+ * public void init()
+ * {
+ *     super.init();
+ *
+ *     ContentHashResourceCachingStrategy.install(this);
+ * }
+ * </code></pre>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class ContentHashResourceCachingStrategy implements IResourceCachingStrategy
+{
+	/** Parameter holding the version of the resources which are not {@link IStaticCacheableResource}<tt>s</tt> */
+	public static final String VERSION_PARAMETER = "v";
+
+	/**
+	 * Loads the manifests and installs the strategy, decorating the application's current one.<br/>
+	 * Nothing is installed in development mode, where resources may change without the manifest being regenerated.
+	 *
+	 * @param application the {@link Application}
+	 */
+	public static void install(Application application)
+	{
+		if (!application.usesDevelopmentConfig())
+		{
+			IResourceSettings settings = application.getResourceSettings();
+			settings.setCachingStrategy(new ContentHashResourceCachingStrategy(settings.getCachingStrategy()));
+		}
+	}
+
+	/**
+	 * Decorates the response of a resource which is not a {@link IStaticCacheableResource}.<br/>
+	 * The response is cached for one year, and marked immutable, if the requested '{@value #VERSION_PARAMETER}' parameter matches the current version of the resource; caching is disabled otherwise.
+	 *
+	 * @param response the {@link ResourceResponse}
+	 * @param attributes the request {@link Attributes}
+	 * @param version the current version of the resource
+	 */
+	public static void decorateResponse(ResourceResponse response, Attributes attributes, String version)
+	{
+		if (version.equals(attributes.getParameters().get(VERSION_PARAMETER).toString()))
+		{
+			response.setCacheScope(WebResponse.CacheScope.PUBLIC);
+			response.setCacheDuration(WebResponse.MAX_CACHE_DURATION);
+			response.getHeaders().addHeader("Cache-Control", "immutable");
+		}
+		else
+		{
+			response.disableCaching();
+		}
+	}
+
+
+	private final IResourceCachingStrategy strategy;
+	private final IResourceCachingStrategy hashed;
+	private final ResourceManifest manifest;
+
+	/**
+	 * Constructor
+	 *
+	 * @param strategy the {@link IResourceCachingStrategy} of the resources that are not part of the manifest
+	 */
+	public ContentHashResourceCachingStrategy(IResourceCachingStrategy strategy)
+	{
+		this.strategy = strategy;
+
+		try
+		{
+			this.manifest = ResourceManifest.load();
+		}
+		catch (IOException e)
+		{
+			throw new WicketRuntimeException("Unable to load the resource manifests", e);
+		}
+
+		this.hashed = new FilenameWithVersionResourceCachingStrategy(new IResourceVersion() {
+
+			@Override
+			public String getVersion(IStaticCacheableResource resource)
+			{
+				return ContentHashResourceCachingStrategy.this.getHash(resource);
+			}
+		});
+	}
+
+	/**
+	 * Gets the content hash of the resource
+	 *
+	 * @param resource the {@link IStaticCacheableResource}
+	 * @return the hash, or null if the resource is not part of the manifest
+	 */
+	private String getHash(IStaticCacheableResource resource)
+	{
+		IResourceStream stream = resource.getCacheableResourceStream();
+
+		while (stream instanceof ResourceStreamWrapper)
+		{
+			stream = ((ResourceStreamWrapper) stream).getDelegate();
+		}
+
+		if (stream instanceof IFixedLocationResourceStream)
+		{
+			return this.manifest.findHash(((IFixedLocationResourceStream) stream).locationAsString());
+		}
+
+		return null;
+	}
+
+	@Override
+	public void decorateUrl(ResourceUrl url, IStaticCacheableResource resource)
+	{
+		if (this.getHash(resource) != null)
+		{
+			this.hashed.decorateUrl(url, resource);
+		}
+		else
+		{
+			this.strategy.decorateUrl(url, resource);
+		}
+	}
+
+	@Override
+	public void undecorateUrl(ResourceUrl url)
+	{
+		this.hashed.undecorateUrl(url);
+		this.strategy.undecorateUrl(url);
+	}
+
+	@Override
+	public void decorateResponse(ResourceResponse response, IStaticCacheableResource resource)
+	{
+		String hash = this.getHash(resource);
+
+		if (hash != null)
+		{
+			this.hashed.decorateResponse(response, resource);
+
+			// the content cannot change as long as the requested hash matches
+			if (hash.equals(RequestCycle.get().getMetaData(URL_VERSION)))
+			{
+				response.getHeaders().addHeader("Cache-Control", "immutable");
+			}
+		}
+		else
+		{
+			this.strategy.decorateResponse(response, resource);
+		}
+	}
+}
@@ -16,7 +16,9 @@
  */
 package com.googlecode.wicket.jquery.core.resource;
 
-import org.apache.wicket.request.resource.JavaScriptResourceReference;
+import java.util.Collections;
+
+import org.apache.wicket.markup.head.HeaderItem;
 
 import com.googlecode.wicket.jquery.core.settings.JQueryLibrarySettings;
 
@@ -27,7 +29,7 @@ import com.googlecode.wicket.jquery.core.settings.JQueryLibrarySettings;
  * @author Sebastien Briquet - sebfz1
  *
  */
-public class JQueryGlobalizeResourceReference extends JavaScriptResourceReference
+public class JQueryGlobalizeResourceReference extends PrecompressedResourceReference
 {
 	private static final long serialVersionUID = 1L;
 
@@ -51,4 +53,13 @@ public class JQueryGlobalizeResourceReference extends JavaScriptResourceReferenc
 	{
 		super(JQueryGlobalizeResourceReference.class, "globalize.js");
 	}
+
+	/**
+	 * Globalize does not depend on jQuery
+	 */
+	@Override
+	public Iterable<? extends HeaderItem> getDependencies()
+	{
+		return Collections.emptyList();
+	}
 }
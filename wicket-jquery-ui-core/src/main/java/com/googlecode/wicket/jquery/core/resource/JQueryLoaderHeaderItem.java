@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.core.util.string.JavaScriptUtils;
+import org.apache.wicket.javascript.IJavaScriptCompressor;
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.markup.head.JavaScriptReferenceHeaderItem;
+import org.apache.wicket.request.Response;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.request.resource.ResourceReference;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.lang.Objects;
+import org.apache.wicket.util.template.PackageTextTemplate;
+
+import com.googlecode.wicket.jquery.core.Options;
+
+/**
+ * Provides a {@link HeaderItem} that loads a javascript library through the script loader ('jQuery.loader'), so the library does not block the page rendering.<br/>
+ * The javascript dependencies of the reference are loaded the same way, except jQuery and Wicket's own scripts, which are rendered as usual.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryLoaderHeaderItem extends HeaderItem
+{
+	private static final long serialVersionUID = 1L;
+
+	/** The id of the loader script */
+	private static final String LOADER_TOKEN = "jquery-loader";
+
+	/** The loader script, lazily read */
+	private static String loader = null;
+
+	/**
+	 * Gets the {@link HeaderItem} of the script loader
+	 *
+	 * @return the {@link HeaderItem}
+	 */
+	public static HeaderItem forLoader()
+	{
+		return new LoaderHeaderItem();
+	}
+
+	/**
+	 * Gets the content of the script loader, compressed by the application's {@link IJavaScriptCompressor} if any
+	 *
+	 * @return the script
+	 */
+	private static synchronized String getLoaderScript()
+	{
+		if (loader == null)
+		{
+			loader = new PackageTextTemplate(JQueryLoaderHeaderItem.class, "jquery-loader.js").asString();
+
+			IJavaScriptCompressor compressor = Application.get().getResourceSettings().getJavaScriptCompressor();
+
+			if (compressor != null)
+			{
+				loader = compressor.compress(loader);
+			}
+		}
+
+		return loader;
+	}
+
+	/**
+	 * Indicates whether the dependency can be loaded through the script loader.<br/>
+	 * jQuery and Wicket's scripts cannot, because inline scripts of the page rely on them.
+	 *
+	 * @param item the dependency
+	 * @return true or false
+	 */
+	private static boolean isLoadable(HeaderItem item)
+	{
+		if (item instanceof JavaScriptReferenceHeaderItem)
+		{
+			ResourceReference reference = ((JavaScriptReferenceHeaderItem) item).getReference();
+
+			if (Application.exists() && reference.equals(Application.get().getJavaScriptLibrarySettings().getJQueryReference()))
+			{
+				return false;
+			}
+
+			return !reference.getScope().getName().startsWith("org.apache.wicket.");
+		}
+
+		return false;
+	}
+
+	/**
+	 * Gets the script that waits for the supplied dependencies before running the statement
+	 *
+	 * @param depends the urls (or aliases) of the scripts the statement depends on
+	 * @param statement the statement
+	 * @return 'jQuery.loader.ready([...], function() { ... });'
+	 */
+	public static String ready(Collection<String> depends, CharSequence statement)
+	{
+		return String.format("jQuery.loader.ready(%s, function() { %s });", JQueryLoaderHeaderItem.toArray(depends), statement);
+	}
+
+	/**
+	 * Gets the javascript array of the supplied values
+	 *
+	 * @param values the values
+	 * @return the javascript array, like '["a","b"]'
+	 */
+	private static String toArray(Collection<String> values)
+	{
+		StringBuilder builder = new StringBuilder("[");
+
+		for (String value : values)
+		{
+			if (builder.length() > 1)
+			{
+				builder.append(",");
+			}
+
+			builder.append(Options.asString(value));
+		}
+
+		return builder.append("]").toString();
+	}
+
+
+	private final ResourceReference reference;
+	private final PageParameters parameters;
+	private final boolean async;
+	private final List<String> depends;
+	private final List<String> provides;
+
+	/**
+	 * Constructor
+	 *
+	 * @param reference the javascript {@link ResourceReference}
+	 * @param parameters the {@link PageParameters}, can be null
+	 * @param async true to execute the script as soon as it is loaded, false to execute it in order
+	 * @param provides the aliases the script provides once loaded, that statements can depend on
+	 */
+	public JQueryLoaderHeaderItem(ResourceReference reference, PageParameters parameters, boolean async, String... provides)
+	{
+		this(reference, parameters, async, Collections.<String> emptyList(), provides);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param reference the javascript {@link ResourceReference}
+	 * @param parameters the {@link PageParameters}, can be null
+	 * @param async true to execute the script as soon as it is loaded, false to execute it in order
+	 * @param depends the aliases the script waits for, in addition to the dependencies of the reference
+	 * @param provides the aliases the script provides once loaded, that statements can depend on
+	 */
+	public JQueryLoaderHeaderItem(ResourceReference reference, PageParameters parameters, boolean async, List<String> depends, String... provides)
+	{
+		this.reference = Args.notNull(reference, "reference");
+		this.parameters = parameters;
+		this.async = async;
+		this.depends = Args.notNull(depends, "depends");
+		this.provides = Arrays.asList(provides);
+	}
+
+	/**
+	 * Gets the url of the script, which also identifies the script in the loader
+	 *
+	 * @return the url
+	 */
+	public String getUrl()
+	{
+		return RequestCycle.get().urlFor(this.reference, this.parameters).toString();
+	}
+
+	@Override
+	public Iterable<?> getRenderTokens()
+	{
+		return Collections.singletonList("jquery-loader-" + this.getUrl());
+	}
+
+	@Override
+	public Iterable<? extends HeaderItem> getDependencies()
+	{
+		List<HeaderItem> dependencies = new ArrayList<HeaderItem>();
+		dependencies.add(JQueryLoaderHeaderItem.forLoader());
+
+		for (HeaderItem item : this.reference.getDependencies())
+		{
+			if (JQueryLoaderHeaderItem.isLoadable(item))
+			{
+				JavaScriptReferenceHeaderItem script = (JavaScriptReferenceHeaderItem) item;
+				dependencies.add(new JQueryLoaderHeaderItem(script.getReference(), script.getPageParameters(), this.async));
+			}
+			else
+			{
+				dependencies.add(item);
+			}
+		}
+
+		return dependencies;
+	}
+
+	/**
+	 * Gets the urls of the dependencies that are loaded through the script loader, followed by the aliases the script waits for
+	 *
+	 * @return the list of urls and aliases
+	 */
+	private List<String> getLoadedDependencies()
+	{
+		List<String> urls = new ArrayList<String>();
+
+		for (HeaderItem item : this.getDependencies())
+		{
+			if (item instanceof JQueryLoaderHeaderItem)
+			{
+				urls.add(((JQueryLoaderHeaderItem) item).getUrl());
+			}
+		}
+
+		urls.addAll(this.depends);
+
+		return urls;
+	}
+
+	@Override
+	public void render(Response response)
+	{
+		String script = String.format("jQuery.loader.load(%s, %s, %s, %b);", Options.asString(this.getUrl()), JQueryLoaderHeaderItem.toArray(this.getLoadedDependencies()), JQueryLoaderHeaderItem.toArray(this.provides), this.async);
+
+		JavaScriptUtils.writeJavaScript(response, script);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(new Object[] { this.reference, this.parameters, this.async, this.depends, this.provides });
+	}
+
+	@Override
+	public boolean equals(Object object)
+	{
+		if (object instanceof JQueryLoaderHeaderItem)
+		{
+			JQueryLoaderHeaderItem item = (JQueryLoaderHeaderItem) object;
+
+			return this.reference.equals(item.reference) && Objects.equal(this.parameters, item.parameters) && this.async == item.async && this.depends.equals(item.depends) && this.provides.equals(item.provides);
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "JQueryLoaderHeaderItem(" + this.reference + ", async=" + this.async + ")";
+	}
+
+	/**
+	 * {@link HeaderItem} of the script loader, rendered inline right after jQuery
+	 */
+	private static class LoaderHeaderItem extends HeaderItem
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public Iterable<?> getRenderTokens()
+		{
+			return Collections.singletonList(LOADER_TOKEN);
+		}
+
+		@Override
+		public Iterable<? extends HeaderItem> getDependencies()
+		{
+			return Collections.singletonList(JavaScriptHeaderItem.forReference(Application.get().getJavaScriptLibrarySettings().getJQueryReference()));
+		}
+
+		@Override
+		public void render(Response response)
+		{
+			JavaScriptUtils.writeJavaScript(response, JQueryLoaderHeaderItem.getLoaderScript(), LOADER_TOKEN);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return LOADER_TOKEN.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			return object instanceof LoaderHeaderItem;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "LoaderHeaderItem";
+		}
+	}
+}
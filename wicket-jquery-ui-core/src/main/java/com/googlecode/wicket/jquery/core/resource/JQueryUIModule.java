@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Defines the jQuery UI 1.10.4 modules and their dependency graph.<br/>
+ * When modular loading is enabled (see {@link com.googlecode.wicket.jquery.core.settings.JQueryLibrarySettings#setJQueryUIModular(boolean)}), behaviors only render the modules they need instead of the whole jQuery UI bundle.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public enum JQueryUIModule
+{
+	CORE("core"),
+	WIDGET("widget"),
+	MOUSE("mouse", WIDGET),
+	POSITION("position"),
+
+	/* interactions */
+	DRAGGABLE("draggable", CORE, MOUSE, WIDGET),
+	DROPPABLE("droppable", CORE, WIDGET, MOUSE, DRAGGABLE),
+	RESIZABLE("resizable", CORE, MOUSE, WIDGET),
+	SELECTABLE("selectable", CORE, MOUSE, WIDGET),
+	SORTABLE("sortable", CORE, MOUSE, WIDGET),
+
+	/* widgets */
+	ACCORDION("accordion", CORE, WIDGET),
+	MENU("menu", CORE, WIDGET, POSITION),
+	AUTOCOMPLETE("autocomplete", CORE, WIDGET, POSITION, MENU),
+	BUTTON("button", CORE, WIDGET),
+	DATEPICKER("datepicker", CORE),
+	DIALOG("dialog", CORE, WIDGET, BUTTON, DRAGGABLE, MOUSE, POSITION, RESIZABLE),
+	PROGRESSBAR("progressbar", CORE, WIDGET),
+	SLIDER("slider", CORE, MOUSE, WIDGET),
+	SPINNER("spinner", CORE, WIDGET, BUTTON),
+	TABS("tabs", CORE, WIDGET),
+	TOOLTIP("tooltip", CORE, WIDGET, POSITION),
+
+	/* effects */
+	EFFECT("effect"),
+	EFFECT_BLIND("effect-blind", EFFECT),
+	EFFECT_BOUNCE("effect-bounce", EFFECT),
+	EFFECT_CLIP("effect-clip", EFFECT),
+	EFFECT_DROP("effect-drop", EFFECT),
+	EFFECT_EXPLODE("effect-explode", EFFECT),
+	EFFECT_FADE("effect-fade", EFFECT),
+	EFFECT_FOLD("effect-fold", EFFECT),
+	EFFECT_HIGHLIGHT("effect-highlight", EFFECT),
+	EFFECT_PULSATE("effect-pulsate", EFFECT),
+	EFFECT_SCALE("effect-scale", EFFECT),
+	EFFECT_SHAKE("effect-shake", EFFECT),
+	EFFECT_SLIDE("effect-slide", EFFECT),
+	EFFECT_TRANSFER("effect-transfer", EFFECT);
+
+	private final String name;
+	private final List<JQueryUIModule> dependencies;
+	private final JQueryUIModuleResourceReference reference;
+
+	/**
+	 * Constructor
+	 *
+	 * @param name the module name, as in 'jquery.ui.[name].js'
+	 * @param dependencies the modules this module depends on
+	 */
+	private JQueryUIModule(String name, JQueryUIModule... dependencies)
+	{
+		this.name = name;
+		this.dependencies = Arrays.asList(dependencies);
+		this.reference = new JQueryUIModuleResourceReference(this);
+	}
+
+	/**
+	 * Gets the module name
+	 *
+	 * @return the module name
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Gets the modules this module directly depends on
+	 *
+	 * @return the list of {@link JQueryUIModule}
+	 */
+	public List<JQueryUIModule> getDependencies()
+	{
+		return this.dependencies;
+	}
+
+	/**
+	 * Gets the resource reference of the module
+	 *
+	 * @return the {@link JQueryUIModuleResourceReference}
+	 */
+	public JQueryUIModuleResourceReference getReference()
+	{
+		return this.reference;
+	}
+
+	/**
+	 * Gets the module that provides the supplied jQuery UI widget method
+	 *
+	 * @param method the jQuery UI method (ie: 'dialog', 'buttonset')
+	 * @return the {@link JQueryUIModule} or <tt>null</tt> if the method is not a jQuery UI one
+	 */
+	public static JQueryUIModule forMethod(String method)
+	{
+		if ("buttonset".equals(method))
+		{
+			return BUTTON;
+		}
+
+		for (JQueryUIModule module : JQueryUIModule.values())
+		{
+			if (module.name.equals(method))
+			{
+				return module;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets no module, for behaviors that do not depend on jQuery UI
+	 *
+	 * @return an empty array of {@link JQueryUIModule}
+	 */
+	public static JQueryUIModule[] none()
+	{
+		return new JQueryUIModule[] {};
+	}
+
+	/**
+	 * Gets all effect modules, including the effects core
+	 *
+	 * @return the array of {@link JQueryUIModule}
+	 */
+	public static JQueryUIModule[] effects()
+	{
+		JQueryUIModule[] values = JQueryUIModule.values();
+
+		return Arrays.copyOfRange(values, EFFECT.ordinal(), values.length);
+	}
+}
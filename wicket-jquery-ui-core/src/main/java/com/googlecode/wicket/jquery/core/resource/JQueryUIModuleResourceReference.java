@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+
+/**
+ * Provides the resource reference of a single jQuery UI module (see {@link JQueryUIModule}).<br/>
+ * The reference declares the references of the modules it depends on, so the header response resolves the minimal, ordered, set of modules.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryUIModuleResourceReference extends PrecompressedResourceReference
+{
+	private static final long serialVersionUID = 1L;
+
+	private final JQueryUIModule module;
+
+	/**
+	 * Constructor
+	 *
+	 * @param module the {@link JQueryUIModule}
+	 */
+	JQueryUIModuleResourceReference(JQueryUIModule module)
+	{
+		super(JQueryUIModuleResourceReference.class, "ui/jquery.ui." + module.getName() + ".js");
+
+		this.module = module;
+	}
+
+	/**
+	 * Gets the {@link JQueryUIModule}
+	 *
+	 * @return the {@link JQueryUIModule}
+	 */
+	public JQueryUIModule getModule()
+	{
+		return this.module;
+	}
+
+	@Override
+	public Iterable<? extends HeaderItem> getDependencies()
+	{
+		List<HeaderItem> dependencies = new ArrayList<HeaderItem>();
+
+		for (HeaderItem item : super.getDependencies())
+		{
+			dependencies.add(item);
+		}
+
+		for (JQueryUIModule dependency : this.module.getDependencies())
+		{
+			dependencies.add(JavaScriptHeaderItem.forReference(dependency.getReference()));
+		}
+
+		return dependencies;
+	}
+}
@@ -16,8 +16,6 @@
  */
 package com.googlecode.wicket.jquery.core.resource;
 
-import org.apache.wicket.resource.JQueryPluginResourceReference;
-
 import com.googlecode.wicket.jquery.core.settings.IJQueryLibrarySettings;
 
 /**
@@ -28,7 +26,7 @@ import com.googlecode.wicket.jquery.core.settings.IJQueryLibrarySettings;
  * @author Sebastien Briquet - sebfz1
  *
  */
-public class JQueryUIResourceReference extends JQueryPluginResourceReference
+public class JQueryUIResourceReference extends PrecompressedResourceReference
 {
 	private static final long serialVersionUID = 1L;
 
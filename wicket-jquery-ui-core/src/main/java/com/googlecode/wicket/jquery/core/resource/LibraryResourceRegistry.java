@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.IApplicationListener;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.ThreadContext;
+import org.apache.wicket.request.resource.ResourceReference;
+
+/**
+ * Provides the registry of the resource references (css &amp; javascript) shared by all instances of a behavior class.<br/>
+ * Behavior classes are registered by the {@link org.apache.wicket.IInitializer} of their module, along with the {@link IResourceProvider} that reads the references from the library settings.<br/>
+ * Once the application is initialized (so its library settings are set), the registry resolves an immutable list of references per registered class.<br/>
+ * Lists of unregistered (sub)classes are resolved on first use from their registered super classes, and cached.
+ *
+ * <code><pre>
+ * public class Initializer implements IInitializer
+ * {
+ *     public void init(Application application)
+ *     {
+ *         LibraryResourceRegistry.of(application).register(MyBehavior.class, MyBehavior.RESOURCES);
+ *     }
+ * }
+ * </pre></code>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class LibraryResourceRegistry
+{
+	private static final MetaDataKey<LibraryResourceRegistry> KEY = new MetaDataKey<LibraryResourceRegistry>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/** Registry used when there is no application (or no registry installed), which never has registered classes */
+	private static final LibraryResourceRegistry EMPTY = new LibraryResourceRegistry();
+
+	/**
+	 * Provides the resource references of a behavior class
+	 */
+	public interface IResourceProvider
+	{
+		/**
+		 * Gets the resource references, read from the library settings of the current application
+		 *
+		 * @return the list of {@link ResourceReference}<tt>s</tt>, may contain null values that are ignored
+		 */
+		List<ResourceReference> getResourceReferences();
+	}
+
+	/**
+	 * Gets the {@link LibraryResourceRegistry} of the supplied {@link Application}, installing it if needed.<br/>
+	 * This is intended to be called by {@link org.apache.wicket.IInitializer}<tt>s</tt>.
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link LibraryResourceRegistry}
+	 */
+	public static synchronized LibraryResourceRegistry of(final Application application)
+	{
+		LibraryResourceRegistry registry = application.getMetaData(KEY);
+
+		if (registry == null)
+		{
+			final LibraryResourceRegistry installed = new LibraryResourceRegistry();
+			application.setMetaData(KEY, installed);
+
+			application.getApplicationListeners().add(new IApplicationListener() {
+
+				@Override
+				public void onAfterInitialized(Application application)
+				{
+					installed.build(application);
+				}
+
+				@Override
+				public void onBeforeDestroyed(Application application)
+				{
+					// noop
+				}
+			});
+
+			registry = installed;
+		}
+
+		return registry;
+	}
+
+	/**
+	 * Gets the {@link LibraryResourceRegistry} of the current application
+	 *
+	 * @return the {@link LibraryResourceRegistry}, or an empty registry if there is no application or no registry installed
+	 */
+	public static LibraryResourceRegistry get()
+	{
+		if (Application.exists())
+		{
+			LibraryResourceRegistry registry = Application.get().getMetaData(KEY);
+
+			if (registry != null)
+			{
+				return registry;
+			}
+		}
+
+		return EMPTY;
+	}
+
+
+	private final ConcurrentMap<Class<?>, IResourceProvider> providers;
+	private final ConcurrentMap<Class<?>, List<ResourceReference>> references;
+
+	/**
+	 * Constructor
+	 */
+	private LibraryResourceRegistry()
+	{
+		this.providers = new ConcurrentHashMap<Class<?>, IResourceProvider>();
+		this.references = new ConcurrentHashMap<Class<?>, List<ResourceReference>>();
+	}
+
+	/**
+	 * Registers the {@link IResourceProvider} of a behavior class
+	 *
+	 * @param type the behavior class
+	 * @param provider the {@link IResourceProvider}
+	 */
+	public void register(Class<?> type, IResourceProvider provider)
+	{
+		this.providers.put(type, provider);
+		this.references.clear();
+	}
+
+	/**
+	 * Resolves the resource references of the registered classes
+	 *
+	 * @param application the {@link Application}, which library settings are read
+	 */
+	private void build(Application application)
+	{
+		boolean attached = Application.exists();
+
+		if (!attached)
+		{
+			ThreadContext.setApplication(application);
+		}
+
+		try
+		{
+			for (Entry<Class<?>, IResourceProvider> entry : this.providers.entrySet())
+			{
+				this.getResourceReferences(entry.getKey());
+			}
+		}
+		finally
+		{
+			if (!attached)
+			{
+				ThreadContext.setApplication(null);
+			}
+		}
+	}
+
+	/**
+	 * Gets the resource references of a behavior class: the ones of its registered super classes first, then its own.
+	 *
+	 * @param type the behavior class
+	 * @return the immutable list of {@link ResourceReference}<tt>s</tt>
+	 */
+	public List<ResourceReference> getResourceReferences(Class<?> type)
+	{
+		List<ResourceReference> list = this.references.get(type);
+
+		if (list == null)
+		{
+			list = this.resolve(type);
+
+			List<ResourceReference> previous = this.references.putIfAbsent(type, list);
+
+			if (previous != null)
+			{
+				list = previous;
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Resolves the resource references of a behavior class
+	 *
+	 * @param type the behavior class
+	 * @return the immutable list of {@link ResourceReference}<tt>s</tt>
+	 */
+	private List<ResourceReference> resolve(Class<?> type)
+	{
+		List<ResourceReference> list = new ArrayList<ResourceReference>();
+		Class<?> superclass = type.getSuperclass();
+
+		if (superclass != null)
+		{
+			list.addAll(this.getResourceReferences(superclass));
+		}
+
+		IResourceProvider provider = this.providers.get(type);
+
+		if (provider != null)
+		{
+			for (ResourceReference reference : provider.getResourceReferences())
+			{
+				if (reference != null && !list.contains(reference))
+				{
+					list.add(reference);
+				}
+			}
+		}
+
+		if (list.isEmpty())
+		{
+			return Collections.emptyList();
+		}
+
+		return Collections.unmodifiableList(list);
+	}
+}
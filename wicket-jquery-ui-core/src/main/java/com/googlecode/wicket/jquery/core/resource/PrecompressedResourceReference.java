@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.request.http.WebRequest;
+import org.apache.wicket.request.resource.JavaScriptPackageResource;
+import org.apache.wicket.resource.JQueryPluginResourceReference;
+import org.apache.wicket.util.io.IOUtils;
+import org.apache.wicket.util.lang.Packages;
+import org.apache.wicket.util.resource.IResourceStream;
+import org.apache.wicket.util.resource.ResourceStreamNotFoundException;
+import org.apache.wicket.util.string.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides a javascript resource reference that serves the best pre-compressed variant of the resource, according to the request's 'Accept-Encoding' header.<br/>
+ * Variants are siblings of the resource: 'name.js.br' (brotli) and 'name.js.gz' (gzip), written at build time by the 'precompress-resources' execution of the parent pom.<br/>
+ * If no variant is accepted or available, the resource is served as usual.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class PrecompressedResourceReference extends JQueryPluginResourceReference
+{
+	private static final long serialVersionUID = 1L;
+
+	/** Extension of brotli variants */
+	public static final String BROTLI_EXTENSION = ".br";
+
+	/** Extension of gzip variants */
+	public static final String GZIP_EXTENSION = ".gz";
+
+	/** Supported content-codings, in order of preference */
+	private static final String[][] ENCODINGS = { { "br", BROTLI_EXTENSION }, { "gzip", GZIP_EXTENSION } };
+
+	/**
+	 * Constructor
+	 *
+	 * @param scope the scope
+	 * @param name the name of the resource
+	 */
+	public PrecompressedResourceReference(Class<?> scope, String name)
+	{
+		super(scope, name);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param scope the scope
+	 * @param name the name of the resource
+	 * @param locale the locale
+	 * @param style the style
+	 * @param variation the variation
+	 */
+	public PrecompressedResourceReference(Class<?> scope, String name, Locale locale, String style, String variation)
+	{
+		super(scope, name, locale, style, variation);
+	}
+
+	@Override
+	public JavaScriptPackageResource getResource()
+	{
+		JavaScriptPackageResource resource = new PrecompressedPackageResource(this.getScope(), this.getName(), this.getLocale(), this.getStyle(), this.getVariation());
+		this.removeCompressFlagIfUnnecessary(resource);
+
+		return resource;
+	}
+
+	/**
+	 * Indicates whether the content-coding is accepted by the 'Accept-Encoding' header value
+	 *
+	 * @param header the 'Accept-Encoding' header value
+	 * @param coding the content-coding (ie: 'gzip')
+	 * @return true if the coding is listed with a non-zero quality, or if it is not listed and '*' is listed with a non-zero quality
+	 */
+	static boolean accepts(String header, String coding)
+	{
+		if (header == null)
+		{
+			return false;
+		}
+
+		double wildcard = 0;
+		boolean any = false;
+
+		for (String item : Strings.split(header, ','))
+		{
+			String[] parts = Strings.split(item, ';');
+			String token = parts[0].trim();
+
+			// an explicit coding takes precedence over '*' //
+			if (token.equalsIgnoreCase(coding))
+			{
+				return quality(parts) > 0;
+			}
+
+			if (token.equals("*"))
+			{
+				wildcard = quality(parts);
+				any = true;
+			}
+		}
+
+		return any && wildcard > 0;
+	}
+
+	/**
+	 * Gets the quality value of an 'Accept-Encoding' item
+	 *
+	 * @param parts the item, split on ';'
+	 * @return the 'q' parameter, 1 if missing, 0 if malformed
+	 */
+	private static double quality(String[] parts)
+	{
+		for (int i = 1; i < parts.length; i++)
+		{
+			String[] parameter = Strings.split(parts[i], '=');
+
+			if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q"))
+			{
+				try
+				{
+					return Double.parseDouble(parameter[1].trim());
+				}
+				catch (NumberFormatException e)
+				{
+					return 0;
+				}
+			}
+		}
+
+		return 1;
+	}
+
+	/**
+	 * Provides the {@link JavaScriptPackageResource} that streams the pre-compressed variants
+	 */
+	private static class PrecompressedPackageResource extends JavaScriptPackageResource
+	{
+		private static final long serialVersionUID = 1L;
+		private static final Logger LOG = LoggerFactory.getLogger(PrecompressedPackageResource.class);
+
+		private final String name;
+		private final Locale locale;
+		private final String variation;
+
+		public PrecompressedPackageResource(Class<?> scope, String name, Locale locale, String style, String variation)
+		{
+			super(scope, name, locale, style, variation);
+
+			this.name = name;
+			this.locale = locale;
+			this.variation = variation;
+		}
+
+		/**
+		 * Gets the variant stream
+		 *
+		 * @param extension the variant extension
+		 * @return the {@link IResourceStream} or null if the variant does not exist
+		 */
+		private IResourceStream getVariantStream(String extension)
+		{
+			String path = Packages.absolutePath(this.getScope(), this.name + extension);
+
+			return Application.get().getResourceSettings().getResourceStreamLocator().locate(this.getScope(), path, this.getStyle(), this.variation, this.locale, null, false);
+		}
+
+		@Override
+		protected ResourceResponse newResourceResponse(Attributes attributes)
+		{
+			// variants contain the bytes of the resource, as-is
+			if (this.getCompress() && this.getCompressor() != null)
+			{
+				return super.newResourceResponse(attributes);
+			}
+
+			// checks the resource exists and is accepted by the package resource guard
+			if (this.getResourceStream() == null)
+			{
+				return super.newResourceResponse(attributes);
+			}
+
+			String header = ((WebRequest) attributes.getRequest()).getHeader("Accept-Encoding");
+			boolean vary = false;
+
+			for (String[] encoding : ENCODINGS)
+			{
+				IResourceStream stream = this.getVariantStream(encoding[1]);
+
+				if (stream != null)
+				{
+					if (accepts(header, encoding[0]))
+					{
+						ResourceResponse response = this.newVariantResponse(attributes, stream, encoding[0]);
+
+						if (response != null)
+						{
+							return response;
+						}
+					}
+
+					vary = true;
+				}
+			}
+
+			ResourceResponse response = super.newResourceResponse(attributes);
+
+			if (vary)
+			{
+				response.getHeaders().addHeader("Vary", "Accept-Encoding");
+			}
+
+			return response;
+		}
+
+		/**
+		 * Gets the {@link ResourceResponse} of a variant
+		 *
+		 * @param attributes the {@link Attributes}
+		 * @param stream the variant {@link IResourceStream}
+		 * @param coding the variant content-coding
+		 * @return the {@link ResourceResponse}, or null if the variant cannot be read
+		 */
+		private ResourceResponse newVariantResponse(Attributes attributes, IResourceStream stream, String coding)
+		{
+			ResourceResponse response = new ResourceResponse();
+			response.setLastModified(stream.lastModifiedTime());
+			response.getHeaders().addHeader("Vary", "Accept-Encoding");
+
+			if (response.dataNeedsToBeWritten(attributes))
+			{
+				try
+				{
+					final byte[] bytes = IOUtils.toByteArray(stream.getInputStream());
+
+					response.setContentType("text/javascript");
+					response.setTextEncoding(this.getTextEncoding());
+					response.setContentLength(bytes.length);
+					response.getHeaders().addHeader("Content-Encoding", coding);
+					response.setWriteCallback(new WriteCallback() {
+
+						@Override
+						public void writeData(Attributes attributes)
+						{
+							attributes.getResponse().write(bytes);
+						}
+					});
+				}
+				catch (IOException e)
+				{
+					LOG.warn(e.getMessage(), e);
+					return null;
+				}
+				catch (ResourceStreamNotFoundException e)
+				{
+					LOG.warn(e.getMessage(), e);
+					return null;
+				}
+				finally
+				{
+					IOUtils.closeQuietly(stream);
+				}
+			}
+
+			return response;
+		}
+	}
+}
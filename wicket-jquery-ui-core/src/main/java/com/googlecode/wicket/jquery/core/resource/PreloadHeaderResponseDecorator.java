@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.Component;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.Page;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.application.IComponentOnAfterRenderListener;
+import org.apache.wicket.markup.head.CssReferenceHeaderItem;
+import org.apache.wicket.markup.head.CssUrlReferenceHeaderItem;
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.IWrappedHeaderItem;
+import org.apache.wicket.markup.head.JavaScriptReferenceHeaderItem;
+import org.apache.wicket.markup.head.JavaScriptUrlReferenceHeaderItem;
+import org.apache.wicket.markup.html.DecoratingHeaderResponse;
+import org.apache.wicket.markup.html.IHeaderResponseDecorator;
+import org.apache.wicket.request.Response;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.handler.resource.ResourceReferenceRequestHandler;
+import org.apache.wicket.request.http.WebResponse;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.request.resource.ResourceReference;
+import org.apache.wicket.util.string.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides a {@link IHeaderResponseDecorator} that collects the javascript and stylesheet resources rendered by a page - including their dependencies - and emits preload hints for them,
+ * so the browser starts downloading the widget libraries before it parses their &lt;script /&gt; tags.<br/>
+ * <br/>
+ * Hints are emitted either as a HTTP 'Link' header (which can be turned to 103 Early Hints by a front server), or as &lt;link rel="preload" /&gt; tags.<br/>
+ * As header items are rendered at the top of the &lt;head /&gt;, the tags are only emitted for the scripts loaded by the jQuery loader (see {@link JQueryLoaderHeaderItem}), which the browser cannot discover from the markup.<br/>
+ * Ajax responses are not affected.<br/>
+ * {@link #install(Application, PreloadHeaderResponseDecorator)} chains the decorator with the one already set to the application, if any.<br/>
+ * <br/>
+ * Usage:
+ * <pre><code>
+ * public void init()
+ * {
+ *     super.init();
+ *
+ *     PreloadHeaderResponseDecorator.install(this, new PreloadHeaderResponseDecorator(true, null));
+ * }
+ * </code></pre>
+ *
+ * <b>Note:</b> when used with the KendoUIHeaderResponseDecorator, the latter should receive the header items first, so the merged Kendo UI bundle is preloaded:
+ * either chain it (<code>new PreloadHeaderResponseDecorator(new KendoUIHeaderResponseDecorator())</code>) or set it before calling {@link #install(Application, PreloadHeaderResponseDecorator)}
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class PreloadHeaderResponseDecorator extends ChainingHeaderResponseDecorator
+{
+	private static final Logger LOG = LoggerFactory.getLogger(PreloadHeaderResponseDecorator.class);
+
+	/** Request metadata key of the 'Link' header value */
+	private static final MetaDataKey<String> LINK_HEADER = new MetaDataKey<String>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * {@link IComponentOnAfterRenderListener} that adds the 'Link' header to the page response.<br/>
+	 * The &lt;head /&gt; being rendered into a temporary response, the header is added once the page is rendered, while the page response is still buffered.
+	 */
+	private static final IComponentOnAfterRenderListener LINK_HEADER_LISTENER = new IComponentOnAfterRenderListener() {
+
+		@Override
+		public void onAfterRender(Component component)
+		{
+			if (component instanceof Page)
+			{
+				RequestCycle requestCycle = RequestCycle.get();
+				String value = requestCycle.getMetaData(LINK_HEADER);
+
+				if (value != null && requestCycle.getResponse() instanceof WebResponse)
+				{
+					((WebResponse) requestCycle.getResponse()).addHeader("Link", value);
+					requestCycle.setMetaData(LINK_HEADER, null);
+				}
+			}
+		}
+	};
+
+	/**
+	 * Sets the decorator as the application's {@link IHeaderResponseDecorator}, chained with the one that may already be set (the latter receiving the header items first).<br/>
+	 * If the decorator emits the 'Link' header, it also registers the listener that adds the header to page responses.
+	 *
+	 * @param application the {@link Application}
+	 * @param decorator the {@link PreloadHeaderResponseDecorator}
+	 */
+	public static void install(Application application, final PreloadHeaderResponseDecorator decorator)
+	{
+		IHeaderResponseDecorator existing = PreloadHeaderResponseDecorator.getHeaderResponseDecorator(application);
+
+		if (existing == null || existing == decorator)
+		{
+			application.setHeaderResponseDecorator(decorator);
+		}
+		else
+		{
+			application.setHeaderResponseDecorator(new ChainingHeaderResponseDecorator(existing) {
+
+				@Override
+				protected IHeaderResponse newHeaderResponse(IHeaderResponse response)
+				{
+					return decorator.decorate(response);
+				}
+			});
+		}
+
+		if (decorator.linkHeader && !PreloadHeaderResponseDecorator.contains(application.getComponentOnAfterRenderListeners(), LINK_HEADER_LISTENER))
+		{
+			application.getComponentOnAfterRenderListeners().add(LINK_HEADER_LISTENER);
+		}
+	}
+
+	/**
+	 * Gets the {@link IHeaderResponseDecorator} currently set to the application.<br/>
+	 * Wicket 6 does not provide a getter, so the field is read by reflection.
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link IHeaderResponseDecorator}, or null if none is set (or if it cannot be read)
+	 */
+	private static IHeaderResponseDecorator getHeaderResponseDecorator(Application application)
+	{
+		try
+		{
+			Field field = Application.class.getDeclaredField("headerResponseDecorator");
+			field.setAccessible(true);
+
+			return (IHeaderResponseDecorator) field.get(application);
+		}
+		catch (Exception e)
+		{
+			LOG.warn("Unable to read the application's header response decorator, it will be replaced", e);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Indicates whether the listener has already been registered
+	 *
+	 * @param listeners the listeners
+	 * @param listener the listener
+	 * @return true or false
+	 */
+	private static boolean contains(Iterable<IComponentOnAfterRenderListener> listeners, IComponentOnAfterRenderListener listener)
+	{
+		for (IComponentOnAfterRenderListener l : listeners)
+		{
+			if (l == listener)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Interface for {@link HeaderItem}<code>s</code> that are not resource reference items but render some (ie: a bundle)
+	 */
+	public interface IPreloadableHeaderItem
+	{
+		/**
+		 * Gets the resource reference items that are actually rendered
+		 *
+		 * @return the {@link HeaderItem}<code>s</code>
+		 */
+		Iterable<? extends HeaderItem> getPreloadableItems();
+	}
+
+
+	private final boolean linkHeader;
+
+	/**
+	 * Constructor, which emits &lt;link rel="preload" /&gt; tags for the scripts loaded by the jQuery loader
+	 */
+	public PreloadHeaderResponseDecorator()
+	{
+		this(false, null);
+	}
+
+	/**
+	 * Constructor, which emits &lt;link rel="preload" /&gt; tags for the scripts loaded by the jQuery loader
+	 *
+	 * @param decorator another {@link IHeaderResponseDecorator} to chain with, can be null
+	 */
+	public PreloadHeaderResponseDecorator(IHeaderResponseDecorator decorator)
+	{
+		this(false, decorator);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param linkHeader whether hints are emitted as a HTTP 'Link' header rather than &lt;link /&gt; tags (see {@link #install(Application, PreloadHeaderResponseDecorator)})
+	 * @param decorator another {@link IHeaderResponseDecorator} to chain with, can be null
+	 */
+	public PreloadHeaderResponseDecorator(boolean linkHeader, IHeaderResponseDecorator decorator)
+	{
+		super(decorator);
+
+		this.linkHeader = linkHeader;
+	}
+
+	@Override
+	protected IHeaderResponse newHeaderResponse(IHeaderResponse response)
+	{
+		return new PreloadHeaderResponse(response, this.linkHeader);
+	}
+
+	/**
+	 * {@link IHeaderResponse} that collects the urls of the rendered resources and emits their hints on close
+	 */
+	private static class PreloadHeaderResponse extends DecoratingHeaderResponse
+	{
+		/** url -&gt; destination ('script' or 'style') */
+		private final Map<String, String> hints = new LinkedHashMap<String, String>();
+		/** urls of the scripts that are loaded by the jQuery loader */
+		private final Set<String> loaded = new HashSet<String>();
+		private final boolean linkHeader;
+
+		public PreloadHeaderResponse(IHeaderResponse response, boolean linkHeader)
+		{
+			super(response);
+
+			this.linkHeader = linkHeader;
+		}
+
+		@Override
+		public void render(HeaderItem item)
+		{
+			if (!this.isClosed())
+			{
+				this.collect(item);
+			}
+
+			super.render(item);
+		}
+
+		/**
+		 * Collects the url of the item, after the ones of its dependencies
+		 *
+		 * @param item the {@link HeaderItem}
+		 */
+		private void collect(HeaderItem item)
+		{
+			for (HeaderItem dependency : item.getDependencies())
+			{
+				this.collect(dependency);
+			}
+
+			if (item instanceof IWrappedHeaderItem)
+			{
+				this.collect(((IWrappedHeaderItem) item).getWrapped());
+			}
+			else if (item instanceof IPreloadableHeaderItem)
+			{
+				for (HeaderItem preloadable : ((IPreloadableHeaderItem) item).getPreloadableItems())
+				{
+					this.collect(preloadable);
+				}
+			}
+			else if (item instanceof JavaScriptReferenceHeaderItem)
+			{
+				JavaScriptReferenceHeaderItem reference = (JavaScriptReferenceHeaderItem) item;
+				this.hint(PreloadHeaderResponse.urlFor(reference.getReference(), reference.getPageParameters()), "script");
+			}
+			else if (item instanceof JQueryLoaderHeaderItem)
+			{
+				String url = ((JQueryLoaderHeaderItem) item).getUrl();
+
+				this.hint(url, "script");
+				this.loaded.add(url);
+			}
+			else if (item instanceof JavaScriptUrlReferenceHeaderItem)
+			{
+				this.hint(((JavaScriptUrlReferenceHeaderItem) item).getUrl(), "script");
+			}
+			else if (item instanceof CssReferenceHeaderItem)
+			{
+				CssReferenceHeaderItem reference = (CssReferenceHeaderItem) item;
+				this.hint(PreloadHeaderResponse.urlFor(reference.getReference(), reference.getPageParameters()), "style");
+			}
+			else if (item instanceof CssUrlReferenceHeaderItem)
+			{
+				this.hint(((CssUrlReferenceHeaderItem) item).getUrl(), "style");
+			}
+		}
+
+		private void hint(CharSequence url, String destination)
+		{
+			if (!Strings.isEmpty(url) && !this.hints.containsKey(url.toString()))
+			{
+				this.hints.put(url.toString(), destination);
+			}
+		}
+
+		private static CharSequence urlFor(ResourceReference reference, PageParameters parameters)
+		{
+			return RequestCycle.get().urlFor(new ResourceReferenceRequestHandler(reference, parameters));
+		}
+
+		@Override
+		public void close()
+		{
+			RequestCycle requestCycle = RequestCycle.get();
+
+			if (!this.hints.isEmpty() && requestCycle.find(AjaxRequestTarget.class) == null)
+			{
+				if (this.linkHeader)
+				{
+					requestCycle.setMetaData(LINK_HEADER, this.toLinkHeader());
+				}
+				else
+				{
+					this.writeLinks(this.getResponse());
+				}
+			}
+
+			this.hints.clear();
+			this.loaded.clear();
+
+			super.close();
+		}
+
+		/**
+		 * Writes the &lt;link rel="preload" /&gt; tags of the scripts loaded by the jQuery loader.<br/>
+		 * The tags are written before the header items, which are themselves rendered at the top of the &lt;head /&gt;; this is why the resources rendered as &lt;script /&gt; or &lt;link /&gt; tags are not hinted:
+		 * the browser discovers them as early as their hints, whereas it cannot discover the scripts that are injected by the loader.
+		 *
+		 * @param response the {@link Response}
+		 */
+		private void writeLinks(Response response)
+		{
+			for (Entry<String, String> hint : this.hints.entrySet())
+			{
+				if (this.loaded.contains(hint.getKey()))
+				{
+					response.write("<link rel=\"preload\" href=\"" + Strings.escapeMarkup(hint.getKey()) + "\" as=\"" + hint.getValue() + "\" />\n");
+				}
+			}
+		}
+
+		/**
+		 * Gets the value of the 'Link' header, ie: <code>&lt;url1&gt;; rel=preload; as=script, &lt;url2&gt;; rel=preload; as=style</code>
+		 *
+		 * @return the header value
+		 */
+		private String toLinkHeader()
+		{
+			StringBuilder builder = new StringBuilder();
+
+			for (Entry<String, String> hint : this.hints.entrySet())
+			{
+				if (builder.length() > 0)
+				{
+					builder.append(", ");
+				}
+
+				builder.append('<').append(hint.getKey()).append(">; rel=preload; as=").append(hint.getValue());
+			}
+
+			return builder.toString();
+		}
+	}
+}
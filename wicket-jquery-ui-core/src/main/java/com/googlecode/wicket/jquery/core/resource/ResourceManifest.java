@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the manifest of the content hashes of the bundled resources.<br/>
+ * The manifest ('{@value #PATH}') is generated at build time by each library module (see the 'resource-manifest' execution of the parent pom, which runs the ResourceManifestGenerator of the wicket-jquery-ui-build module),
+ * and all manifests of the classpath are loaded at once by {@link #load()}.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class ResourceManifest
+{
+	/** Classpath location of the manifest */
+	public static final String PATH = "META-INF/wicket-jquery-ui.manifest";
+
+	/**
+	 * Loads all the manifests of the classpath
+	 *
+	 * @return the {@link ResourceManifest}
+	 * @throws IOException if a manifest cannot be read
+	 */
+	public static ResourceManifest load() throws IOException
+	{
+		Map<String, String> hashes = new HashMap<String, String>();
+		ClassLoader loader = ResourceManifest.class.getClassLoader();
+		Enumeration<URL> urls = loader.getResources(PATH);
+
+		while (urls.hasMoreElements())
+		{
+			BufferedReader reader = new BufferedReader(new InputStreamReader(urls.nextElement().openStream(), "UTF-8"));
+
+			try
+			{
+				for (String line = reader.readLine(); line != null; line = reader.readLine())
+				{
+					int index = line.lastIndexOf('=');
+
+					if (index > 0)
+					{
+						hashes.put(line.substring(0, index), line.substring(index + 1));
+					}
+				}
+			}
+			finally
+			{
+				reader.close();
+			}
+		}
+
+		return new ResourceManifest(hashes);
+	}
+
+
+	private final Map<String, String> hashes;
+
+	/**
+	 * Constructor
+	 *
+	 * @param hashes the map of resource paths and hashes
+	 */
+	private ResourceManifest(Map<String, String> hashes)
+	{
+		this.hashes = Collections.unmodifiableMap(hashes);
+	}
+
+	/**
+	 * Gets the number of resources of the manifest
+	 *
+	 * @return the number of resources
+	 */
+	public int size()
+	{
+		return this.hashes.size();
+	}
+
+	/**
+	 * Gets the content hash of a resource
+	 *
+	 * @param path the classpath location of the resource (ie: 'com/googlecode/wicket/jquery/core/resource/globalize.js')
+	 * @return the hash, or null if the resource is not part of the manifest
+	 */
+	public String getHash(String path)
+	{
+		return this.hashes.get(path);
+	}
+
+	/**
+	 * Finds the content hash of a resource, given its location (an url or a file path).<br/>
+	 * The location is matched against the manifest from its rightmost segments, so it works for both jar and directory class paths.
+	 *
+	 * @param location the location of the resource
+	 * @return the hash, or null if the resource is not part of the manifest
+	 */
+	public String findHash(String location)
+	{
+		String path = location.replace('\\', '/');
+		int index = path.lastIndexOf("!/");
+
+		if (index >= 0)
+		{
+			return this.getHash(path.substring(index + 2));
+		}
+
+		for (index = path.indexOf('/'); index >= 0; index = path.indexOf('/', index + 1))
+		{
+			String hash = this.getHash(path.substring(index + 1));
+
+			if (hash != null)
+			{
+				return hash;
+			}
+		}
+
+		return null;
+	}
+}
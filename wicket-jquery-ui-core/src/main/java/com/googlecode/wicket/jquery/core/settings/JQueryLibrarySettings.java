@@ -19,6 +19,7 @@ package com.googlecode.wicket.jquery.core.settings;
 import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.def.JavaScriptLibrarySettings;
 
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 import com.googlecode.wicket.jquery.core.resource.JQueryUIResourceReference;
 
 /**
@@ -34,6 +35,8 @@ import com.googlecode.wicket.jquery.core.resource.JQueryUIResourceReference;
  *         IJQueryLibrarySettings settings = new JQueryLibrarySettings();
  *         settings.setJQueryReference(new PackageResourceReference(SampleApplication.class, "jquery-1.9.1.js"));	// jQuery
  *         settings.setJQueryGlobalizeReference(JQueryGlobalizeResourceReference.get());							// jQuery Globalize
+ *         settings.setJQueryUIModular(true);																		// only loads the jQuery UI modules used by the page
+ *         settings.setLoadingMode(LoadingMode.DEFER);																// libraries do not block the page rendering
  *
  *         this.setJavaScriptLibrarySettings(settings);
  *     }
@@ -45,29 +48,26 @@ import com.googlecode.wicket.jquery.core.resource.JQueryUIResourceReference;
  * @author Sebastien Briquet - sebfz1
  *
  */
-public class JQueryLibrarySettings extends JavaScriptLibrarySettings implements IJQueryLibrarySettings
+public class JQueryLibrarySettings extends JavaScriptLibrarySettings implements IJQueryLibrarySettings, IJQueryLoaderSettings
 {
-	private static JQueryLibrarySettings instance = null;
+	private static final JQueryLibrarySettings INSTANCE = new JQueryLibrarySettings();
 
 	private ResourceReference jQueryUIReference = JQueryUIResourceReference.get();
 	private ResourceReference jQueryGlobalizeReference = null; //null by default, meaning the user has to set it explicitly
-
+	private boolean jQueryUIModular = false;
+	private LoadingMode loadingMode = LoadingMode.BLOCKING;
+
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link JQueryLibrarySettings} instance
 	 * @return the {@link JQueryLibrarySettings} instance
 	 */
-	public static synchronized JQueryLibrarySettings get()
+	public static JQueryLibrarySettings get()
 	{
-		if (JQueryLibrarySettings.instance == null)
-		{
-			JQueryLibrarySettings.instance = new JQueryLibrarySettings();
-		}
-
-		return JQueryLibrarySettings.instance;
+		return JQueryLibrarySettings.INSTANCE;
 	}
-
-
+
+
 	/**
 	 * Constructor
 	 */
@@ -75,7 +75,7 @@ public class JQueryLibrarySettings extends JavaScriptLibrarySettings implements
 	{
 	}
 
-	// jQuery UI //
+	// jQuery UI //
 	@Override
 	public ResourceReference getJQueryUIReference()
 	{
@@ -86,8 +86,48 @@ public class JQueryLibrarySettings extends JavaScriptLibrarySettings implements
 	public void setJQueryUIReference(ResourceReference reference)
 	{
 		this.jQueryUIReference = reference;
-	}
-
+	}
+
+	/**
+	 * Indicates whether jQuery UI is loaded per module (see {@link JQueryUIModule})
+	 *
+	 * @return true if only the modules needed by the behaviors of the page are rendered, false if the whole jQuery UI reference is rendered
+	 */
+	public boolean isJQueryUIModular()
+	{
+		return this.jQueryUIModular;
+	}
+
+	/**
+	 * Sets whether jQuery UI is loaded per module (see {@link JQueryUIModule}).<br/>
+	 * If true, behaviors render the modules they need (and their dependencies) instead of the reference returned by {@link #getJQueryUIReference()}.<br/>
+	 * <b>Note:</b> jQuery UI is still not rendered at all if {@link #getJQueryUIReference()} is null.
+	 *
+	 * @param modular true to load jQuery UI per module
+	 */
+	public void setJQueryUIModular(boolean modular)
+	{
+		this.jQueryUIModular = modular;
+	}
+
+	// Loading mode //
+	@Override
+	public LoadingMode getLoadingMode()
+	{
+		return this.loadingMode;
+	}
+
+	/**
+	 * Sets the {@link LoadingMode} of the javascript libraries.<br/>
+	 * If the mode is not {@link LoadingMode#BLOCKING}, libraries are loaded by the script loader and widget statements are queued until the libraries they depend on are loaded.
+	 *
+	 * @param mode the {@link LoadingMode}
+	 */
+	public void setLoadingMode(LoadingMode mode)
+	{
+		this.loadingMode = mode != null ? mode : LoadingMode.BLOCKING;
+	}
+
 	// jQuery Globalize //
 	@Override
 	public ResourceReference getJQueryGlobalizeReference()
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.settings;
+
+/**
+ * Specifies how the javascript libraries (jQuery UI, plugins, Kendo UI, ...) are loaded by the page.<br/>
+ * <b>Note:</b> jQuery itself, as well as Wicket's scripts, are always loaded the usual way.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public enum LoadingMode
+{
+	/** Libraries are rendered as regular script tags, which block the page rendering (default) */
+	BLOCKING,
+	/** Libraries are inserted by the script loader and executed in order, after the page has been parsed */
+	DEFER,
+	/** Libraries are inserted by the script loader as soon as their dependencies are loaded, and executed as soon as they are loaded */
+	ASYNC;
+}
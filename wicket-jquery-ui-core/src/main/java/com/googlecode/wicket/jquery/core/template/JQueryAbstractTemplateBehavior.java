@@ -26,7 +26,11 @@ import org.apache.wicket.request.resource.PackageResourceReference;
 
 /**
  * Provides the base class for jQuery template behavior.<br/>
- * A template behavior is designed to render a &lt;script id="jquery-template-123456" type="text/x-xxx" /&gt; block, coming from the JQueryResourceStream returned by {@link #newResourceStream()}
+ * A template behavior is designed to render a &lt;script id="jquery-template-123456" type="text/x-xxx" /&gt; block, coming from the JQueryResourceStream returned by {@link #newResourceStream()}<br/>
+ * <br/>
+ * If the template content is known (see {@link #getContent()}), the script id is derived from the content hash, so components having the same template share the same block.<br/>
+ * If the template can also be resolved from its class (see {@link #getTemplateClass()}), the block is not rendered inline but served by the shared {@link JQueryTemplateResourceReference},
+ * so the template is shipped only once and cached by the clients.
  *
  * @author Sebastien Briquet - sebfz1
  */
@@ -35,6 +39,12 @@ public abstract class JQueryAbstractTemplateBehavior extends Behavior
 	private static final long serialVersionUID = 1L;
 	public static final PackageResourceReference TMPL_JS = new JavaScriptResourceReference(JQueryAbstractTemplateBehavior.class, "jquery.tmpl.min.js");
 
+	/** the token, computed once */
+	private String token = null;
+
+	/** the hash of the served script, computed once */
+	private String version = null;
+
 	/**
 	 * Constructor
 	 */
@@ -48,16 +58,84 @@ public abstract class JQueryAbstractTemplateBehavior extends Behavior
 		super.renderHead(component, response);
 
 		response.render(JavaScriptHeaderItem.forReference(JQueryAbstractTemplateBehavior.TMPL_JS));
-		response.render(StringHeaderItem.forString(this.newResourceStream().getString()));
+
+		JQueryResourceStream stream = this.newResourceStream();
+
+		Class<? extends IJQueryTemplate> templateClass = this.getTemplateClass();
+
+		if (this.getContent() != null && templateClass != null && JQueryTemplateResourceReference.isResolvable(templateClass, stream))
+		{
+			if (this.version == null)
+			{
+				this.version = JQueryTemplateResourceReference.hash(JQueryTemplateResourceReference.newScript(stream));
+			}
+
+			response.render(JQueryTemplateResourceReference.forTemplate(templateClass, stream, this.version));
+		}
+		else
+		{
+			String script = JQueryTemplateResourceReference.newScript(stream);
+
+			response.render(StringHeaderItem.forString(stream.getString()));
+
+			// the id changes with the text, so the script of an (ajax) re-render having another text is not skipped
+			response.render(JavaScriptHeaderItem.forScript(script, stream.getToken() + "-" + JQueryTemplateResourceReference.hash(script)));
+		}
+	}
+
+	/**
+	 * Gets the javascript expression that returns the compiled template function.<br/>
+	 * The template is compiled once per page, on first use, and the compiled function is shared by all components having the same template.
+	 * @return the javascript expression, ie: <code>jQuery.templates['jquery-template-9f3a[...]']()</code>
+	 */
+	public String getCompiledTemplate()
+	{
+		return String.format("jQuery.templates['%s']()", this.getToken());
 	}
 
 	/**
-	 * Get the unique resource-stream token that acts as the script id.
+	 * Get the unique resource-stream token that acts as the script id.<br/>
+	 * The token is derived from the content hash if the content is known, so identical templates share the same token.
+	 * It is computed once, the template content being expected not to change over the lifetime of the behavior.
 	 * @return the token
 	 */
 	public String getToken()
 	{
-		return String.format("jquery-template-%d", this.hashCode());
+		if (this.token == null)
+		{
+			String content = this.getContent();
+
+			if (content != null)
+			{
+				this.token = String.format("jquery-template-%s", JQueryTemplateResourceReference.hash(content));
+			}
+			else
+			{
+				this.token = String.format("jquery-template-%d", this.hashCode());
+			}
+		}
+
+		return this.token;
+	}
+
+	/**
+	 * Gets the content inside the &lt;script /&gt; block, if known before the resource stream is created.<br/>
+	 * If not null, the template is de-duplicated by content and served as a resource instead of being rendered inline.
+	 * @return null by default
+	 */
+	protected String getContent()
+	{
+		return null;
+	}
+
+	/**
+	 * Gets the class of the template, which should have a no-arg constructor giving the same content, so the template can be served by the {@link JQueryTemplateResourceReference}.<br/>
+	 * Otherwise - or if null - the template is rendered inline.
+	 * @return null by default
+	 */
+	protected Class<? extends IJQueryTemplate> getTemplateClass()
+	{
+		return null;
 	}
 
 	/**
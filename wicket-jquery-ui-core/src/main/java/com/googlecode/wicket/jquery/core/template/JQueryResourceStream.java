@@ -44,6 +44,24 @@ public class JQueryResourceStream extends AbstractStringResourceStream
 		this.content = content;
 	}
 
+	/**
+	 * Gets the unique resource-stream token that acts as the script id.
+	 * @return the token
+	 */
+	public String getToken()
+	{
+		return this.token;
+	}
+
+	/**
+	 * Gets the content inside the &lt;script /&gt; block
+	 * @return the content
+	 */
+	public String getContent()
+	{
+		return this.content;
+	}
+
 	@Override
 	public String getString()
 	{
@@ -60,4 +78,15 @@ public class JQueryResourceStream extends AbstractStringResourceStream
 	{
 		return "text/x-jquery-tmpl";
 	}
+
+	/**
+	 * Gets the javascript function that compiles the template text, ie: <code>function(text) { return ...; }</code><br/>
+	 * The compiled template is cached client side, so the text is compiled once per page (see {@link JQueryAbstractTemplateBehavior#getCompiledTemplate()})
+	 *
+	 * @return the jquery.tmpl compiler by default
+	 */
+	public String getCompiler()
+	{
+		return "function(text) { return jQuery.template(null, text); }";
+	}
 }
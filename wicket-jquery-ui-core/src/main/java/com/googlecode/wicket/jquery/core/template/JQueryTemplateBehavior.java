@@ -40,9 +40,21 @@ public class JQueryTemplateBehavior extends JQueryAbstractTemplateBehavior
 		this.template = template;
 	}
 
+	@Override
+	protected String getContent()
+	{
+		return this.template.getText();
+	}
+
+	@Override
+	protected Class<? extends IJQueryTemplate> getTemplateClass()
+	{
+		return this.template.getClass();
+	}
+
 	@Override
 	protected JQueryResourceStream newResourceStream()
 	{
-		return new JQueryResourceStream(this.template.getText(), this.getToken());
+		return new JQueryResourceStream(this.getContent(), this.getToken());
 	}
 }
@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.template;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Constructor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.core.util.lang.WicketObjects;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.markup.head.JavaScriptReferenceHeaderItem;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.request.resource.AbstractResource;
+import org.apache.wicket.request.resource.IResource;
+import org.apache.wicket.request.resource.ResourceReference;
+import org.apache.wicket.util.lang.Objects;
+import org.apache.wicket.util.string.Strings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.googlecode.wicket.jquery.core.JsonWriter;
+import com.googlecode.wicket.jquery.core.resource.ContentHashResourceCachingStrategy;
+
+/**
+ * Provides the javascript {@link ResourceReference} that serves the templates.<br/>
+ * The script appends the template's &lt;script /&gt; block to the document's head - once - so it can be retrieved by its id, as if it was rendered inline.
+ * It also registers the template to <code>jQuery.templates</code>, where the template is compiled on first use only (see {@link JQueryAbstractTemplateBehavior#getCompiledTemplate()}).<br/>
+ * <br/>
+ * The reference is shared and registered by the module's {@link org.apache.wicket.IInitializer}. The template is not held by the reference but resolved from its url:
+ * the '{@value #TEMPLATE_PARAMETER}' and '{@value #STREAM_PARAMETER}' parameters hold the classes of the {@link IJQueryTemplate} and of the {@link JQueryResourceStream},
+ * which are instantiated on first request, so any node - or a restarted one - can serve the template.<br/>
+ * The '{@value #VERSION_PARAMETER}' parameter holds the hash of the script; the template is cached by the clients only if it matches (see {@link ContentHashResourceCachingStrategy#decorateResponse}).<br/>
+ * <br/>
+ * Only templates that can be instantiated by their no-arg constructor - and then have the same content - can be served (see {@link #isResolvable(Class, JQueryResourceStream)});
+ * other templates, like anonymous ones, are rendered inline by {@link JQueryAbstractTemplateBehavior}.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class JQueryTemplateResourceReference extends ResourceReference
+{
+	private static final long serialVersionUID = 1L;
+	private static final Logger LOG = LoggerFactory.getLogger(JQueryTemplateResourceReference.class);
+
+	/** Parameter holding the class name of the {@link IJQueryTemplate} */
+	public static final String TEMPLATE_PARAMETER = "template";
+
+	/** Parameter holding the class name of the {@link JQueryResourceStream} */
+	public static final String STREAM_PARAMETER = "stream";
+
+	/** Parameter holding the token of the template, that acts as the script id */
+	public static final String TOKEN_PARAMETER = "token";
+
+	/** Parameter holding the hash of the script */
+	public static final String VERSION_PARAMETER = ContentHashResourceCachingStrategy.VERSION_PARAMETER;
+
+	private static final String ALGORITHM = "MD5";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/** Marks the templates that cannot be resolved from their classes */
+	private static final String UNRESOLVABLE = "";
+
+	/** Template contents, by template and stream class names (bounded by the number of template classes) */
+	private static final MetaDataKey<ConcurrentMap<String, String>> KEY = new MetaDataKey<ConcurrentMap<String, String>>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	private static final JQueryTemplateResourceReference INSTANCE = new JQueryTemplateResourceReference();
+
+	/**
+	 * Gets the instance of the resource reference
+	 *
+	 * @return the single instance of the resource reference
+	 */
+	public static JQueryTemplateResourceReference get()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Registers the resource reference to the supplied {@link Application}.<br/>
+	 * This is done by the module's {@link org.apache.wicket.IInitializer}.
+	 *
+	 * @param application the {@link Application}
+	 */
+	public static synchronized void install(Application application)
+	{
+		if (application.getMetaData(KEY) == null)
+		{
+			application.setMetaData(KEY, new ConcurrentHashMap<String, String>());
+			application.getResourceReferenceRegistry().registerResourceReference(INSTANCE);
+		}
+	}
+
+	/**
+	 * Gets the hexadecimal hash of the supplied content
+	 *
+	 * @param content the content
+	 * @return the hash
+	 */
+	public static String hash(String content)
+	{
+		try
+		{
+			byte[] bytes = MessageDigest.getInstance(ALGORITHM).digest(content.getBytes("UTF-8"));
+			StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+			for (byte b : bytes)
+			{
+				builder.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+			}
+
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+		catch (UnsupportedEncodingException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Indicates whether the template of the supplied stream can be served by the reference, that is,
+	 * whether the template class instantiated on request has the same content as the stream.
+	 *
+	 * @param templateClass the class of the {@link IJQueryTemplate}
+	 * @param stream the {@link JQueryResourceStream} of the template
+	 * @return true or false
+	 */
+	public static boolean isResolvable(Class<? extends IJQueryTemplate> templateClass, JQueryResourceStream stream)
+	{
+		String content = JQueryTemplateResourceReference.getContent(templateClass.getName(), stream.getClass().getName());
+
+		return content != null && content != UNRESOLVABLE && content.equals(stream.getContent());
+	}
+
+	/**
+	 * Gets the {@link PageParameters} of the supplied template
+	 *
+	 * @param templateClass the class of the {@link IJQueryTemplate}
+	 * @param stream the {@link JQueryResourceStream} of the template
+	 * @param version the hash of the script (see {@link #newScript(JQueryResourceStream)})
+	 * @return the {@link PageParameters}
+	 */
+	public static PageParameters newParameters(Class<? extends IJQueryTemplate> templateClass, JQueryResourceStream stream, String version)
+	{
+		PageParameters parameters = new PageParameters();
+		parameters.add(TEMPLATE_PARAMETER, templateClass.getName());
+		parameters.add(STREAM_PARAMETER, stream.getClass().getName());
+		parameters.add(TOKEN_PARAMETER, stream.getToken());
+		parameters.add(VERSION_PARAMETER, version);
+
+		return parameters;
+	}
+
+	/**
+	 * Gets the {@link JavaScriptReferenceHeaderItem} of the supplied template.<br/>
+	 * Unlike {@link JavaScriptHeaderItem#forReference(ResourceReference, PageParameters, String)}, the item is identified by its parameters too, so different templates are not merged by the header response.
+	 *
+	 * @param templateClass the class of the {@link IJQueryTemplate}
+	 * @param stream the {@link JQueryResourceStream} of the template
+	 * @param version the hash of the script (see {@link #newScript(JQueryResourceStream)})
+	 * @return the {@link JavaScriptReferenceHeaderItem}
+	 */
+	public static JavaScriptReferenceHeaderItem forTemplate(Class<? extends IJQueryTemplate> templateClass, JQueryResourceStream stream, String version)
+	{
+		return new TemplateHeaderItem(JQueryTemplateResourceReference.newParameters(templateClass, stream, version), stream.getToken());
+	}
+
+	/**
+	 * Gets the content of the template resolved from the supplied class names
+	 *
+	 * @param templateClassName the class name of the {@link IJQueryTemplate}
+	 * @param streamClassName the class name of the {@link JQueryResourceStream}
+	 * @return the content, {@link #UNRESOLVABLE} if it cannot be resolved, or null if the reference is not installed
+	 */
+	private static String getContent(String templateClassName, String streamClassName)
+	{
+		ConcurrentMap<String, String> contents = Application.get().getMetaData(KEY);
+
+		if (contents == null)
+		{
+			return null;
+		}
+
+		String key = templateClassName + ":" + streamClassName;
+		String content = contents.get(key);
+
+		if (content == null)
+		{
+			content = JQueryTemplateResourceReference.resolve(templateClassName, streamClassName);
+
+			if (content != null)
+			{
+				contents.putIfAbsent(key, content);
+			}
+			else
+			{
+				content = UNRESOLVABLE;
+			}
+		}
+
+		return content;
+	}
+
+	/**
+	 * Instantiates the template by its no-arg constructor, and checks that the stream can be instantiated by its (content, token) constructor
+	 *
+	 * @param templateClassName the class name of the {@link IJQueryTemplate}
+	 * @param streamClassName the class name of the {@link JQueryResourceStream}
+	 * @return the content of the template, {@link #UNRESOLVABLE} if the classes are valid but cannot be instantiated, or null if they are unknown (not cached)
+	 */
+	private static String resolve(String templateClassName, String streamClassName)
+	{
+		Class<?> templateClass = WicketObjects.resolveClass(templateClassName);
+		Class<?> streamClass = WicketObjects.resolveClass(streamClassName);
+
+		if (templateClass == null || !IJQueryTemplate.class.isAssignableFrom(templateClass) || streamClass == null || !JQueryResourceStream.class.isAssignableFrom(streamClass))
+		{
+			return null;
+		}
+
+		try
+		{
+			streamClass.getConstructor(String.class, String.class);
+
+			Constructor<?> constructor = templateClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+
+			String content = ((IJQueryTemplate) constructor.newInstance()).getText();
+
+			return content != null ? content : UNRESOLVABLE;
+		}
+		catch (Exception e)
+		{
+			LOG.debug("Template {} cannot be resolved from its class, it will be rendered inline", templateClassName);
+
+			return UNRESOLVABLE;
+		}
+	}
+
+	/**
+	 * Private constructor
+	 */
+	private JQueryTemplateResourceReference()
+	{
+		super(JQueryTemplateResourceReference.class, "template.js");
+	}
+
+	@Override
+	public IResource getResource()
+	{
+		return new TemplateResource();
+	}
+
+	/**
+	 * Gets the script that registers the template to <code>jQuery.templates</code>, under its token.<br/>
+	 * The registered function returns the template compiled by the stream's compiler (see {@link JQueryResourceStream#getCompiler()}), the compilation occurring on first call only.<br/>
+	 * The script also appends the template's &lt;script /&gt; block to the document's head, unless a block with the same id is already present.
+	 * If that block - ie: rendered inline, then re-rendered with another text - does not hold the same text, its text is replaced and the compiled function is dropped, so the new text is compiled on next call.
+	 *
+	 * @param stream the {@link JQueryResourceStream} of the template
+	 * @return the script
+	 */
+	static String newScript(JQueryResourceStream stream)
+	{
+		StringBuilder builder = new StringBuilder();
+
+		builder.append("(function(id, type, text, compile) { ");
+		builder.append("var t = jQuery.templates = jQuery.templates || {}; ");
+		builder.append("var s = document.getElementById(id); ");
+		builder.append("if (!s) { ");
+		builder.append("s = document.createElement('script'); s.id = id; s.type = type; s.text = text; ");
+		builder.append("(document.head || document.getElementsByTagName('head')[0]).appendChild(s); ");
+		builder.append("} else if (s.text !== text) { ");
+		builder.append("s.text = text; delete t[id]; ");
+		builder.append("} ");
+		builder.append("if (!t[id]) { var fn = null; t[id] = function() { return fn || (fn = compile(text)); }; } ");
+		builder.append("})(");
+		JsonWriter.quote(builder, stream.getToken()).append(", ");
+		JsonWriter.quote(builder, stream.getContentType()).append(", ");
+		JsonWriter.quote(builder, Strings.isEmpty(stream.getContent()) ? "" : stream.getContent()).append(", ");
+		builder.append(stream.getCompiler()).append(");");
+
+		return builder.toString();
+	}
+
+	/**
+	 * Provides the header item of a template, identified by its parameters
+	 */
+	private static class TemplateHeaderItem extends JavaScriptReferenceHeaderItem
+	{
+		private static final long serialVersionUID = 1L;
+
+		public TemplateHeaderItem(PageParameters parameters, String token)
+		{
+			super(INSTANCE, parameters, token, false, null, null);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Arrays.hashCode(new Object[] { this.getReference(), this.getPageParameters() });
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			if (object instanceof TemplateHeaderItem)
+			{
+				TemplateHeaderItem item = (TemplateHeaderItem) object;
+
+				return this.getReference().equals(item.getReference()) && Objects.equal(this.getPageParameters(), item.getPageParameters());
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Serves the template script, resolved from the request parameters
+	 */
+	private static class TemplateResource extends AbstractResource
+	{
+		private static final long serialVersionUID = 1L;
+		private static final int SC_NOT_FOUND = 404;
+
+		@Override
+		protected ResourceResponse newResourceResponse(Attributes attributes)
+		{
+			ResourceResponse response = new ResourceResponse();
+
+			String templateClassName = attributes.getParameters().get(TEMPLATE_PARAMETER).toString("");
+			String streamClassName = attributes.getParameters().get(STREAM_PARAMETER).toString("");
+			String token = attributes.getParameters().get(TOKEN_PARAMETER).toString("");
+			String content = JQueryTemplateResourceReference.getContent(templateClassName, streamClassName);
+
+			if (content == null || content == UNRESOLVABLE || Strings.isEmpty(token))
+			{
+				response.setError(SC_NOT_FOUND);
+
+				return response;
+			}
+
+			final byte[] bytes;
+
+			try
+			{
+				JQueryResourceStream stream = (JQueryResourceStream) WicketObjects.resolveClass(streamClassName).getConstructor(String.class, String.class).newInstance(content, token);
+				String script = JQueryTemplateResourceReference.newScript(stream);
+
+				bytes = script.getBytes("UTF-8");
+				ContentHashResourceCachingStrategy.decorateResponse(response, attributes, JQueryTemplateResourceReference.hash(script));
+			}
+			catch (Exception e)
+			{
+				throw new WicketRuntimeException(e);
+			}
+
+			response.setContentType("text/javascript");
+			response.setTextEncoding("UTF-8");
+			response.setContentLength(bytes.length);
+			response.setWriteCallback(new WriteCallback() {
+
+				@Override
+				public void writeData(Attributes attributes)
+				{
+					attributes.getResponse().write(bytes);
+				}
+			});
+
+			return response;
+		}
+	}
+}
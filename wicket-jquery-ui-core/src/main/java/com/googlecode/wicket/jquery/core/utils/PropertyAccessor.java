@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.core.util.lang.PropertyResolver;
+import org.apache.wicket.util.string.Strings;
+
+/**
+ * Provides a read accessor of a property expression (ie: "address.city") for a bean class.<br/>
+ * Accessors are cached by (bean class, expression): the expression is resolved once into a chain of getters, which is then invoked directly.<br/>
+ * Like the {@link PropertyResolver}'s class cache, the cache is scoped to the {@link Application} - it is held by its meta-data - so it does not outlive the application classes on redeploy.
+ * Without an application (ie: outside of a request), accessors are not cached.<br/>
+ * Expressions that cannot be resolved into getters - maps, lists, arrays, indexes, fields or properties not declared by the getter return type - are delegated to the {@link PropertyResolver}.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public final class PropertyAccessor
+{
+	private static final MetaDataKey<ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyAccessor>>> KEY = new MetaDataKey<ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyAccessor>>>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * Gets the value of the expression for the supplied object
+	 *
+	 * @param expression the property expression
+	 * @param object the object, can be null
+	 * @return the value, or null if the object is null
+	 */
+	public static Object getValue(String expression, Object object)
+	{
+		if (object == null || expression == null)
+		{
+			return null;
+		}
+
+		return PropertyAccessor.of(object.getClass(), expression).getValue(object);
+	}
+
+	/**
+	 * Gets the (cached) accessor of the expression for the supplied bean class
+	 *
+	 * @param type the bean class
+	 * @param expression the property expression
+	 * @return the {@link PropertyAccessor}
+	 */
+	public static PropertyAccessor of(Class<?> type, String expression)
+	{
+		if (!Application.exists())
+		{
+			return new PropertyAccessor(expression, PropertyAccessor.compile(type, expression));
+		}
+
+		ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyAccessor>> cache = PropertyAccessor.getCache(Application.get());
+		ConcurrentMap<String, PropertyAccessor> accessors = cache.get(type);
+
+		if (accessors == null)
+		{
+			ConcurrentMap<String, PropertyAccessor> map = new ConcurrentHashMap<String, PropertyAccessor>();
+			accessors = cache.putIfAbsent(type, map);
+
+			if (accessors == null)
+			{
+				accessors = map;
+			}
+		}
+
+		PropertyAccessor accessor = accessors.get(expression);
+
+		if (accessor == null)
+		{
+			accessor = new PropertyAccessor(expression, PropertyAccessor.compile(type, expression));
+			accessors.putIfAbsent(expression, accessor);
+		}
+
+		return accessor;
+	}
+
+	/**
+	 * Gets the accessor cache of the supplied {@link Application}
+	 *
+	 * @param application the {@link Application}
+	 * @return the cache, by bean class and expression
+	 */
+	private static ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyAccessor>> getCache(Application application)
+	{
+		ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyAccessor>> cache = application.getMetaData(KEY);
+
+		if (cache == null)
+		{
+			synchronized (PropertyAccessor.class)
+			{
+				cache = application.getMetaData(KEY);
+
+				if (cache == null)
+				{
+					cache = new ConcurrentHashMap<Class<?>, ConcurrentMap<String, PropertyAccessor>>();
+					application.setMetaData(KEY, cache);
+				}
+			}
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Resolves the getter chain of the expression
+	 *
+	 * @param type the bean class
+	 * @param expression the property expression
+	 * @return the getters, or null if the expression should be resolved by the {@link PropertyResolver}
+	 */
+	private static Method[] compile(Class<?> type, String expression)
+	{
+		String[] properties = Strings.split(expression, '.');
+		Method[] getters = new Method[properties.length];
+		Class<?> current = type;
+
+		for (int i = 0; i < properties.length; i++)
+		{
+			String property = properties[i];
+
+			if (!PropertyAccessor.isSimpleProperty(property) || Map.class.isAssignableFrom(current) || Collection.class.isAssignableFrom(current) || current.isArray())
+			{
+				return null;
+			}
+
+			Method getter = PropertyAccessor.findGetter(current, property);
+
+			if (getter == null)
+			{
+				return null;
+			}
+
+			getters[i] = getter;
+			current = getter.getReturnType();
+		}
+
+		return getters;
+	}
+
+	/**
+	 * Indicates whether the property is a plain java identifier (ie: not an index, nor a method call)
+	 *
+	 * @param property the property
+	 * @return true or false
+	 */
+	private static boolean isSimpleProperty(String property)
+	{
+		if (property.length() == 0 || !Character.isJavaIdentifierStart(property.charAt(0)))
+		{
+			return false;
+		}
+
+		for (int i = 1; i < property.length(); i++)
+		{
+			if (!Character.isJavaIdentifierPart(property.charAt(i)))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Finds the public getter of the property ('getXxx' or 'isXxx')
+	 *
+	 * @param type the class
+	 * @param property the property
+	 * @return the {@link Method} or null if not found
+	 */
+	private static Method findGetter(Class<?> type, String property)
+	{
+		String name = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+
+		for (String prefix : new String[] { "get", "is" })
+		{
+			try
+			{
+				Method method = type.getMethod(prefix + name);
+
+				if (method.getReturnType() != void.class && (prefix.equals("get") || method.getReturnType() == boolean.class))
+				{
+					if (!Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+					{
+						method.setAccessible(true);
+					}
+
+					return method;
+				}
+			}
+			catch (NoSuchMethodException e)
+			{
+				// continue
+			}
+			catch (SecurityException e)
+			{
+				return null;
+			}
+		}
+
+		return null;
+	}
+
+
+	private final String expression;
+	private final Method[] getters;
+
+	/**
+	 * Constructor
+	 *
+	 * @param expression the property expression
+	 * @param getters the getter chain, or null
+	 */
+	private PropertyAccessor(String expression, Method[] getters)
+	{
+		this.expression = expression;
+		this.getters = getters;
+	}
+
+	/**
+	 * Indicates whether the expression has been resolved into a getter chain
+	 *
+	 * @return false if the expression is delegated to the {@link PropertyResolver}
+	 */
+	public boolean isCompiled()
+	{
+		return this.getters != null;
+	}
+
+	/**
+	 * Gets the declared type of the property
+	 *
+	 * @return the return type of the last getter, or null if the expression is not compiled (see {@link #isCompiled()})
+	 */
+	public Class<?> getType()
+	{
+		if (this.getters == null)
+		{
+			return null;
+		}
+
+		return this.getters[this.getters.length - 1].getReturnType();
+	}
+
+	/**
+	 * Gets the value of the expression for the supplied object
+	 *
+	 * @param object the object, can be null
+	 * @return the value, or null if the object (or any intermediate value) is null
+	 */
+	public Object getValue(Object object)
+	{
+		if (this.getters == null)
+		{
+			return PropertyResolver.getValue(this.expression, object);
+		}
+
+		Object value = object;
+
+		try
+		{
+			for (Method getter : this.getters)
+			{
+				if (value == null)
+				{
+					return null;
+				}
+
+				value = getter.invoke(value);
+			}
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new WicketRuntimeException("Unable to access the property '" + this.expression + "'", e);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw new WicketRuntimeException("Error while getting the property '" + this.expression + "'", e.getCause());
+		}
+
+		return value;
+	}
+}
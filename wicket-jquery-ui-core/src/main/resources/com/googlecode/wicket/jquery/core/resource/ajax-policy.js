@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Ajax call policies
+ *
+ * Wraps the ajax call of a callback function, identified by a key, in order to reduce the number of requests
+ * sent to the server under high-frequency events (drag, resize, slide, spin...)
+ */
+;(function($) {
+	'use strict';
+
+	if ($.ajaxPolicy) {
+		return;
+	}
+
+	var bursts = {};
+	var requests = {};
+
+	function now() {
+		return new Date().getTime();
+	}
+
+	function schedule(key, state, options) {
+		var delay = state.last + options.wait - now();
+
+		if (options.maxWait > 0) {
+			delay = Math.min(delay, state.start + options.maxWait - now());
+		}
+
+		clearTimeout(state.timer);
+		state.timer = setTimeout(function() { expire(key, state, options); }, Math.max(delay, 0));
+	}
+
+	function expire(key, state, options) {
+		var quiet = now() - state.last >= options.wait;
+		var pending = state.pending;
+
+		state.pending = null;
+
+		if (quiet) {
+			delete bursts[key];
+		} else {
+			state.start = now(); // max-wait reached, the burst goes on
+			schedule(key, state, options);
+		}
+
+		if (pending && (options.trailing || !quiet)) {
+			pending.fn.call(pending.context);
+		}
+	}
+
+	$.ajaxPolicy = {
+
+		/*
+		 * Debounces the calls: the leading and/or the trailing (latest) call of a burst are sent.
+		 * A burst ends after 'wait' ms without call. If 'maxWait' is set, the latest call is sent at least every 'maxWait' ms.
+		 */
+		debounce: function(key, options, context, fn) {
+			var state = bursts[key];
+
+			if (!state) {
+				state = bursts[key] = { start: now(), last: now(), pending: null, timer: null };
+
+				if (options.leading) {
+					fn.call(context);
+				} else {
+					state.pending = { context: context, fn: fn };
+				}
+			} else {
+				state.last = now();
+				state.pending = { context: context, fn: fn };
+			}
+
+			schedule(key, state, options);
+		},
+
+		/*
+		 * Aborts the in-flight request of the same key, if any, before sending the call
+		 */
+		supersede: function(key, context, fn) {
+			var jqXHR = requests[key];
+
+			if (jqXHR) {
+				delete requests[key];
+				jqXHR.abort();
+			}
+
+			fn.call(context);
+		},
+
+		track: function(key, jqXHR) {
+			if (jqXHR) {
+				requests[key] = jqXHR;
+			}
+		},
+
+		untrack: function(key, jqXHR) {
+			if (requests[key] === jqXHR) {
+				delete requests[key];
+			}
+		}
+	};
+})(jQuery);
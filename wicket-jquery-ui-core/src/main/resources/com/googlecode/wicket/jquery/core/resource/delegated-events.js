@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Delegated events registry
+ *
+ * Binds one document-level listener per event type. Elements opt in with a 'data-event-<type>' attribute
+ * whose value is the key of the callback registered with jQuery.delegatedEvents.on(type, key, callback).
+ */
+;(function($) {
+	'use strict';
+
+	if ($.delegatedEvents) {
+		return;
+	}
+
+	var registry = {};
+
+	$.delegatedEvents = {
+
+		prefix: 'data-event-',
+
+		on: function(type, key, callback) {
+			var callbacks = registry[type];
+
+			if (!callbacks) {
+				var attribute = this.prefix + type;
+
+				callbacks = registry[type] = {};
+
+				$(document).on(type, '[' + attribute + ']', function(event) {
+					var fn = callbacks[this.getAttribute(attribute)];
+
+					if (fn) {
+						return fn.call(this, event);
+					}
+				});
+			}
+
+			callbacks[key] = callback;
+		}
+	};
+})(jQuery);
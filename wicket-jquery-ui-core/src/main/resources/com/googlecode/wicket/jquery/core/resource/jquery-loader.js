@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Script loader
+ *
+ * Loads library scripts without blocking the page and queues the statements that depend on them.
+ * Scripts are identified by their url; a script may also provide aliases, that statements can wait for.
+ * A script already present in the document as a plain <script> tag is not loaded again.
+ *
+ * jQuery.loader.load(url, depends, provides, async)
+ *   async = false: the script is inserted straight away and executed in insertion order (like 'defer')
+ *   async = true: the script is inserted as soon as its dependencies are loaded and executed as soon as it is loaded
+ * jQuery.loader.ready(depends, callback)
+ *   the callback is invoked as soon as its dependencies are loaded; callbacks that become ready together are invoked in queue order
+ *
+ * If a script fails to load, the scripts and the callbacks depending on it are dropped, so they do not hold the queue.
+ */
+;(function($) {
+	'use strict';
+
+	if ($.loader) {
+		return;
+	}
+
+	var scripts = {}; // url -> true, once requested
+	var loaded = {}; // url or alias -> true, once loaded
+	var failed = {}; // url or alias -> true, once failed
+	var inserts = []; // pending insertions (async scripts), in any order
+	var statements = []; // pending statements, in order
+	var flushing = false; // whether the queues are being flushed
+	var pending = false; // whether the queues should be flushed again
+
+	function log(message) {
+		if (window.console) {
+			console.error('jQuery.loader: ' + message);
+		}
+	}
+
+	function resolved(depends) {
+		for (var i = 0; i < depends.length; i++) {
+			if (!loaded[depends[i]]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	function rejected(depends) {
+		for (var i = 0; i < depends.length; i++) {
+			if (failed[depends[i]]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	function settle(url, provides, success) {
+		var states = success ? loaded : failed;
+
+		states[url] = true;
+
+		for (var i = 0; i < provides.length; i++) {
+			states[provides[i]] = true;
+		}
+
+		pending = true;
+	}
+
+	function invoke(callback) {
+		try {
+			callback();
+		}
+		catch (e) {
+			if (window.console) {
+				console.error(e);
+			}
+		}
+	}
+
+	function flush() {
+		if (flushing) {
+			pending = true;
+			return;
+		}
+
+		flushing = true;
+
+		do {
+			pending = false;
+
+			for (var i = 0; i < inserts.length; i++) {
+				var item = inserts[i];
+
+				if (rejected(item.depends)) {
+					inserts.splice(i--, 1);
+					log('dropped ' + item.url + ', a dependency failed to load');
+					settle(item.url, item.provides, false);
+				}
+				else if (resolved(item.depends)) {
+					inserts.splice(i--, 1);
+					invoke(item.callback);
+				}
+			}
+
+			for (var j = 0; j < statements.length; j++) {
+				var statement = statements[j];
+
+				if (rejected(statement.depends)) {
+					statements.splice(j--, 1);
+					log('dropped a statement, a dependency failed to load');
+				}
+				else if (resolved(statement.depends)) {
+					statements.splice(j--, 1);
+					invoke(statement.callback);
+				}
+			}
+		}
+		while (pending);
+
+		flushing = false;
+	}
+
+	function find(url) {
+		var a = document.createElement('a');
+		a.href = url;
+
+		var elements = document.getElementsByTagName('script');
+
+		for (var i = 0; i < elements.length; i++) {
+			if (elements[i].src === a.href) {
+				return elements[i];
+			}
+		}
+
+		return null;
+	}
+
+	function attach(script, url, provides) {
+		$(script).one('load', function() {
+			settle(url, provides, true);
+			flush();
+		});
+		$(script).one('error', function() {
+			log('failed to load ' + url);
+			settle(url, provides, false);
+			flush();
+		});
+	}
+
+	function insert(url, provides, async) {
+		var script = document.createElement('script');
+
+		script.type = 'text/javascript';
+		script.async = async;
+		attach(script, url, provides);
+		script.src = url;
+
+		document.getElementsByTagName('head')[0].appendChild(script);
+	}
+
+	$.loader = {
+
+		load: function(url, depends, provides, async) {
+			if (scripts[url]) {
+				return;
+			}
+
+			scripts[url] = true;
+			provides = provides || [];
+
+			var script = find(url);
+
+			// plain script tags have been executed already, unless they are deferred and the document is not loaded yet //
+			if (script !== null) {
+				if ((script.hasAttribute('async') || script.hasAttribute('defer')) && document.readyState !== 'complete') {
+					attach(script, url, provides);
+				}
+				else {
+					settle(url, provides, true);
+					flush();
+				}
+			}
+			else if (async) {
+				inserts.push({ url: url, depends: depends || [], provides: provides, callback: function() { insert(url, provides, true); } });
+				flush();
+			}
+			else {
+				insert(url, provides, false);
+			}
+		},
+
+		ready: function(depends, callback) {
+			statements.push({ depends: depends || [], callback: callback });
+			flush();
+		}
+	};
+})(jQuery);
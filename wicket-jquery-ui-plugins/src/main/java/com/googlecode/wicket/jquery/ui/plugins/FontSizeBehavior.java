@@ -16,20 +16,48 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.wicket.request.resource.JavaScriptResourceReference;
+import org.apache.wicket.request.resource.ResourceReference;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 
 public class FontSizeBehavior extends JQueryBehavior
 {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Provides the resource references shared by all {@link FontSizeBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			return Arrays.<ResourceReference> asList(new JavaScriptResourceReference(FontSizeBehavior.class, "jquery.jfontsize-1.0.min.js"));
+		}
+	};
+
 	public FontSizeBehavior(String selector, Options options)
 	{
 		super(selector, "jfontsize", options);
+	}
 
-		this.add(new JavaScriptResourceReference(FontSizeBehavior.class, "jquery.jfontsize-1.0.min.js"));
+	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * The jfontsize plugin does not depend on jQuery UI.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return JQueryUIModule.none();
 	}
 
 }
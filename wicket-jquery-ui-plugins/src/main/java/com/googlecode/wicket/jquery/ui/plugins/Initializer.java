@@ -22,6 +22,13 @@ import org.apache.wicket.markup.html.IPackageResourceGuard;
 import org.apache.wicket.markup.html.SecurePackageResourceGuard;
 import org.apache.wicket.markup.html.SecurePackageResourceGuard.SearchPattern;
 
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.ui.plugins.datepicker.RangeDatePickerBehavior;
+import com.googlecode.wicket.jquery.ui.plugins.emoticons.EmoticonsBehavior;
+import com.googlecode.wicket.jquery.ui.plugins.fixedheadertable.FixedHeaderTableBehavior;
+import com.googlecode.wicket.jquery.ui.plugins.sfmenu.SfMenuBehavior;
+import com.googlecode.wicket.jquery.ui.plugins.wysiwyg.WysiwygBehavior;
+
 /**
  * Provides the {@link IInitializer} for this module
  *
@@ -32,6 +39,16 @@ public class Initializer implements IInitializer
 	@Override
 	public void init(Application application)
 	{
+		// Shared resource references //
+		LibraryResourceRegistry registry = LibraryResourceRegistry.of(application);
+		registry.register(WysiwygBehavior.class, WysiwygBehavior.RESOURCES);
+		registry.register(EmoticonsBehavior.class, EmoticonsBehavior.RESOURCES);
+		registry.register(FixedHeaderTableBehavior.class, FixedHeaderTableBehavior.RESOURCES);
+		registry.register(SfMenuBehavior.class, SfMenuBehavior.RESOURCES);
+		registry.register(FontSizeBehavior.class, FontSizeBehavior.RESOURCES);
+		registry.register(SnippetBehavior.class, SnippetBehavior.RESOURCES);
+		registry.register(RangeDatePickerBehavior.class, RangeDatePickerBehavior.RESOURCES);
+
 		// Wysiwyg Plugin //
 		IPackageResourceGuard packageResourceGuard = application.getResourceSettings().getPackageResourceGuard();
 
@@ -16,15 +16,35 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.wicket.request.resource.CssResourceReference;
-import org.apache.wicket.request.resource.JavaScriptResourceReference;
+import org.apache.wicket.request.resource.ResourceReference;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
+import com.googlecode.wicket.jquery.core.resource.PrecompressedResourceReference;
 
 public class SnippetBehavior extends JQueryBehavior
 {
 	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Provides the resource references shared by all {@link SnippetBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			return Arrays.<ResourceReference> asList(new PrecompressedResourceReference(SnippetBehavior.class, "jquery.snippet.min.js"), new CssResourceReference(SnippetBehavior.class, "jquery.snippet.min.css"));
+		}
+	};
+
 	private final String language;
 
 	public SnippetBehavior(String selector, String language, Options options)
@@ -32,9 +52,17 @@ public class SnippetBehavior extends JQueryBehavior
 		super(selector, "snippet", options);
 
 		this.language = language;
+	}
 
-		this.add(new JavaScriptResourceReference(SnippetBehavior.class, "jquery.snippet.min.js"));
-		this.add(new CssResourceReference(SnippetBehavior.class, "jquery.snippet.min.css"));
+	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * The syntax highlighter does not depend on jQuery UI.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return JQueryUIModule.none();
 	}
 
 	@Override
@@ -16,19 +16,25 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins.datepicker;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
 import org.apache.wicket.Component;
 import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.ajax.attributes.CallbackParameter;
 import org.apache.wicket.request.resource.CssResourceReference;
 import org.apache.wicket.request.resource.JavaScriptResourceReference;
+import org.apache.wicket.request.resource.ResourceReference;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 
 /**
@@ -42,6 +48,18 @@ public abstract class RangeDatePickerBehavior extends JQueryBehavior implements
 	private static final long serialVersionUID = 1L;
 	private static final String METHOD = "DatePicker";
 
+	/**
+	 * Provides the resource references shared by all {@link RangeDatePickerBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			return Arrays.<ResourceReference> asList(new CssResourceReference(RangeDatePickerBehavior.class, "css/base.css"), new CssResourceReference(RangeDatePickerBehavior.class, "css/clean.css"), new JavaScriptResourceReference(RangeDatePickerBehavior.class, "js/datepicker.js"));
+		}
+	};
+
 	private JQueryAjaxBehavior onRangeChangeBehavior;
 
 	public RangeDatePickerBehavior(final String selector)
@@ -52,10 +70,17 @@ public abstract class RangeDatePickerBehavior extends JQueryBehavior implements
 	public RangeDatePickerBehavior(final String selector, final Options options)
 	{
 		super(selector, METHOD, options);
+	}
 
-		this.add(new CssResourceReference(RangeDatePickerBehavior.class, "css/base.css"));
-		this.add(new CssResourceReference(RangeDatePickerBehavior.class, "css/clean.css"));
-		this.add(new JavaScriptResourceReference(RangeDatePickerBehavior.class, "js/datepicker.js"));
+	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * The DatePicker plugin does not depend on jQuery UI.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return JQueryUIModule.none();
 	}
 
 	@Override
@@ -32,6 +32,7 @@ import org.apache.wicket.util.convert.IConverter;
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.event.IValueChangedListener;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a {@link FormComponentPanel} based on a {@link TextField} and a {@link RangeDatePicker}
@@ -241,6 +242,12 @@ public class RangeDatePickerTextField extends FormComponentPanel<DateRange> impl
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return JQueryUIModule.none();
+			}
+
 			@Override
 			protected String $() {
 
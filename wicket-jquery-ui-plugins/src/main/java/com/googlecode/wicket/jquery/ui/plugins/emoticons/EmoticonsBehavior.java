@@ -16,11 +16,18 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins.emoticons;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.wicket.Application;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.jquery.ui.plugins.emoticons.settings.EmoticonsLibrarySettings;
 import com.googlecode.wicket.jquery.ui.plugins.emoticons.settings.IEmoticonsLibrarySettings;
 
@@ -49,6 +56,33 @@ public class EmoticonsBehavior extends JQueryBehavior
 		return EmoticonsLibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS & JavaScript resource references shared by all {@link EmoticonsBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			IEmoticonsLibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			// jquery.cssemoticons.css //
+			if (settings.getEmoticonsStyleSheetReference() != null)
+			{
+				references.add(settings.getEmoticonsStyleSheetReference());
+			}
+
+			// jquery.cssemoticons.min.js //
+			if (settings.getEmoticonsJavaScriptReference() != null)
+			{
+				references.add(settings.getEmoticonsJavaScriptReference());
+			}
+
+			return references;
+		}
+	};
+
 
 	/**
 	 * Constructor
@@ -67,27 +101,16 @@ public class EmoticonsBehavior extends JQueryBehavior
 	public EmoticonsBehavior(String selector, Options options)
 	{
 		super(selector, METHOD, options);
-
-		this.initReferences();
 	}
 
+	// Properties //
 	/**
-	 * Initializes CSS & JavaScript resource references
+	 * {@inheritDoc}<br/>
+	 * The emoticons plugin does not depend on jQuery UI.
 	 */
-	private void initReferences()
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
 	{
-		IEmoticonsLibrarySettings settings = getLibrarySettings();
-
-		// jquery.cssemoticons.css //
-		if (settings.getEmoticonsStyleSheetReference() != null)
-		{
-			this.add(settings.getEmoticonsStyleSheetReference());
-		}
-
-		// jquery.cssemoticons.min.js //
-		if (settings.getEmoticonsJavaScriptReference() != null)
-		{
-			this.add(settings.getEmoticonsJavaScriptReference());
-		}
+		return JQueryUIModule.none();
 	}
 }
@@ -30,21 +30,16 @@ import com.googlecode.wicket.jquery.ui.plugins.emoticons.resource.EmoticonsStyle
  */
 public class EmoticonsLibrarySettings extends JavaScriptLibrarySettings implements IEmoticonsLibrarySettings
 {
-	private static EmoticonsLibrarySettings instance = null;
+	private static final EmoticonsLibrarySettings INSTANCE = new EmoticonsLibrarySettings();
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link EmoticonsLibrarySettings} instance
 	 * @return the {@link EmoticonsLibrarySettings} instance
 	 */
-	public static synchronized IEmoticonsLibrarySettings get()
+	public static IEmoticonsLibrarySettings get()
 	{
-		if (EmoticonsLibrarySettings.instance == null)
-		{
-			EmoticonsLibrarySettings.instance = new EmoticonsLibrarySettings();
-		}
-
-		return EmoticonsLibrarySettings.instance;
+		return EmoticonsLibrarySettings.INSTANCE;
 	}
 
 
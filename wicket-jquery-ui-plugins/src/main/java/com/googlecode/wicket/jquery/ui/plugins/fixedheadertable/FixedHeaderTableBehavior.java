@@ -16,11 +16,18 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins.fixedheadertable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.wicket.Application;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.jquery.ui.plugins.fixedheadertable.settings.FixedHeaderTableLibrarySettings;
 import com.googlecode.wicket.jquery.ui.plugins.fixedheadertable.settings.IFixedHeaderTableLibrarySettings;
 
@@ -44,6 +51,31 @@ public class FixedHeaderTableBehavior extends JQueryBehavior
 		return FixedHeaderTableLibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS & JavaScript resource references shared by all {@link FixedHeaderTableBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			IFixedHeaderTableLibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			if (settings.getFixedHeaderTableStyleSheetReference() != null)
+			{
+				references.add(settings.getFixedHeaderTableStyleSheetReference());
+			}
+
+			if (settings.getFixedHeaderTableJavaScriptReference() != null)
+			{
+				references.add(settings.getFixedHeaderTableJavaScriptReference());
+			}
+
+			return references;
+		}
+	};
+
 
 	public FixedHeaderTableBehavior(String selector)
 	{
@@ -53,22 +85,16 @@ public class FixedHeaderTableBehavior extends JQueryBehavior
 	public FixedHeaderTableBehavior(String selector, Options options)
 	{
 		super(selector, METHOD, options);
-
-		this.initReferences();
 	}
 
-	private void initReferences()
+	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * The fixedheadertable plugin does not depend on jQuery UI.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
 	{
-		IFixedHeaderTableLibrarySettings settings = getLibrarySettings();
-
-		if (settings.getFixedHeaderTableStyleSheetReference() != null)
-		{
-			this.add(settings.getFixedHeaderTableStyleSheetReference());
-		}
-
-		if (settings.getFixedHeaderTableJavaScriptReference() != null)
-		{
-			this.add(settings.getFixedHeaderTableJavaScriptReference());
-		}
+		return JQueryUIModule.none();
 	}
 }
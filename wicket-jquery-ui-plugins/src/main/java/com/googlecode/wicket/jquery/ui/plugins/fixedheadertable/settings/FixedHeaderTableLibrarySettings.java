@@ -31,21 +31,16 @@ import com.googlecode.wicket.jquery.ui.plugins.fixedheadertable.resource.FixedHe
  */
 public class FixedHeaderTableLibrarySettings extends JavaScriptLibrarySettings implements IFixedHeaderTableLibrarySettings
 {
-	private static IFixedHeaderTableLibrarySettings instance = null;
+	private static final IFixedHeaderTableLibrarySettings INSTANCE = new FixedHeaderTableLibrarySettings();
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link FixedHeaderTableLibrarySettings} instance
 	 * @return the {@link FixedHeaderTableLibrarySettings} instance
 	 */
-	public static synchronized IFixedHeaderTableLibrarySettings get()
+	public static IFixedHeaderTableLibrarySettings get()
 	{
-		if (FixedHeaderTableLibrarySettings.instance == null)
-		{
-			FixedHeaderTableLibrarySettings.instance = new FixedHeaderTableLibrarySettings();
-		}
-
-		return FixedHeaderTableLibrarySettings.instance;
+		return FixedHeaderTableLibrarySettings.INSTANCE;
 	}
 
 
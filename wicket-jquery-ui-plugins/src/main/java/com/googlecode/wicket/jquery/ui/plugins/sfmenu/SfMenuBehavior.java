@@ -16,11 +16,18 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins.sfmenu;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.wicket.Application;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.jquery.ui.plugins.sfmenu.resource.HoverIntentJavaScriptResourceReference;
 import com.googlecode.wicket.jquery.ui.plugins.sfmenu.resource.SuperfishJavaScriptResourceReference;
 import com.googlecode.wicket.jquery.ui.plugins.sfmenu.settings.ISuperfishLibrarySettings;
@@ -52,6 +59,30 @@ public class SfMenuBehavior extends JQueryBehavior
 		return SuperfishLibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS & JavaScript resource references shared by all {@link SfMenuBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})<br/>
+	 * The vertical style sheet is added per instance.
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			ISuperfishLibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			if (settings.getSuperfishStyleSheetReference() != null)
+			{
+				references.add(settings.getSuperfishStyleSheetReference());
+			}
+
+			references.add(HoverIntentJavaScriptResourceReference.get());
+			references.add(SuperfishJavaScriptResourceReference.get());
+
+			return references;
+		}
+	};
+
 	/***
 	 * Constructor
 	 *
@@ -75,17 +106,20 @@ public class SfMenuBehavior extends JQueryBehavior
 
 		ISuperfishLibrarySettings settings = getLibrarySettings();
 
-		if (settings.getSuperfishStyleSheetReference() != null)
-		{
-			this.add(settings.getSuperfishStyleSheetReference());
-		}
-
 		if (isVertical && settings.getSuperfishVerticalStyleSheetReference() != null)
 		{
 			this.add(settings.getSuperfishVerticalStyleSheetReference());
 		}
+	}
 
-		this.add(HoverIntentJavaScriptResourceReference.get());
-		this.add(SuperfishJavaScriptResourceReference.get());
+	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * Superfish does not depend on jQuery UI.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return JQueryUIModule.none();
 	}
 }
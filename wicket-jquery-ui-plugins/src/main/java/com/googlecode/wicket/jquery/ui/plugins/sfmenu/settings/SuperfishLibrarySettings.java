@@ -30,21 +30,16 @@ import com.googlecode.wicket.jquery.ui.plugins.sfmenu.resource.SuperfishVertical
  */
 public class SuperfishLibrarySettings extends JavaScriptLibrarySettings implements ISuperfishLibrarySettings
 {
-	private static SuperfishLibrarySettings instance = null;
+	private static final SuperfishLibrarySettings INSTANCE = new SuperfishLibrarySettings();
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link SuperfishLibrarySettings} instance
 	 * @return the {@link SuperfishLibrarySettings} instance
 	 */
-	public static synchronized ISuperfishLibrarySettings get()
+	public static ISuperfishLibrarySettings get()
 	{
-		if (SuperfishLibrarySettings.instance == null)
-		{
-			SuperfishLibrarySettings.instance = new SuperfishLibrarySettings();
-		}
-
-		return SuperfishLibrarySettings.instance;
+		return SuperfishLibrarySettings.INSTANCE;
 	}
 
 
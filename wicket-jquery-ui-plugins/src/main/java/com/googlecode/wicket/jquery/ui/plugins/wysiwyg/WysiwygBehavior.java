@@ -16,11 +16,18 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins.wysiwyg;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.wicket.Application;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.jquery.ui.plugins.wysiwyg.settings.IWysiwygLibrarySettings;
 import com.googlecode.wicket.jquery.ui.plugins.wysiwyg.settings.WysiwygLibrarySettings;
 
@@ -34,7 +41,7 @@ public class WysiwygBehavior extends JQueryBehavior
 	 *
 	 * @return Default {@link IWysiwygLibrarySettings} if Application's {@link IJavaScriptLibrarySettings} is not an instance of {@link IWysiwygLibrarySettings}
 	 */
-	private static IWysiwygLibrarySettings getLibrarySettings()
+	static IWysiwygLibrarySettings getLibrarySettings()
 	{
 		if (Application.exists() && (Application.get().getJavaScriptLibrarySettings() instanceof IWysiwygLibrarySettings))
 		{
@@ -44,6 +51,63 @@ public class WysiwygBehavior extends JQueryBehavior
 		return WysiwygLibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS & JavaScript resource references shared by all {@link WysiwygBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			IWysiwygLibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			// Bootstrap combined CSS
+			if (settings.getBootstrapCombinedNoIconsStyleSheetReference() != null)
+			{
+				references.add(settings.getBootstrapCombinedNoIconsStyleSheetReference());
+			}
+
+			// Bootstrap Responsive CSS
+			if (settings.getBootstrapResponsiveStyleSheetReference() != null)
+			{
+				references.add(settings.getBootstrapResponsiveStyleSheetReference());
+			}
+
+			// Editor CSS
+			if (settings.getEditorStyleSheetReference() != null)
+			{
+				references.add(settings.getEditorStyleSheetReference());
+			}
+
+			// Bootstrap Wysiwyg
+			if (settings.getBootstrapWysiwygJavaScriptReference() != null)
+			{
+				references.add(settings.getBootstrapWysiwygJavaScriptReference());
+			}
+
+			// Bootstrap
+			if (settings.getBootstrapDropDownJavaScriptReference() != null)
+			{
+				references.add(settings.getBootstrapDropDownJavaScriptReference());
+			}
+
+			// JQuery Hot Keys
+			if (settings.getJQueryHotKeysJavaScriptReference() != null)
+			{
+				references.add(settings.getJQueryHotKeysJavaScriptReference());
+			}
+
+			// Prettify
+			if (settings.getPrettifyJavaScriptReference() != null)
+			{
+				references.add(settings.getPrettifyJavaScriptReference());
+			}
+
+			return references;
+		}
+	};
+
 
 	/**
 	 * Constructor
@@ -62,57 +126,16 @@ public class WysiwygBehavior extends JQueryBehavior
 	public WysiwygBehavior(String selector, Options options)
 	{
 		super(selector, METHOD, options);
-
-		this.initReferences();
 	}
 
+	// Properties //
 	/**
-	 * Initializes CSS & JavaScript resource references
+	 * {@inheritDoc}<br/>
+	 * bootstrap-wysiwyg does not depend on jQuery UI.
 	 */
-	private void initReferences()
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
 	{
-		IWysiwygLibrarySettings settings = getLibrarySettings();
-
-		// Bootstrap combined CSS
-		if (settings.getBootstrapCombinedNoIconsStyleSheetReference() != null)
-		{
-			this.add(settings.getBootstrapCombinedNoIconsStyleSheetReference());
-		}
-
-		// Bootstrap Responsive CSS
-		if (settings.getBootstrapResponsiveStyleSheetReference() != null)
-		{
-			this.add(settings.getBootstrapResponsiveStyleSheetReference());
-		}
-
-		// Editor CSS
-		if (settings.getEditorStyleSheetReference() != null)
-		{
-			this.add(settings.getEditorStyleSheetReference());
-		}
-
-		// Bootstrap Wysiwyg
-		if (settings.getBootstrapWysiwygJavaScriptReference() != null)
-		{
-			this.add(settings.getBootstrapWysiwygJavaScriptReference());
-		}
-
-		// Bootstrap
-		if (settings.getBootstrapDropDownJavaScriptReference() != null)
-		{
-			this.add(settings.getBootstrapDropDownJavaScriptReference());
-		}
-
-		// JQuery Hot Keys
-		if (settings.getJQueryHotKeysJavaScriptReference() != null)
-		{
-			this.add(settings.getJQueryHotKeysJavaScriptReference());
-		}
-
-		// Prettify
-		if (settings.getPrettifyJavaScriptReference() != null)
-		{
-			this.add(settings.getPrettifyJavaScriptReference());
-		}
+		return JQueryUIModule.none();
 	}
 }
@@ -23,9 +23,11 @@ import org.apache.wicket.markup.html.form.Form;
 import org.apache.wicket.markup.html.form.FormComponentPanel;
 import org.apache.wicket.markup.html.form.TextArea;
 import org.apache.wicket.model.IModel;
+import org.apache.wicket.request.resource.ResourceReference;
 
 import com.googlecode.wicket.jquery.core.IJQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.JQueryLoader;
 import com.googlecode.wicket.jquery.ui.plugins.wysiwyg.toolbar.IWysiwygToolbar;
 
 /**
@@ -119,7 +121,11 @@ public class WysiwygEditor extends FormComponentPanel<String> implements IJQuery
 	{
 		super.renderHead(response);
 
-		response.render(OnLoadHeaderItem.forScript(String.format("addTextAreaMapper('%s', '%s');", this.container.getMarkupId(), this.textarea.getMarkupId())));
+		CharSequence script = String.format("addTextAreaMapper('%s', '%s');", this.container.getMarkupId(), this.textarea.getMarkupId());
+		ResourceReference reference = WysiwygBehavior.getLibrarySettings().getBootstrapWysiwygJavaScriptReference();
+
+		// waits for bootstrap-wysiwyg.js if it is loaded through the script loader
+		response.render(OnLoadHeaderItem.forScript(reference != null ? JQueryLoader.queue(script, reference) : script));
 	}
 
 	// Events //
@@ -36,21 +36,16 @@ import com.googlecode.wicket.jquery.ui.plugins.wysiwyg.resource.PrettifyJavaScri
  */
 public class WysiwygLibrarySettings extends JavaScriptLibrarySettings implements IWysiwygLibrarySettings
 {
-	private static WysiwygLibrarySettings instance = null;
+	private static final WysiwygLibrarySettings INSTANCE = new WysiwygLibrarySettings();
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link WysiwygLibrarySettings} instance
 	 * @return the {@link WysiwygLibrarySettings} instance
 	 */
-	public static synchronized IWysiwygLibrarySettings get()
+	public static IWysiwygLibrarySettings get()
 	{
-		if (WysiwygLibrarySettings.instance == null)
-		{
-			WysiwygLibrarySettings.instance = new WysiwygLibrarySettings();
-		}
-
-		return WysiwygLibrarySettings.instance;
+		return WysiwygLibrarySettings.INSTANCE;
 	}
 
 
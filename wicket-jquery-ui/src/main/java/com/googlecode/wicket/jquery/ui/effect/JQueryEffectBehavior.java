@@ -24,6 +24,7 @@ import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a specific jQuery behavior for playing effects.
@@ -114,6 +115,16 @@ public class JQueryEffectBehavior extends JQueryAbstractBehavior implements IJQu
 		return false;
 	}
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * The effect can be changed at any time, so all effect modules are returned.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return JQueryUIModule.effects();
+	}
+
 	// Methods //
 	@Override
 	public void bind(Component component)
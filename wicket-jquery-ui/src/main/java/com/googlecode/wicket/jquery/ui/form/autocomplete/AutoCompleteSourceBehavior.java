@@ -27,7 +27,7 @@ import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.http.WebResponse;
 
-import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.JsonWriter;
 import com.googlecode.wicket.jquery.core.renderer.ITextRenderer;
 
 /**
@@ -99,36 +99,37 @@ abstract class AutoCompleteSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 
 				if (choices != null)
 				{
-					StringBuilder builder = new StringBuilder("[ ");
+					JsonWriter writer = JsonWriter.get(response);
 
-					int index = 0;
-					for (T choice : choices)
+					try
 					{
-						if (index++ > 0)
-						{
-							builder.append(", ");
-						}
-
-						builder.append("{ ");
-						builder.append(Options.QUOTE).append("id").append(Options.QUOTE).append(": ").append(Options.QUOTE).append(Integer.toString(index)).append(Options.QUOTE); /* id is a reserved word */
-						builder.append(", ");
-						builder.append(Options.QUOTE).append("value").append(Options.QUOTE).append(": ").append(Options.QUOTE).append(renderer.getText(choice)).append(Options.QUOTE); /* value is a reserved word */
+						writer.beginArray();
 
-						if (properties != null)
+						int index = 0;
+						for (T choice : choices)
 						{
-							for (String property : properties)
+							writer.beginObject();
+							writer.name("id").string(Integer.toString(++index)); /* id is a reserved word */
+							writer.name("value").string(renderer.getText(choice)); /* value is a reserved word */
+
+							if (properties != null)
 							{
-								builder.append(", ");
-								builder.append(Options.QUOTE).append(property).append(Options.QUOTE).append(": ").append(Options.QUOTE).append(renderer.getText(choice, property)).append(Options.QUOTE);
+								for (String property : properties)
+								{
+									writer.name(property).string(renderer.getText(choice, property));
+								}
 							}
+
+							writer.endObject();
 						}
 
-						builder.append(" }");
+						writer.endArray();
+						writer.flush();
+					}
+					finally
+					{
+						writer.release();
 					}
-
-					builder.append(" ]");
-
-					response.write(builder);
 				}
 			}
 
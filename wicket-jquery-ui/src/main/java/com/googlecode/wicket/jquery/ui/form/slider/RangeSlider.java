@@ -31,6 +31,7 @@ import org.apache.wicket.validation.validator.RangeValidator;
 
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a jQuery range slider based on a {@link FormComponentPanel}
@@ -238,6 +239,12 @@ public class RangeSlider extends AbstractSlider<RangeValue>
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return new JQueryUIModule[] { JQueryUIModule.SLIDER };
+			}
+
 			@Override
 			protected String $() {
 
@@ -263,6 +270,12 @@ public class RangeSlider extends AbstractSlider<RangeValue>
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return new JQueryUIModule[] { JQueryUIModule.SLIDER };
+			}
+
 			@Override
 			protected String $() {
 
@@ -28,6 +28,7 @@ import org.apache.wicket.validation.validator.RangeValidator;
 
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a jQuery slider based on a {@link FormComponentPanel}
@@ -212,6 +213,12 @@ public class Slider extends AbstractSlider<Integer>
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return new JQueryUIModule[] { JQueryUIModule.SLIDER };
+			}
+
 			@Override
 			protected String $() {
 
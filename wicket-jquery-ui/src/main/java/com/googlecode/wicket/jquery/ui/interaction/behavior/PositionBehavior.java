@@ -20,6 +20,7 @@ import org.apache.wicket.Component;
 
 import com.googlecode.wicket.jquery.core.IJQueryWidget.JQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a jquery position behavior
@@ -48,6 +49,16 @@ public class PositionBehavior extends JQueryAbstractBehavior
 	}
 
 	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * The position utility is provided by the jQuery UI position module.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return new JQueryUIModule[] { JQueryUIModule.POSITION };
+	}
+
 	@Override
 	public boolean isTemporary(Component component)
 	{
@@ -28,6 +28,7 @@ import org.apache.wicket.model.util.ListModel;
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.JQueryContainer;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 import com.googlecode.wicket.jquery.ui.JQueryIcon;
 import com.googlecode.wicket.jquery.ui.interaction.draggable.Draggable;
 
@@ -220,6 +221,12 @@ public class Selectable<T extends Serializable> extends JQueryContainer implemen
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return JQueryUIModule.none();
+			}
+
 			@Override
 			public boolean isTemporary(Component component)
 			{
@@ -27,6 +27,7 @@ import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxDispatcher;
 import com.googlecode.wicket.jquery.core.utils.ListUtils;
 import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 import com.googlecode.wicket.jquery.ui.interaction.selectable.SelectableBehavior;
@@ -42,6 +43,7 @@ public abstract class SortableBehavior<T> extends JQueryBehavior implements IJQu
 	private static final long serialVersionUID = 1L;
 	private static final String METHOD = "sortable";
 
+	private JQueryAjaxDispatcher dispatcher;
 	private JQueryAjaxBehavior onUpdateBehavior;
 	private JQueryAjaxBehavior onReceiveBehavior = null;
 	private JQueryAjaxBehavior onRemoveBehavior = null;
@@ -91,16 +93,17 @@ public abstract class SortableBehavior<T> extends JQueryBehavior implements IJQu
 	{
 		super.bind(component);
 
-		component.add(this.onUpdateBehavior = this.newOnUpdateBehavior());
+		component.add(this.dispatcher = new JQueryAjaxDispatcher());
+		this.onUpdateBehavior = this.dispatcher.register("update", this.newOnUpdateBehavior());
 
 		if (this.isOnReceiveEnabled())
 		{
-			component.add(this.onReceiveBehavior = this.newOnReceiveBehavior());
+			this.onReceiveBehavior = this.dispatcher.register("receive", this.newOnReceiveBehavior());
 		}
 
 		if (this.isOnRemoveEnabled())
 		{
-			component.add(this.onRemoveBehavior = this.newOnRemoveBehavior());
+			this.onRemoveBehavior = this.dispatcher.register("remove", this.newOnRemoveBehavior());
 		}
 	}
 
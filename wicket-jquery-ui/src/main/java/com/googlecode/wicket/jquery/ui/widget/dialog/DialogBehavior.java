@@ -26,6 +26,7 @@ import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxDispatcher;
 import com.googlecode.wicket.jquery.ui.form.button.Button;
 import com.googlecode.wicket.jquery.ui.widget.dialog.ButtonAjaxBehavior.ClickEvent;
 
@@ -41,6 +42,7 @@ public abstract class DialogBehavior extends JQueryBehavior implements IJQueryAj
 	private static final long serialVersionUID = 1L;
 	private static final String METHOD = "dialog";
 
+	private JQueryAjaxDispatcher dispatcher;
 	private JQueryAjaxBehavior onDefaultClose = null;
 
 	/**
@@ -78,14 +80,18 @@ public abstract class DialogBehavior extends JQueryBehavior implements IJQueryAj
 	{
 		super.bind(component);
 
+		component.add(this.dispatcher = new JQueryAjaxDispatcher());
+
+		int index = 0;
+
 		for (DialogButton button : this.getButtons())
 		{
-			component.add(this.newButtonAjaxBehavior(this, button));
+			this.dispatcher.register("button-" + index++, this.newButtonAjaxBehavior(this, button));
 		}
 
 		if (this.isDefaultCloseEventEnabled())
 		{
-			component.add(this.onDefaultClose = this.newDefaultCloseBehavior());
+			this.onDefaultClose = this.dispatcher.register("close", this.newDefaultCloseBehavior());
 		}
 	}
 
@@ -124,7 +130,7 @@ public abstract class DialogBehavior extends JQueryBehavior implements IJQueryAj
 		StringBuilder buttons = new StringBuilder("[ ");
 
 		int index = 0;
-		for (ButtonAjaxBehavior behavior : component.getBehaviors(ButtonAjaxBehavior.class))
+		for (ButtonAjaxBehavior behavior : this.dispatcher.getBehaviors(ButtonAjaxBehavior.class))
 		{
 			DialogButton button = behavior.getButton();
 
@@ -16,27 +16,52 @@
  */
 package com.googlecode.wicket.jquery.ui.widget.menu;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.wicket.AttributeModifier;
 import org.apache.wicket.Component;
+import org.apache.wicket.Page;
 import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.markup.head.IHeaderResponse;
 
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
+import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.event.DelegatedEvents;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 
 /**
- * Provides a context-menu based on the {@link Menu}
+ * Provides a context-menu based on the {@link Menu}<br/>
+ * The 'contextmenu' event of all the invokers (the components holding a {@link ContextMenuBehavior}) is handled by a single delegated handler and a single ajax callback,
+ * which sends the markup id of the invoker. The invoker is resolved among the components the menu's {@link ContextMenuBehavior}<code>s</code> are bound to.
  *
  * @author Sebastien Briquet - sebfz1
  */
-public class ContextMenu extends Menu
+public class ContextMenu extends Menu implements IJQueryAjaxAware
 {
 	private static final long serialVersionUID = 1L;
 
 	/** CSS class used to identify a {@link Menu}. It could be useful to perform some jQuery operation on all menu in the page (hiding for instance) */
 	public static final String CONTEXTMENU_CSS_CLASS = "context-menu";
 
+	/** The event handled through the delegated events registry */
+	static final String CONTEXTMENU_EVENT = "contextmenu";
+
+	/** Initial size from which unattached invokers are discarded */
+	private static final int THRESHOLD = 16;
+
+	private JQueryAjaxBehavior onContextMenuEventBehavior;
+
+	/** The components holding a {@link ContextMenuBehavior} of this menu */
+	private final List<Component> invokers = new ArrayList<Component>();
+	private int threshold = THRESHOLD;
+
 	/**
 	 * Constructor
 	 *
@@ -104,6 +129,22 @@ public class ContextMenu extends Menu
 		this.add(AttributeModifier.append("class", CONTEXTMENU_CSS_CLASS));
 		this.add(AttributeModifier.append("style", "position: absolute; display: none;"));
 		this.add(this.newContextMenuDocumentBehavior());
+		this.add(this.onContextMenuEventBehavior = this.newOnContextMenuBehavior());
+		this.add(this.newContextMenuInvokerBehavior());
+	}
+
+	@Override
+	public void onAjax(AjaxRequestTarget target, JQueryEvent event)
+	{
+		if (event instanceof ContextMenuEvent)
+		{
+			Component component = this.findInvoker(((ContextMenuEvent) event).getInvokerId());
+
+			if (component != null)
+			{
+				this.fireOnContextMenu(target, component);
+			}
+		}
 	}
 
 	/**
@@ -131,7 +172,66 @@ public class ContextMenu extends Menu
 		// noop
 	}
 
+	/**
+	 * Finds the invoker, that is the component of the page that holds a {@link ContextMenuBehavior} of this menu
+	 *
+	 * @param markupId the markup id of the invoker
+	 * @return the invoker, or null if not found
+	 */
+	private Component findInvoker(String markupId)
+	{
+		if (markupId != null)
+		{
+			for (Component invoker : this.invokers)
+			{
+				if (markupId.equals(invoker.getMarkupId(false)))
+				{
+					return invoker;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Registers an invoker, that is a component to which a {@link ContextMenuBehavior} of this menu has been bound.<br/>
+	 * The invokers that are no longer part of a page (ie: rows of a repeater that have been re-populated) are discarded as the list grows.
+	 *
+	 * @param invoker the invoker
+	 */
+	void register(Component invoker)
+	{
+		if (this.invokers.size() >= this.threshold)
+		{
+			for (Iterator<Component> iterator = this.invokers.iterator(); iterator.hasNext();)
+			{
+				Component component = iterator.next();
+
+				if (!(component instanceof Page) && component.findParent(Page.class) == null)
+				{
+					iterator.remove();
+				}
+			}
+
+			this.threshold = Math.max(THRESHOLD, this.invokers.size() * 2);
+		}
+
+		this.invokers.add(invoker);
+	}
+
+	/**
+	 * Unregisters an invoker
+	 *
+	 * @param invoker the invoker
+	 */
+	void unregister(Component invoker)
+	{
+		this.invokers.remove(invoker);
+	}
+
 	// Factories //
+
 	/**
 	 * Gets a new {@link JQueryAbstractBehavior} that handles the closing of the context-menu
 	 *
@@ -143,6 +243,12 @@ public class ContextMenu extends Menu
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return JQueryUIModule.none();
+			}
+
 			@Override
 			protected String $()
 			{
@@ -163,4 +269,100 @@ public class ContextMenu extends Menu
 			}
 		};
 	}
+
+	/**
+	 * Gets a new {@link JQueryAbstractBehavior} that registers the 'contextmenu' callback of the invokers
+	 *
+	 * @return a {@link JQueryAbstractBehavior}
+	 */
+	private JQueryAbstractBehavior newContextMenuInvokerBehavior()
+	{
+		return new JQueryAbstractBehavior("context-menu-invoker") {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return JQueryUIModule.none();
+			}
+
+			@Override
+			public void renderHead(Component component, IHeaderResponse response)
+			{
+				DelegatedEvents.renderHead(response);
+
+				super.renderHead(component, response);
+			}
+
+			@Override
+			protected String $()
+			{
+				return String.format("jQuery(function() { %s });", DelegatedEvents.on(CONTEXTMENU_EVENT, ContextMenu.this.getMarkupId(), ContextMenu.this.onContextMenuEventBehavior.getCallbackFunction()));
+			}
+		};
+	}
+
+	/**
+	 * Gets the ajax behavior that will be triggered on context-menu click
+	 *
+	 * @return the {@link JQueryAjaxBehavior}
+	 */
+	private JQueryAjaxBehavior newOnContextMenuBehavior()
+	{
+		return new JQueryAjaxBehavior(this) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected CallbackParameter[] getCallbackParameters()
+			{
+				return new CallbackParameter[] { CallbackParameter.context("event"), CallbackParameter.resolved("invokerId", "this.id") };
+			}
+
+			@Override
+			public CharSequence getCallbackFunctionBody(CallbackParameter... parameters)
+			{
+				String callback = String.valueOf(super.getCallbackFunctionBody(parameters));
+				String bodyHide = String.format("jQuery('.%s').each( function() { jQuery(this).hide(); } );", CONTEXTMENU_CSS_CLASS); // hide all menus
+				String bodyStop = "return false;"; // stop event propagation
+
+				return String.format("%s %s %s", bodyHide, callback, bodyStop);
+			}
+
+			@Override
+			protected JQueryEvent newEvent()
+			{
+				return new ContextMenuEvent();
+			}
+		};
+	}
+
+	// Event class //
+
+	/**
+	 * Provides an event object that will be broadcasted by the {@link JQueryAjaxBehavior} 'contextmenu' callback
+	 */
+	protected static class ContextMenuEvent extends JQueryEvent
+	{
+		private final String invokerId;
+
+		/**
+		 * Constructor
+		 */
+		public ContextMenuEvent()
+		{
+			this.invokerId = RequestCycleUtils.getQueryParameterValue("invokerId").toOptionalString();
+		}
+
+		/**
+		 * Gets the markup id of the invoker
+		 *
+		 * @return the markup id
+		 */
+		public String getInvokerId()
+		{
+			return this.invokerId;
+		}
+	}
 }
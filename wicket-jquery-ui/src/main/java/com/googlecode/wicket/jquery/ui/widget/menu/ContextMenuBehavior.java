@@ -20,18 +20,21 @@ import org.apache.wicket.AttributeModifier;
 import org.apache.wicket.Component;
 import org.apache.wicket.WicketRuntimeException;
 import org.apache.wicket.ajax.AjaxRequestTarget;
-import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.markup.ComponentTag;
+import org.apache.wicket.markup.head.IHeaderResponse;
 import org.apache.wicket.util.lang.Args;
 
-import com.googlecode.wicket.jquery.core.IJQueryWidget.JQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
 import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
-import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.event.DelegatedEvents;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Provides a jQuery context menu behavior.<br/>
- * A {@link ContextMenuBehavior} can be associated to <i>only one</i> {@link Component} (ie: The behavior cannot be reused).
+ * A {@link ContextMenuBehavior} can be associated to <i>only one</i> {@link Component} (ie: The behavior cannot be reused).<br/>
+ * The behavior only marks the component as an invoker of the {@link ContextMenu}: the 'contextmenu' event is handled by the {@link ContextMenu} itself,
+ * through a single delegated handler and a single ajax callback for all its invokers (see {@link DelegatedEvents}).
  *
  * @author Sebastien Briquet - sebfz1
  * @since 6.2.8
@@ -48,8 +51,6 @@ public class ContextMenuBehavior extends JQueryAbstractBehavior implements IJQue
 	private final ContextMenu menu;
 	private Component component = null;
 
-	private JQueryAjaxBehavior onContextMenuEventBehavior;
-
 	/**
 	 * Constructor
 	 *
@@ -62,6 +63,18 @@ public class ContextMenuBehavior extends JQueryAbstractBehavior implements IJQue
 		this.menu = Args.notNull(menu, "menu");
 	}
 
+	// Properties //
+
+	/**
+	 * Gets the {@link ContextMenu} that should be displayed
+	 *
+	 * @return the {@link ContextMenu}
+	 */
+	public ContextMenu getContextMenu()
+	{
+		return this.menu;
+	}
+
 	// Methods //
 
 	@Override
@@ -75,69 +88,84 @@ public class ContextMenuBehavior extends JQueryAbstractBehavior implements IJQue
 		}
 
 		this.component = component;
+		this.component.setOutputMarkupId(true); // the markup id is sent back by the context menu callback
 		this.component.add(AttributeModifier.append("class", INVOKER_CSS_CLASS));
-		this.component.add(this.onContextMenuEventBehavior = this.newOnContextMenuBehavior());
+		this.menu.register(component);
 	}
 
 	@Override
-	protected String $()
+	public void unbind(Component component)
 	{
-		return String.format("jQuery(function() { jQuery('%s').on('contextmenu', %s); });", JQueryWidget.getSelector(this.component), this.onContextMenuEventBehavior.getCallbackFunction());
+		this.menu.unregister(component);
+		this.component = null;
+
+		super.unbind(component);
 	}
 
-	// Events //
+	/**
+	 * {@inheritDoc}<br/>
+	 * Renders nothing: the 'contextmenu' event is handled by the {@link ContextMenu}.
+	 */
+	@Override
+	public void renderHead(Component component, IHeaderResponse response)
+	{
+		// noop
+	}
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * The context menu behavior does not depend on jQuery UI.
+	 */
 	@Override
-	public void onAjax(AjaxRequestTarget target, JQueryEvent event)
+	protected JQueryUIModule[] getJQueryUIModules()
 	{
-		if (event instanceof ContextMenuEvent)
-		{
-			this.menu.fireOnContextMenu(target, this.component);
-		}
+		return JQueryUIModule.none();
+	}
+
+	/**
+	 * Gets an empty statement: the 'contextmenu' event is handled by the {@link ContextMenu}
+	 */
+	@Override
+	protected String $()
+	{
+		return "";
+	}
+
+	@Override
+	public void onComponentTag(Component component, ComponentTag tag)
+	{
+		super.onComponentTag(component, tag);
+
+		tag.put(DelegatedEvents.getAttributeName(ContextMenu.CONTEXTMENU_EVENT), this.menu.getMarkupId());
 	}
 
-	// Factories //
+	// Events //
 
 	/**
-	 * Gets the ajax behavior that will be triggered on context-menu click
+	 * Displays the {@link ContextMenu} for the bound component
 	 *
-	 * @return the {@link JQueryAjaxBehavior}
+	 * @param target the {@link AjaxRequestTarget}
+	 * @param event the {@link JQueryEvent}
+	 * @deprecated the 'contextmenu' event is handled by the {@link ContextMenu} itself, which no longer calls this method. Will be removed in the next release.
 	 */
-	private JQueryAjaxBehavior newOnContextMenuBehavior()
+	@Deprecated
+	@Override
+	public void onAjax(AjaxRequestTarget target, JQueryEvent event)
 	{
-		return new JQueryAjaxBehavior(this) {
-
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			protected CallbackParameter[] getCallbackParameters()
-			{
-				return new CallbackParameter[] { CallbackParameter.context("event") };
-			}
-
-			@Override
-			public CharSequence getCallbackFunctionBody(CallbackParameter... parameters)
-			{
-				String callback = String.valueOf(super.getCallbackFunctionBody(parameters));
-				String bodyHide = String.format("jQuery('.%s').each( function() { jQuery(this).hide(); } );", ContextMenu.CONTEXTMENU_CSS_CLASS); // hide all menus
-				String bodyStop = "return false;"; // stop event propagation
-
-				return String.format("%s %s %s", bodyHide, callback, bodyStop);
-			}
-
-			@Override
-			protected JQueryEvent newEvent()
-			{
-				return new ContextMenuEvent();
-			}
-		};
+		if (event instanceof ContextMenuEvent || event instanceof ContextMenu.ContextMenuEvent)
+		{
+			this.menu.fireOnContextMenu(target, this.component);
+		}
 	}
 
 	// Event class //
 
 	/**
-	 * Provides an event object that will be broadcasted by the {@link JQueryAjaxBehavior} 'contextmenu' callback
+	 * Provides an event object that will be broadcasted by the 'contextmenu' callback
+	 *
+	 * @deprecated the 'contextmenu' event is handled by the {@link ContextMenu} itself (see ContextMenu.ContextMenuEvent). Will be removed in the next release.
 	 */
+	@Deprecated
 	protected static class ContextMenuEvent extends JQueryEvent
 	{
 	}
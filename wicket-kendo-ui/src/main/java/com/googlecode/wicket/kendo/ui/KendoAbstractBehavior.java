@@ -16,11 +16,23 @@
  */
 package com.googlecode.wicket.kendo.ui;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.wicket.Application;
+import org.apache.wicket.Component;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.JQueryLoader;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
+import com.googlecode.wicket.kendo.ui.resource.KendoUIModuleHeaderItem;
+import com.googlecode.wicket.kendo.ui.resource.KendoUIModuleRegistry;
 import com.googlecode.wicket.kendo.ui.settings.IKendoUILibrarySettings;
 import com.googlecode.wicket.kendo.ui.settings.KendoUILibrarySettings;
 
@@ -48,6 +60,45 @@ public class KendoAbstractBehavior extends JQueryBehavior
 		return KendoUILibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS resource references shared by all Kendo UI behaviors (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			IKendoUILibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			// kendo.common.min.css //
+			if (settings.getKendoUICommonStyleSheetReference() != null)
+			{
+				references.add(settings.getKendoUICommonStyleSheetReference());
+			}
+
+			// kendo.<theme>.min.css //
+			if (settings.getKendoUIThemeStyleSheetReference() != null)
+			{
+				references.add(settings.getKendoUIThemeStyleSheetReference());
+			}
+
+			return references;
+		}
+	};
+
+	/**
+	 * Indicates whether Kendo UI should be rendered per module
+	 *
+	 * @param settings the {@link IKendoUILibrarySettings}
+	 * @return true if the settings are {@link KendoUILibrarySettings} with modular loading enabled
+	 * @see KendoUILibrarySettings#setKendoUIModular(boolean)
+	 */
+	private static boolean isKendoUIModular(IKendoUILibrarySettings settings)
+	{
+		return (settings instanceof KendoUILibrarySettings) && ((KendoUILibrarySettings) settings).isKendoUIModular();
+	}
+
 
 	/**
 	 * Constructor
@@ -68,33 +119,61 @@ public class KendoAbstractBehavior extends JQueryBehavior
 	public KendoAbstractBehavior(String selector, String method, Options options)
 	{
 		super(selector, method, options);
+	}
 
-		this.initReferences();
+	// Properties //
+	/**
+	 * {@inheritDoc}<br/>
+	 * Kendo UI widgets do not depend on jQuery UI.
+	 */
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
+	{
+		return new JQueryUIModule[] {};
 	}
 
 	/**
-	 * Initializes CSS & JavaScript resource references
+	 * Gets the Kendo UI modules this behavior needs, when Kendo UI is loaded per module.<br/>
+	 * Dependencies of the returned modules are resolved by the {@link KendoUIModuleRegistry} and do not have to be listed.<br/>
+	 * Default implementation returns the module of the widget method (ie: 'kendoDropDownList' gives 'dropdownlist').
+	 *
+	 * @return the module ids, or null if the whole library is needed
+	 * @see KendoUILibrarySettings#setKendoUIModular(boolean)
 	 */
-	private void initReferences()
+	protected String[] getKendoUIModules()
 	{
-		IKendoUILibrarySettings settings = getLibrarySettings();
+		String module = this.method.replaceFirst("^kendo", "").toLowerCase();
 
-		// kendo.common.min.css //
-		if (settings.getKendoUICommonStyleSheetReference() != null)
+		if (KendoUIModuleRegistry.get().contains(module))
 		{
-			this.add(settings.getKendoUICommonStyleSheetReference());
+			return new String[] { module };
 		}
 
-		// kendo.<theme>.min.css //
-		if (settings.getKendoUIThemeStyleSheetReference() != null)
-		{
-			this.add(settings.getKendoUIThemeStyleSheetReference());
-		}
+		return null;
+	}
+
+	// Methods //
+	@Override
+	protected void renderReferences(Component component, JQueryLoader loader)
+	{
+		super.renderReferences(component, loader);
+
+		IKendoUILibrarySettings settings = getLibrarySettings();
 
 		// kendo.web.min.js //
 		if (settings.getKendoUIJavaScriptReference() != null)
 		{
-			this.add(settings.getKendoUIJavaScriptReference());
+			String[] modules = isKendoUIModular(settings) ? this.getKendoUIModules() : null;
+
+			if (modules != null)
+			{
+				KendoUIModuleHeaderItem item = new KendoUIModuleHeaderItem(Arrays.asList(modules), JQueryLoader.getLoadingMode());
+				loader.render(item, item.getAliases());
+			}
+			else
+			{
+				loader.render(settings.getKendoUIJavaScriptReference());
+			}
 		}
 	}
 }
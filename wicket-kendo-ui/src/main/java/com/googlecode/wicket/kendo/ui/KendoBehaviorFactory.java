@@ -21,6 +21,8 @@ import org.apache.wicket.ajax.AjaxRequestTarget;
 
 import com.googlecode.wicket.jquery.core.IJQueryWidget.JQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxScriptCollector;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
 
 /**
  * Factory that provides {@link JQueryBehavior}<code>s</code>, which may be used in widgets.
@@ -49,7 +51,7 @@ public final class KendoBehaviorFactory
 	 */
 	public static void show(AjaxRequestTarget target, String selector)
 	{
-		target.appendJavaScript(KendoBehaviorFactory.getShowStatement(selector));
+		JQueryAjaxScriptCollector.append(target, KendoBehaviorFactory.getShowStatement(selector));
 	}
 
 	/**
@@ -71,7 +73,7 @@ public final class KendoBehaviorFactory
 	 */
 	public static void hide(AjaxRequestTarget target, String selector)
 	{
-		target.appendJavaScript(KendoBehaviorFactory.getHideStatement(selector));
+		JQueryAjaxScriptCollector.append(target, KendoBehaviorFactory.getHideStatement(selector));
 	}
 
 	/**
@@ -97,6 +99,12 @@ public final class KendoBehaviorFactory
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return JQueryUIModule.none();
+			}
+
 			@Override
 			protected String $()
 			{
@@ -128,6 +136,12 @@ public final class KendoBehaviorFactory
 
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected JQueryUIModule[] getJQueryUIModules()
+			{
+				return JQueryUIModule.none();
+			}
+
 			@Override
 			protected String $()
 			{
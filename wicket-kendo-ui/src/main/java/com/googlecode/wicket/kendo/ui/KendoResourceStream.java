@@ -43,4 +43,10 @@ public class KendoResourceStream extends JQueryResourceStream
 	{
 		return "text/x-kendo-template";
 	}
+
+	@Override
+	public String getCompiler()
+	{
+		return "function(text) { return kendo.template(text); }";
+	}
 }
@@ -44,9 +44,32 @@ public class KendoTemplateBehavior extends JQueryAbstractTemplateBehavior
 		this.template = template;
 	}
 
+	/**
+	 * Gets the unique resource-stream token that acts as the script id.<br/>
+	 * The token differs from the one of a JQueryTemplateBehavior having the same content, as the template is not compiled by the same engine.
+	 * @return the token
+	 */
+	@Override
+	public String getToken()
+	{
+		return "kendo-" + super.getToken();
+	}
+
+	@Override
+	protected String getContent()
+	{
+		return this.template.getText();
+	}
+
+	@Override
+	protected Class<? extends IJQueryTemplate> getTemplateClass()
+	{
+		return this.template.getClass();
+	}
+
 	@Override
 	protected JQueryResourceStream newResourceStream()
 	{
-		return new KendoResourceStream(this.template.getText(), this.getToken());
+		return new KendoResourceStream(this.getContent(), this.getToken());
 	}
 }
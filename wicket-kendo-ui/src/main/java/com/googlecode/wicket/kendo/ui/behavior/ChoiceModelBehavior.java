@@ -25,6 +25,7 @@ import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.http.WebResponse;
 
+import com.googlecode.wicket.jquery.core.JsonWriter;
 import com.googlecode.wicket.kendo.ui.renderer.IChoiceRenderer;
 
 /**
@@ -74,22 +75,24 @@ public abstract class ChoiceModelBehavior<T> extends AbstractAjaxBehavior
 
 				if (list != null)
 				{
-					int count = 0;
-					StringBuilder builder = new StringBuilder("[");
+					JsonWriter writer = JsonWriter.get(response);
 
-					for (T object : list)
+					try
 					{
-						if (count++ > 0)
+						writer.beginArray();
+
+						for (T object : list)
 						{
-							builder.append(",");
+							ChoiceModelBehavior.this.renderer.toJson(writer, object);
 						}
 
-						builder.append(ChoiceModelBehavior.this.renderer.toJson(object));
+						writer.endArray();
+						writer.flush();
+					}
+					finally
+					{
+						writer.release();
 					}
-
-					builder.append("]");
-
-					response.write(builder);
 				}
 			}
 
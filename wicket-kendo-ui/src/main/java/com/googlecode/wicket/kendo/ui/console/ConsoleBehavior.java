@@ -17,13 +17,19 @@
 package com.googlecode.wicket.kendo.ui.console;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.wicket.Application;
 import org.apache.wicket.AttributeModifier;
 import org.apache.wicket.Component;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.IJavaScriptLibrarySettings;
 
 import com.googlecode.wicket.jquery.core.JQueryAbstractBehavior;
+import com.googlecode.wicket.jquery.core.resource.JQueryUIModule;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry;
+import com.googlecode.wicket.jquery.core.resource.LibraryResourceRegistry.IResourceProvider;
 import com.googlecode.wicket.kendo.ui.settings.ConsoleLibrarySettings;
 import com.googlecode.wicket.kendo.ui.settings.IConsoleLibrarySettings;
 
@@ -52,34 +58,50 @@ public abstract class ConsoleBehavior extends JQueryAbstractBehavior
 		return ConsoleLibrarySettings.get();
 	}
 
+	/**
+	 * Provides the CSS & JavaScript resource references shared by all {@link ConsoleBehavior}<tt>s</tt> (see {@link LibraryResourceRegistry})
+	 */
+	public static final IResourceProvider RESOURCES = new IResourceProvider() {
+
+		@Override
+		public List<ResourceReference> getResourceReferences()
+		{
+			IConsoleLibrarySettings settings = getLibrarySettings();
+			List<ResourceReference> references = new ArrayList<ResourceReference>();
+
+			// console.css //
+			if (settings.getConsoleStyleSheetReference() != null)
+			{
+				references.add(settings.getConsoleStyleSheetReference());
+			}
+
+			// console.js //
+			if (settings.getConsoleJavaScriptReference() != null)
+			{
+				references.add(settings.getConsoleJavaScriptReference());
+			}
+
+			return references;
+		}
+	};
+
 	/**
 	 * Constructor
 	 */
 	public ConsoleBehavior()
 	{
 		super("console");
-
-		this.initReferences();
 	}
 
+	// Properties //
 	/**
-	 * Initializes CSS & JavaScript resource references
+	 * {@inheritDoc}<br/>
+	 * The console does not depend on jQuery UI.
 	 */
-	private void initReferences()
+	@Override
+	protected JQueryUIModule[] getJQueryUIModules()
 	{
-		IConsoleLibrarySettings settings = getLibrarySettings();
-
-		// console.css //
-		if (settings.getConsoleStyleSheetReference() != null)
-		{
-			this.add(settings.getConsoleStyleSheetReference());
-		}
-
-		// console.js //
-		if (settings.getConsoleJavaScriptReference() != null)
-		{
-			this.add(settings.getConsoleJavaScriptReference());
-		}
+		return new JQueryUIModule[] {};
 	}
 
 	@Override
@@ -16,15 +16,16 @@
  */
 package com.googlecode.wicket.kendo.ui.datatable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.wicket.Application;
 import org.apache.wicket.Session;
 import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
 import org.apache.wicket.ajax.AjaxRequestTarget;
-import org.apache.wicket.ajax.json.JSONException;
-import org.apache.wicket.ajax.json.JSONObject;
 import org.apache.wicket.core.util.lang.PropertyResolver;
 import org.apache.wicket.core.util.lang.PropertyResolverConverter;
 import org.apache.wicket.extensions.markup.html.repeater.data.sort.ISortStateLocator;
@@ -36,11 +37,15 @@ import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.IRequestParameters;
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.http.WebResponse;
-import org.apache.wicket.util.convert.ConversionException;
 
-import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.JsonWriter;
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.AggregateDescriptor;
 import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
-import com.googlecode.wicket.kendo.ui.datatable.column.PropertyColumn;
+import com.googlecode.wicket.kendo.ui.datatable.filter.CompositeFilterDescriptor;
+import com.googlecode.wicket.kendo.ui.datatable.filter.IFilterableDataProvider;
+import com.googlecode.wicket.kendo.ui.datatable.group.GroupDescriptor;
+import com.googlecode.wicket.kendo.ui.datatable.sort.IMultiSortStateLocator;
+import com.googlecode.wicket.kendo.ui.datatable.sort.SortDescriptor;
 import com.googlecode.wicket.kendo.ui.utils.PropertyUtils;
 
 /**
@@ -60,6 +65,12 @@ class DataSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 	private final IDataProvider<T> provider;
 	private final List<? extends IColumn> columns;
 
+	/** The row writers, by bean class; they are kept across requests as long as the columns do not change */
+	private transient Map<Class<?>, JsonRowWriter> writers = null;
+
+	/** The columns the row writers have been built for */
+	private transient List<IColumn> writerColumns = null;
+
 	/**
 	 * Constructor
 	 *
@@ -89,30 +100,50 @@ class DataSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 		final int first = parameters.getParameterValue("skip").toInt(0);
 		final int count = parameters.getParameterValue("take").toInt(0);
 
-		// ISortStateLocator //
-		if (this.provider instanceof ISortStateLocator)
+		// row writers (rebuilt only if the columns have changed) //
+		if (this.writers != null && !this.writerColumns.equals(this.columns))
+		{
+			this.writers = null;
+		}
+
+		final List<GroupDescriptor> groups = GroupDescriptor.of(parameters);
+		final List<AggregateDescriptor> aggregates = AggregateDescriptor.of(parameters);
+
+		// IMultiSortStateLocator (group keys first, so the members of each group are served together) //
+		if (this.provider instanceof IMultiSortStateLocator)
+		{
+			((IMultiSortStateLocator) this.provider).getMultiSortState().setSortDescriptors(DataSourceBehavior.sortDescriptorsOf(groups, SortDescriptor.of(parameters)));
+		}
+
+		// ISortStateLocator (first sort key only; or the first group key, so the members of each first-level group are served together) //
+		else if (this.provider instanceof ISortStateLocator)
 		{
 			String property = parameters.getParameterValue("sort[0][field]").toOptionalString();
 			String direction = parameters.getParameterValue("sort[0][dir]").toOptionalString();
 
-			if (property != null)
+			if (!groups.isEmpty())
+			{
+				GroupDescriptor group = groups.get(0);
+				this.setSort(group.getProperty(), group.getOrder());
+			}
+			else if (property != null)
 			{
 				this.setSort(PropertyUtils.unescape(property), direction == null ? SortOrder.NONE : direction.equals(ASC) ? SortOrder.ASCENDING : SortOrder.DESCENDING);
 			}
 		}
 
-		// IFilterStateLocator //
-		if (this.provider instanceof IFilterStateLocator)
+		// IFilterableDataProvider //
+		if (this.provider instanceof IFilterableDataProvider)
+		{
+			((IFilterableDataProvider<T>) this.provider).setFilter(CompositeFilterDescriptor.of(parameters, this.columns));
+		}
+
+		// IFilterStateLocator (supports 'eq' filters only, combined with 'and') //
+		else if (this.provider instanceof IFilterStateLocator)
 		{
 			String fieldPattern = "filter[filters][%d][field]";
 			String valuePattern = "filter[filters][%d][value]";
 
-			@SuppressWarnings("unused")
-			String logicPattern = "filter[logic]";
-			@SuppressWarnings("unused")
-			String operatorPattern = "filter[filters][%d][operator]";
-			// TODO: implement logic & operator (new IFilterStateLocator interface?)
-
 			@SuppressWarnings("unchecked")
 			T object = ((IFilterStateLocator<T>) this.provider).getFilterState();
 			PropertyResolverConverter converter = this.newPropertyResolverConverter();
@@ -133,10 +164,44 @@ class DataSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 			}
 		}
 
-		final IRequestHandler handler = this.newRequestHandler(first, count);
+		final IRequestHandler handler = this.newRequestHandler(first, count, groups, aggregates);
 		requestCycle.scheduleRequestHandlerAfterCurrent(handler);
 	}
 
+	/**
+	 * Gets the sort descriptors of the groups, followed by the requested ones which are not already group keys
+	 *
+	 * @param groups the list of {@link GroupDescriptor}
+	 * @param sorts the requested list of {@link SortDescriptor}
+	 * @return the ordered list of {@link SortDescriptor}
+	 */
+	private static List<SortDescriptor> sortDescriptorsOf(List<GroupDescriptor> groups, List<SortDescriptor> sorts)
+	{
+		if (groups.isEmpty())
+		{
+			return sorts;
+		}
+
+		List<SortDescriptor> descriptors = new ArrayList<SortDescriptor>();
+		List<String> properties = new ArrayList<String>();
+
+		for (GroupDescriptor group : groups)
+		{
+			descriptors.add(group.toSortDescriptor());
+			properties.add(group.getProperty());
+		}
+
+		for (SortDescriptor sort : sorts)
+		{
+			if (!properties.contains(sort.getProperty()))
+			{
+				descriptors.add(sort);
+			}
+		}
+
+		return descriptors;
+	}
+
 	/**
 	 * Get a new {@link PropertyResolverConverter}
 	 *
@@ -152,9 +217,11 @@ class DataSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 	 *
 	 * @param first the first row number
 	 * @param count the count of rows
+	 * @param groups the list of {@link GroupDescriptor}, can be empty
+	 * @param aggregates the list of {@link AggregateDescriptor}, can be empty
 	 * @return a new {@link IRequestHandler}
 	 */
-	private IRequestHandler newRequestHandler(final int first, final int count)
+	private IRequestHandler newRequestHandler(final int first, final int count, final List<GroupDescriptor> groups, final List<AggregateDescriptor> aggregates)
 	{
 		return new IRequestHandler() {
 
@@ -168,29 +235,44 @@ class DataSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 				response.disableCaching();
 
 				final long size = provider.size();
+
+				// aggregates are computed before the page is iterated //
+				final JsonGroupWriter<T> groupWriter = new JsonGroupWriter<T>(DataSourceBehavior.this, groups, aggregates);
+				groupWriter.aggregate(provider, size);
+
 				final Iterator<? extends T> iterator = provider.iterator(first, count);
 
 				// builds JSON result //
-				StringBuilder builder = new StringBuilder();
+				JsonWriter writer = JsonWriter.get(response);
 
-				builder.append("{ ");
-				builder.append(Options.QUOTE).append("__count").append(Options.QUOTE).append(": ").append(size).append(", ");
-				builder.append(Options.QUOTE).append("results").append(Options.QUOTE).append(": ");
-				builder.append("[ ");
-
-				for (int index = 0; iterator.hasNext(); index++)
+				try
 				{
-					if (index > 0)
+					writer.beginObject();
+					writer.name("__count").value(size);
+					writer.name("results").beginArray();
+
+					if (groups.isEmpty())
 					{
-						builder.append(", ");
+						while (iterator.hasNext())
+						{
+							DataSourceBehavior.this.writeJsonRow(writer, iterator.next());
+						}
+					}
+					else
+					{
+						groupWriter.writeGroups(writer, iterator);
 					}
 
-					builder.append(DataSourceBehavior.this.newJsonRow(iterator.next()));
+					writer.endArray();
+					writer.name("__aggregates");
+					groupWriter.writeAggregates(writer);
+					writer.endObject();
+					writer.flush();
+				}
+				finally
+				{
+					writer.release();
 				}
-
-				builder.append(" ] }");
-
-				response.write(builder);
 			}
 
 			@Override
@@ -202,31 +284,45 @@ class DataSourceBehavior<T> extends AbstractDefaultAjaxBehavior
 	}
 
 	/**
-	 * Gets a new JSON object from the bean
+	 * Writes the JSON object of the bean to the supplied {@link JsonWriter}
 	 *
+	 * @param writer the {@link JsonWriter}
 	 * @param bean T object
-	 * @return a new JSON object
 	 */
-	protected String newJsonRow(T bean)
+	protected void writeJsonRow(JsonWriter writer, T bean)
 	{
-		JSONObject object = new JSONObject();
+		if (bean == null)
+		{
+			writer.beginObject().endObject();
+		}
+		else
+		{
+			this.getRowWriter(bean.getClass()).write(writer, bean);
+		}
+	}
 
-		try
+	/**
+	 * Gets the {@link JsonRowWriter} of the supplied bean class, which is built once for the current columns
+	 *
+	 * @param type the bean class
+	 * @return the {@link JsonRowWriter}
+	 */
+	private JsonRowWriter getRowWriter(Class<?> type)
+	{
+		if (this.writers == null)
 		{
-			for (IColumn column : this.columns)
-			{
-				if (column instanceof PropertyColumn)
-				{
-					PropertyColumn pc = (PropertyColumn) column;
-					object.put(pc.getField(), pc.getValue(bean));
-				}
-			}
+			this.writers = new HashMap<Class<?>, JsonRowWriter>(2);
+			this.writerColumns = new ArrayList<IColumn>(this.columns);
 		}
-		catch (JSONException e)
+
+		JsonRowWriter writer = this.writers.get(type);
+
+		if (writer == null)
 		{
-			throw new ConversionException(e);
+			writer = new JsonRowWriter(this.columns, type);
+			this.writers.put(type, writer);
 		}
 
-		return object.toString();
+		return writer;
 	}
 }
@@ -32,7 +32,9 @@ import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.kendo.ui.KendoBehaviorFactory;
 import com.googlecode.wicket.kendo.ui.datatable.ColumnButtonAjaxBehavior.ClickEvent;
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.AggregateDescriptor;
 import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+import com.googlecode.wicket.kendo.ui.datatable.sort.IMultiSortStateLocator;
 
 /**
  * Provides a Kendo UI data-table
@@ -172,6 +174,16 @@ public class DataTable<T> extends WebComponent implements IJQueryWidget, IDataTa
 		return new Options("fields", fields);
 	}
 
+	/**
+	 * Gets the aggregates of the whole data, which are computed by the data source (ie: for column footer templates)
+	 * 
+	 * @return the {@link List} of {@link AggregateDescriptor}, empty by default
+	 */
+	protected List<AggregateDescriptor> getAggregateDescriptors()
+	{
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Gets the data-source behavior's url
 	 * 
@@ -260,6 +272,18 @@ public class DataTable<T> extends WebComponent implements IJQueryWidget, IDataTa
 				return DataTable.this.getSchemaModel();
 			}
 
+			@Override
+			protected List<AggregateDescriptor> getAggregateDescriptors()
+			{
+				return DataTable.this.getAggregateDescriptors();
+			}
+
+			@Override
+			protected boolean isMultiSortable()
+			{
+				return DataTable.this.provider instanceof IMultiSortStateLocator;
+			}
+
 			@Override
 			protected CharSequence getSourceCallbackUrl()
 			{
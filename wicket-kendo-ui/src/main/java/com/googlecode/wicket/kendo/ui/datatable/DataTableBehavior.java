@@ -25,10 +25,13 @@ import org.apache.wicket.ajax.AjaxRequestTarget;
 import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxDispatcher;
 import com.googlecode.wicket.kendo.ui.KendoAbstractBehavior;
 import com.googlecode.wicket.kendo.ui.datatable.ColumnButtonAjaxBehavior.ClickEvent;
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.AggregateDescriptor;
 import com.googlecode.wicket.kendo.ui.datatable.column.CommandsColumn;
 import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+import com.googlecode.wicket.kendo.ui.datatable.sort.IMultiSortStateLocator;
 
 /**
  * Provides the Kendo UI data-table behavior
@@ -40,7 +43,11 @@ public abstract class DataTableBehavior extends KendoAbstractBehavior implements
 	private static final long serialVersionUID = 1L;
 	private static final String METHOD = "kendoGrid";
 
+	/** Sends the dates of the filter expression as UTC ISO8601 strings (see CompositeFilterDescriptor), the expression being cloned so the data source state is not altered */
+	private static final String PARAMETER_MAP = "function(data, type) { if (data.filter) { data = jQuery.extend(true, {}, data); (function iso(filter) { jQuery.each(filter.filters || [], function(i, f) { if (f.value instanceof Date) { f.value = f.value.toISOString(); } iso(f); }); })(data.filter); } return data; }";
+
 	protected final List<? extends IColumn> columns;
+	private JQueryAjaxDispatcher dispatcher;
 
 	/**
 	 * Constructor
@@ -74,15 +81,29 @@ public abstract class DataTableBehavior extends KendoAbstractBehavior implements
 	{
 		super.bind(component);
 
+		component.add(this.dispatcher = new JQueryAjaxDispatcher());
+
 		// buttons //
+		int index = 0;
+
 		for (ColumnButton button : this.getColumnButtons())
 		{
-			component.add(this.newButtonAjaxBehavior(this, button));
+			this.dispatcher.register("button-" + index++, this.newButtonAjaxBehavior(this, button));
 		}
 	}
 
 	// Properties //
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * The grid features (paging, sorting, editing, ...) are resolved as dependencies of the 'grid' module.
+	 */
+	@Override
+	protected String[] getKendoUIModules()
+	{
+		return new String[] { "grid", "data" };
+	}
+
 	/**
 	 * Gets the row count
 	 *
@@ -107,6 +128,27 @@ public abstract class DataTableBehavior extends KendoAbstractBehavior implements
 		return new Options();
 	}
 
+	/**
+	 * Indicates whether the data source supports multi-column sorting (see {@link IMultiSortStateLocator}).<br/>
+	 * If so, and if the grid is sortable, the grid is sortable in multiple mode, so the user can sort by several columns.
+	 *
+	 * @return false by default
+	 */
+	protected boolean isMultiSortable()
+	{
+		return false;
+	}
+
+	/**
+	 * Gets the aggregates of the whole data, which are computed by the data source
+	 *
+	 * @return the {@link List} of {@link AggregateDescriptor}, empty by default
+	 */
+	protected List<AggregateDescriptor> getAggregateDescriptors()
+	{
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Gets the read-only {@link List} of {@link ColumnButton}
 	 *
@@ -138,6 +180,8 @@ public abstract class DataTableBehavior extends KendoAbstractBehavior implements
 		// schema //
 		schema.set("data", Options.asString("results"));
 		schema.set("total", Options.asString("__count"));
+		schema.set("groups", Options.asString("results"));
+		schema.set("aggregates", Options.asString("__aggregates"));
 		schema.set("model", this.getSchemaModel());
 
 		// source //
@@ -146,11 +190,41 @@ public abstract class DataTableBehavior extends KendoAbstractBehavior implements
 		source.set("serverPaging", true);
 		source.set("serverSorting", true);
 		source.set("serverFiltering", true);
-		source.set("transport", new Options("read", Options.asString(this.getSourceCallbackUrl())));
+		source.set("serverGrouping", true);
+		source.set("serverAggregates", true);
+
+		List<AggregateDescriptor> descriptors = this.getAggregateDescriptors();
+
+		if (!descriptors.isEmpty())
+		{
+			StringBuilder aggregates = new StringBuilder("[ ");
+
+			for (int i = 0; i < descriptors.size(); i++)
+			{
+				AggregateDescriptor descriptor = descriptors.get(i);
+
+				if (i > 0)
+				{
+					aggregates.append(", ");
+				}
+
+				aggregates.append(new Options("field", Options.asString(descriptor.getField())).set("aggregate", Options.asString(descriptor.getAggregate())));
+			}
+
+			source.set("aggregate", aggregates.append(" ]").toString());
+		}
+
+		source.set("transport", new Options("read", Options.asString(this.getSourceCallbackUrl())).set("parameterMap", PARAMETER_MAP));
 		source.set("schema", schema);
 
 		this.setOption("dataSource", source);
 
+		// sortable //
+		if (this.isMultiSortable() && "true".equals(String.valueOf(this.getOption("sortable"))))
+		{
+			this.setOption("sortable", new Options("mode", Options.asString("multiple")));
+		}
+
 		// columns //
 		StringBuilder builder = new StringBuilder("[ ");
 
@@ -174,7 +248,7 @@ public abstract class DataTableBehavior extends KendoAbstractBehavior implements
 				builder.append("[ ");
 
 				int n = 0;
-				for (ColumnButtonAjaxBehavior behavior : component.getBehaviors(ColumnButtonAjaxBehavior.class))
+				for (ColumnButtonAjaxBehavior behavior : this.dispatcher.getBehaviors(ColumnButtonAjaxBehavior.class))
 				{
 					ColumnButton button = behavior.getButton();
 
@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+
+import com.googlecode.wicket.jquery.core.JsonWriter;
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.AggregateAccumulator;
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.AggregateDescriptor;
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.IAggregatableDataProvider;
+import com.googlecode.wicket.kendo.ui.datatable.group.GroupDescriptor;
+import com.googlecode.wicket.kendo.ui.datatable.sort.SortDescriptor;
+import com.googlecode.wicket.kendo.ui.datatable.sort.SortDescriptorComparator;
+
+/**
+ * Provides the writer of the groups and aggregates of a {@link DataSourceBehavior} response, in the Kendo UI schema shape.<br/>
+ * The aggregates (the total ones and the ones of each group) are computed in a single pass over the provider's iterator, unless the provider computes them by itself (see {@link IAggregatableDataProvider}).<br/>
+ * <b>Note:</b> that pass iterates the whole (filtered) data on every page request, as Kendo UI expects the aggregates of the whole data - and of whole groups - with each page.
+ * Large data sources should implement {@link IAggregatableDataProvider}: the total aggregates are then computed once by the provider, and the ones of the groups of the page only.<br/>
+ * The rows of the requested page are then grouped, after having been (stably) sorted by the group keys.
+ *
+ * @param <T> the type of the model object
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+final class JsonGroupWriter<T>
+{
+	private final DataSourceBehavior<T> behavior;
+	private final List<GroupDescriptor> groups;
+	private final List<AggregateDescriptor> aggregates;
+
+	/** the total aggregates */
+	private Map<AggregateDescriptor, Object> totals = null;
+
+	/** the aggregates of each group, by group key path */
+	private final Map<List<Object>, AggregateAccumulator> accumulators = new HashMap<List<Object>, AggregateAccumulator>();
+
+	/** indicates whether the group aggregates have been computed in memory */
+	private boolean accumulated = false;
+
+	/** the data provider, and its size */
+	private IDataProvider<T> provider = null;
+	private long size = 0;
+
+	/** accessors of the group keys, for the last read bean class */
+	private Class<?> type = null;
+	private PropertyAccessor[] accessors = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param behavior the {@link DataSourceBehavior}, which writes the rows
+	 * @param groups the list of {@link GroupDescriptor}, can be empty
+	 * @param aggregates the list of total {@link AggregateDescriptor}, can be empty
+	 */
+	public JsonGroupWriter(DataSourceBehavior<T> behavior, List<GroupDescriptor> groups, List<AggregateDescriptor> aggregates)
+	{
+		this.behavior = behavior;
+		this.groups = groups;
+		this.aggregates = aggregates;
+	}
+
+	/**
+	 * Indicates whether any group requests aggregates
+	 *
+	 * @return true or false
+	 */
+	private boolean hasGroupAggregates()
+	{
+		for (GroupDescriptor group : this.groups)
+		{
+			if (!group.getAggregates().isEmpty())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Computes the aggregates over the whole (filtered) data
+	 *
+	 * @param provider the {@link IDataProvider}
+	 * @param size the provider's size
+	 */
+	@SuppressWarnings("unchecked")
+	public void aggregate(IDataProvider<T> provider, long size)
+	{
+		this.provider = provider;
+		this.size = size;
+
+		if (!this.aggregates.isEmpty() && provider instanceof IAggregatableDataProvider)
+		{
+			this.totals = ((IAggregatableDataProvider<T>) provider).getAggregates(this.aggregates);
+		}
+
+		final AggregateAccumulator total = this.totals == null && !this.aggregates.isEmpty() ? new AggregateAccumulator(this.aggregates) : null;
+
+		// the group aggregates are computed in the same pass, unless the provider may compute them (see #getGroupValues)
+		final boolean grouped = this.hasGroupAggregates() && (total != null || !(provider instanceof IAggregatableDataProvider));
+
+		if (total != null || grouped)
+		{
+			Iterator<? extends T> iterator = provider.iterator(0, size);
+
+			while (iterator.hasNext())
+			{
+				T bean = iterator.next();
+
+				if (total != null)
+				{
+					total.accumulate(bean);
+				}
+
+				if (grouped)
+				{
+					this.accumulate(this.getKeys(bean), bean);
+				}
+			}
+
+			if (total != null)
+			{
+				this.totals = total.getValues();
+			}
+
+			this.accumulated = grouped;
+		}
+	}
+
+	/**
+	 * Computes the group aggregates over the whole (filtered) data
+	 */
+	private void accumulateGroups()
+	{
+		Iterator<? extends T> iterator = this.provider.iterator(0, this.size);
+
+		while (iterator.hasNext())
+		{
+			T bean = iterator.next();
+
+			this.accumulate(this.getKeys(bean), bean);
+		}
+
+		this.accumulated = true;
+	}
+
+	/**
+	 * Gets the aggregates of a group, from the provider if it computes them, from the in-memory pass otherwise
+	 *
+	 * @param keys the group keys of a bean of the group
+	 * @param depth the group depth
+	 * @return the value of each {@link AggregateDescriptor} of the group, or null if the group has no aggregates
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<AggregateDescriptor, Object> getGroupValues(Object[] keys, int depth)
+	{
+		if (this.groups.get(depth).getAggregates().isEmpty())
+		{
+			return null;
+		}
+
+		List<Object> path = JsonGroupWriter.pathOf(keys, depth);
+
+		if (!this.accumulated)
+		{
+			if (this.provider instanceof IAggregatableDataProvider)
+			{
+				Map<AggregateDescriptor, Object> values = ((IAggregatableDataProvider<T>) this.provider).getGroupAggregates(this.groups, path);
+
+				if (values != null)
+				{
+					return values;
+				}
+			}
+
+			this.accumulateGroups();
+		}
+
+		AggregateAccumulator accumulator = this.accumulators.get(path);
+
+		return accumulator != null ? accumulator.getValues() : null;
+	}
+
+	/**
+	 * Accumulates the bean into the aggregates of each of its groups
+	 *
+	 * @param keys the group keys of the bean
+	 * @param bean the bean
+	 */
+	private void accumulate(Object[] keys, T bean)
+	{
+		for (int depth = 0; depth < keys.length; depth++)
+		{
+			List<AggregateDescriptor> descriptors = this.groups.get(depth).getAggregates();
+
+			if (!descriptors.isEmpty())
+			{
+				List<Object> path = JsonGroupWriter.pathOf(keys, depth);
+				AggregateAccumulator accumulator = this.accumulators.get(path);
+
+				if (accumulator == null)
+				{
+					accumulator = new AggregateAccumulator(descriptors);
+					this.accumulators.put(path, accumulator);
+				}
+
+				accumulator.accumulate(bean);
+			}
+		}
+	}
+
+	/**
+	 * Gets the group keys of the bean
+	 *
+	 * @param bean the bean, can be null
+	 * @return the group keys, one per {@link GroupDescriptor}
+	 */
+	private Object[] getKeys(T bean)
+	{
+		Object[] keys = new Object[this.groups.size()];
+
+		if (bean != null)
+		{
+			if (bean.getClass() != this.type)
+			{
+				this.type = bean.getClass();
+				this.accessors = new PropertyAccessor[keys.length];
+
+				for (int i = 0; i < keys.length; i++)
+				{
+					this.accessors[i] = PropertyAccessor.of(this.type, this.groups.get(i).getProperty());
+				}
+			}
+
+			for (int i = 0; i < keys.length; i++)
+			{
+				keys[i] = this.accessors[i].getValue(bean);
+			}
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Gets the key path of a group
+	 *
+	 * @param keys the group keys of a bean
+	 * @param depth the group depth
+	 * @return the keys, up to the depth
+	 */
+	private static List<Object> pathOf(Object[] keys, int depth)
+	{
+		return Arrays.asList(Arrays.copyOf(keys, depth + 1));
+	}
+
+	/**
+	 * Writes the groups of the page's rows
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param iterator the page's iterator
+	 */
+	public void writeGroups(JsonWriter writer, Iterator<? extends T> iterator)
+	{
+		List<T> rows = new ArrayList<T>();
+
+		while (iterator.hasNext())
+		{
+			rows.add(iterator.next());
+		}
+
+		List<SortDescriptor> descriptors = new ArrayList<SortDescriptor>(this.groups.size());
+
+		for (GroupDescriptor group : this.groups)
+		{
+			descriptors.add(group.toSortDescriptor());
+		}
+
+		Collections.sort(rows, new SortDescriptorComparator<T>(descriptors)); // stable
+
+		Object[][] keys = new Object[rows.size()][];
+
+		for (int i = 0; i < keys.length; i++)
+		{
+			keys[i] = this.getKeys(rows.get(i));
+		}
+
+		this.writeGroups(writer, rows, keys, 0, rows.size(), 0);
+	}
+
+	/**
+	 * Writes the groups of a range of rows, at the supplied depth
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param rows the sorted rows
+	 * @param keys the group keys of the rows
+	 * @param from the first row index, inclusive
+	 * @param to the last row index, exclusive
+	 * @param depth the group depth
+	 */
+	private void writeGroups(JsonWriter writer, List<T> rows, Object[][] keys, int from, int to, int depth)
+	{
+		final GroupDescriptor group = this.groups.get(depth);
+		final boolean leaf = depth + 1 == this.groups.size();
+
+		for (int i = from, j; i < to; i = j)
+		{
+			Object value = keys[i][depth];
+
+			for (j = i + 1; j < to && JsonGroupWriter.equals(value, keys[j][depth]); j++)
+			{
+				// next row of the group
+			}
+
+			writer.beginObject();
+			writer.name("field").string(group.getField());
+			JsonRowWriter.writeValue(writer.name("value"), value);
+			writer.name("hasSubgroups").value(!leaf);
+
+			writer.name("aggregates");
+			JsonGroupWriter.writeAggregates(writer, this.getGroupValues(keys[i], depth));
+
+			writer.name("items").beginArray();
+
+			if (leaf)
+			{
+				for (int k = i; k < j; k++)
+				{
+					this.behavior.writeJsonRow(writer, rows.get(k));
+				}
+			}
+			else
+			{
+				this.writeGroups(writer, rows, keys, i, j, depth + 1);
+			}
+
+			writer.endArray();
+			writer.endObject();
+		}
+	}
+
+	/**
+	 * Writes the total aggregates
+	 *
+	 * @param writer the {@link JsonWriter}
+	 */
+	public void writeAggregates(JsonWriter writer)
+	{
+		JsonGroupWriter.writeAggregates(writer, this.totals);
+	}
+
+	/**
+	 * Writes aggregate values as an object of fields, each being an object of aggregates (ie: <code>{ "price": { "sum": 10, "max": 5 } }</code>)
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param values the value of each {@link AggregateDescriptor}, can be null
+	 */
+	private static void writeAggregates(JsonWriter writer, Map<AggregateDescriptor, Object> values)
+	{
+		writer.beginObject();
+
+		if (values != null)
+		{
+			Map<String, List<AggregateDescriptor>> fields = new LinkedHashMap<String, List<AggregateDescriptor>>();
+
+			for (AggregateDescriptor descriptor : values.keySet())
+			{
+				List<AggregateDescriptor> descriptors = fields.get(descriptor.getField());
+
+				if (descriptors == null)
+				{
+					descriptors = new ArrayList<AggregateDescriptor>(1);
+					fields.put(descriptor.getField(), descriptors);
+				}
+
+				descriptors.add(descriptor);
+			}
+
+			for (Map.Entry<String, List<AggregateDescriptor>> entry : fields.entrySet())
+			{
+				writer.name(entry.getKey()).beginObject();
+
+				for (AggregateDescriptor descriptor : entry.getValue())
+				{
+					JsonRowWriter.writeValue(writer.name(descriptor.getAggregate().toString()), values.get(descriptor));
+				}
+
+				writer.endObject();
+			}
+		}
+
+		writer.endObject();
+	}
+
+	private static boolean equals(Object o1, Object o2)
+	{
+		return o1 == null ? o2 == null : o1.equals(o2);
+	}
+}
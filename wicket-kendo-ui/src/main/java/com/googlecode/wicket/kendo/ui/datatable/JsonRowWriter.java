@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.googlecode.wicket.jquery.core.JsonWriter;
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
+import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+import com.googlecode.wicket.kendo.ui.datatable.column.PropertyColumn;
+
+/**
+ * Provides the writer of the JSON rows of a {@link DataSourceBehavior}, for a list of columns and a bean class.<br/>
+ * The writer is built once: it retains the {@link PropertyColumn}<code>s</code>, their quoted field names and an encoder per column, chosen after the property type.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+final class JsonRowWriter
+{
+	/**
+	 * Encoders of the property values
+	 */
+	private enum Encoder
+	{
+		STRING {
+
+			@Override
+			void write(JsonWriter writer, Object value)
+			{
+				writer.string(value);
+			}
+		},
+		/** booleans and integral numbers, written as is */
+		LITERAL {
+
+			@Override
+			void write(JsonWriter writer, Object value)
+			{
+				writer.value(value);
+			}
+		},
+		/** dates, written as {@link Date#toString()} - as the data source always did - rather than in ISO8601 */
+		DATE {
+
+			@Override
+			void write(JsonWriter writer, Object value)
+			{
+				writer.string(value);
+			}
+		},
+		/** other types, written according to the runtime type of the value */
+		OBJECT {
+
+			@Override
+			void write(JsonWriter writer, Object value)
+			{
+				if (value instanceof Date)
+				{
+					DATE.write(writer, value);
+				}
+				else
+				{
+					writer.object(value);
+				}
+			}
+		};
+
+		abstract void write(JsonWriter writer, Object value);
+
+		/**
+		 * Gets the encoder of the supplied property type
+		 *
+		 * @param type the type, can be null
+		 * @return the {@link Encoder}
+		 */
+		static Encoder of(Class<?> type)
+		{
+			if (type == String.class)
+			{
+				return STRING;
+			}
+
+			if (type == Boolean.class || type == boolean.class || type == Integer.class || type == int.class || type == Long.class || type == long.class || type == Short.class || type == short.class || type == Byte.class || type == byte.class)
+			{
+				return LITERAL;
+			}
+
+			if (type != null && Date.class.isAssignableFrom(type))
+			{
+				return DATE;
+			}
+
+			return OBJECT;
+		}
+	}
+
+	private final PropertyColumn[] columns;
+	private final String[] names;
+	private final PropertyAccessor[] accessors;
+	private final Encoder[] encoders;
+
+	/**
+	 * Constructor
+	 *
+	 * @param columns the list of {@link IColumn}
+	 * @param type the bean class
+	 */
+	public JsonRowWriter(List<? extends IColumn> columns, Class<?> type)
+	{
+		List<PropertyColumn> list = new ArrayList<PropertyColumn>();
+
+		for (IColumn column : columns)
+		{
+			if (column instanceof PropertyColumn)
+			{
+				list.add((PropertyColumn) column);
+			}
+		}
+
+		final int size = list.size();
+		this.columns = list.toArray(new PropertyColumn[size]);
+		this.names = new String[size];
+		this.accessors = new PropertyAccessor[size];
+		this.encoders = new Encoder[size];
+
+		for (int i = 0; i < size; i++)
+		{
+			PropertyColumn column = this.columns[i];
+			this.names[i] = JsonWriter.quote(column.getField());
+
+			// the accessor is used directly only if the column does not compute its own value
+			if (!JsonRowWriter.overridesGetValue(column))
+			{
+				PropertyAccessor accessor = PropertyAccessor.of(type, column.getProperty());
+
+				if (accessor.isCompiled())
+				{
+					this.accessors[i] = accessor;
+					this.encoders[i] = Encoder.of(accessor.getType());
+					continue;
+				}
+			}
+
+			this.encoders[i] = Encoder.OBJECT;
+		}
+	}
+
+	/**
+	 * Indicates whether the column overrides {@link PropertyColumn#getValue(Object)}
+	 *
+	 * @param column the {@link PropertyColumn}
+	 * @return true or false
+	 */
+	private static boolean overridesGetValue(PropertyColumn column)
+	{
+		try
+		{
+			Method method = column.getClass().getMethod("getValue", Object.class);
+
+			return method.getDeclaringClass() != PropertyColumn.class;
+		}
+		catch (NoSuchMethodException e)
+		{
+			return true;
+		}
+	}
+
+	/**
+	 * Writes a value according to its runtime type, the same way the row values are written
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param value the value, can be null
+	 */
+	static void writeValue(JsonWriter writer, Object value)
+	{
+		Encoder.OBJECT.write(writer, value);
+	}
+
+	/**
+	 * Writes the JSON object of the bean to the supplied {@link JsonWriter}
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param bean the bean
+	 */
+	public void write(JsonWriter writer, Object bean)
+	{
+		writer.beginObject();
+
+		for (int i = 0; i < this.columns.length; i++)
+		{
+			Object value = this.accessors[i] != null ? this.accessors[i].getValue(bean) : this.columns[i].getValue(bean);
+
+			if (value != null)
+			{
+				this.encoders[i].write(writer.quotedName(this.names[i]), value);
+			}
+		}
+
+		writer.endObject();
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.aggregate;
+
+/**
+ * Provides the Kendo UI aggregate functions
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public enum Aggregate
+{
+	COUNT("count"),
+	SUM("sum"),
+	MIN("min"),
+	MAX("max"),
+	AVERAGE("average");
+
+	/**
+	 * Gets the aggregate matching the Kendo UI name
+	 *
+	 * @param name the aggregate name, ie: "sum"
+	 * @return the {@link Aggregate}, or null if the name is null or unknown
+	 */
+	public static Aggregate of(String name)
+	{
+		if (name != null)
+		{
+			for (Aggregate aggregate : Aggregate.values())
+			{
+				if (aggregate.name.equalsIgnoreCase(name))
+				{
+					return aggregate;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private final String name;
+
+	private Aggregate(String name)
+	{
+		this.name = name;
+	}
+
+	/**
+	 * Gets the Kendo UI name of the aggregate
+	 */
+	@Override
+	public String toString()
+	{
+		return this.name;
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.aggregate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
+import com.googlecode.wicket.kendo.ui.datatable.sort.SortDescriptorComparator;
+
+/**
+ * Provides a single-pass accumulator of {@link AggregateDescriptor}<code>s</code>, fed bean by bean.<br/>
+ * Each distinct field is read once per bean (using cached property accessors, see {@link PropertyAccessor}) and accumulates its count, sum, min &amp; max at once, so no bean has to be retained.<br/>
+ * As with Kendo UI, <tt>count</tt> counts all beans, <tt>sum</tt> &amp; <tt>average</tt> only apply to numbers and <tt>min</tt> &amp; <tt>max</tt> only apply to numbers and dates.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class AggregateAccumulator
+{
+	private final List<AggregateDescriptor> descriptors;
+	private final List<String> properties;
+	private final Slot[] slots;
+
+	/** accessors of the last accumulated bean class */
+	private Class<?> type = null;
+	private PropertyAccessor[] accessors = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param descriptors the list of {@link AggregateDescriptor}
+	 */
+	public AggregateAccumulator(List<AggregateDescriptor> descriptors)
+	{
+		this.descriptors = descriptors;
+		this.properties = new ArrayList<String>();
+
+		for (AggregateDescriptor descriptor : descriptors)
+		{
+			if (!this.properties.contains(descriptor.getProperty()))
+			{
+				this.properties.add(descriptor.getProperty());
+			}
+		}
+
+		this.slots = new Slot[this.properties.size()];
+
+		for (int i = 0; i < this.slots.length; i++)
+		{
+			this.slots[i] = new Slot();
+		}
+	}
+
+	/**
+	 * Accumulates the bean
+	 *
+	 * @param bean the bean, can be null
+	 */
+	public void accumulate(Object bean)
+	{
+		if (bean != null && bean.getClass() != this.type)
+		{
+			this.type = bean.getClass();
+			this.accessors = new PropertyAccessor[this.slots.length];
+
+			for (int i = 0; i < this.slots.length; i++)
+			{
+				this.accessors[i] = PropertyAccessor.of(this.type, this.properties.get(i));
+			}
+		}
+
+		for (int i = 0; i < this.slots.length; i++)
+		{
+			this.slots[i].add(bean != null ? this.accessors[i].getValue(bean) : null);
+		}
+	}
+
+	/**
+	 * Gets the value of an aggregate
+	 *
+	 * @param descriptor the {@link AggregateDescriptor}
+	 * @return the value, or null if the aggregate does not apply to any of the accumulated values
+	 */
+	public Object getValue(AggregateDescriptor descriptor)
+	{
+		int index = this.properties.indexOf(descriptor.getProperty());
+
+		return index < 0 ? null : this.slots[index].getValue(descriptor.getAggregate());
+	}
+
+	/**
+	 * Gets the value of all aggregates
+	 *
+	 * @return the value of each {@link AggregateDescriptor}, in order
+	 */
+	public Map<AggregateDescriptor, Object> getValues()
+	{
+		Map<AggregateDescriptor, Object> values = new LinkedHashMap<AggregateDescriptor, Object>();
+
+		for (AggregateDescriptor descriptor : this.descriptors)
+		{
+			values.put(descriptor, this.getValue(descriptor));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Holds the running aggregates of a field
+	 */
+	private static class Slot
+	{
+		private static final int LONG = 0;
+		private static final int DOUBLE = 1;
+		private static final int DECIMAL = 2;
+
+		private long count = 0;
+		private long numbers = 0;
+
+		/** the sum is kept as a long as long as possible, then as double or as BigDecimal */
+		private int kind = LONG;
+		private long longSum = 0;
+		private double doubleSum = 0;
+		private BigDecimal decimalSum = null;
+
+		private Object min = null;
+		private Object max = null;
+
+		public void add(Object value)
+		{
+			this.count++;
+
+			if (value instanceof Number)
+			{
+				this.numbers++;
+				this.sum((Number) value);
+			}
+			else if (!(value instanceof Date))
+			{
+				return;
+			}
+
+			if (this.min == null || SortDescriptorComparator.compareValues(value, this.min) < 0)
+			{
+				this.min = value;
+			}
+
+			if (this.max == null || SortDescriptorComparator.compareValues(value, this.max) > 0)
+			{
+				this.max = value;
+			}
+		}
+
+		private void sum(Number value)
+		{
+			if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+			{
+				switch (this.kind)
+				{
+					case LONG:
+						this.longSum += value.longValue();
+						break;
+					case DOUBLE:
+						this.doubleSum += value.longValue();
+						break;
+					default:
+						this.decimalSum = this.decimalSum.add(BigDecimal.valueOf(value.longValue()));
+				}
+			}
+			else if (value instanceof BigDecimal || value instanceof BigInteger)
+			{
+				if (this.kind != DECIMAL)
+				{
+					this.decimalSum = this.kind == LONG ? BigDecimal.valueOf(this.longSum) : BigDecimal.valueOf(this.doubleSum);
+					this.kind = DECIMAL;
+				}
+
+				this.decimalSum = this.decimalSum.add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal((BigInteger) value));
+			}
+			else
+			{
+				double d = value.doubleValue();
+
+				if (Double.isNaN(d) || Double.isInfinite(d))
+				{
+					return;
+				}
+
+				switch (this.kind)
+				{
+					case LONG:
+						this.doubleSum = this.longSum + d;
+						this.kind = DOUBLE;
+						break;
+					case DOUBLE:
+						this.doubleSum += d;
+						break;
+					default:
+						this.decimalSum = this.decimalSum.add(BigDecimal.valueOf(d));
+				}
+			}
+		}
+
+		private Number getSum()
+		{
+			switch (this.kind)
+			{
+				case LONG:
+					return this.longSum;
+				case DOUBLE:
+					return this.doubleSum;
+				default:
+					return this.decimalSum;
+			}
+		}
+
+		private Number getAverage()
+		{
+			if (this.kind == DECIMAL)
+			{
+				return this.decimalSum.divide(BigDecimal.valueOf(this.numbers), MathContext.DECIMAL64);
+			}
+
+			return this.getSum().doubleValue() / this.numbers;
+		}
+
+		public Object getValue(Aggregate aggregate)
+		{
+			switch (aggregate)
+			{
+				case COUNT:
+					return this.count;
+				case SUM:
+					return this.numbers > 0 ? this.getSum() : null;
+				case AVERAGE:
+					return this.numbers > 0 ? this.getAverage() : null;
+				case MIN:
+					return this.min;
+				case MAX:
+					return this.max;
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.aggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.util.io.IClusterable;
+
+import com.googlecode.wicket.kendo.ui.utils.PropertyUtils;
+
+/**
+ * Provides an aggregate request: a field and its {@link Aggregate} function
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class AggregateDescriptor implements IClusterable
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Parses the aggregate descriptors sent by the Kendo UI data source (ie: 'aggregate[0][field]', 'aggregate[0][aggregate]', ...)
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @return the ordered list of {@link AggregateDescriptor}, which is empty if no aggregate is requested
+	 */
+	public static List<AggregateDescriptor> of(IRequestParameters parameters)
+	{
+		return AggregateDescriptor.of(parameters, "aggregate");
+	}
+
+	/**
+	 * Parses the aggregate descriptors sent by the Kendo UI data source under the supplied prefix (ie: 'group[0][aggregates]')
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @param prefix the parameter prefix
+	 * @return the ordered list of {@link AggregateDescriptor}, which is empty if no aggregate is requested
+	 */
+	public static List<AggregateDescriptor> of(IRequestParameters parameters, String prefix)
+	{
+		List<AggregateDescriptor> descriptors = new ArrayList<AggregateDescriptor>();
+
+		for (int i = 0;; i++)
+		{
+			String field = parameters.getParameterValue(String.format("%s[%d][field]", prefix, i)).toOptionalString();
+
+			if (field == null)
+			{
+				break;
+			}
+
+			Aggregate aggregate = Aggregate.of(parameters.getParameterValue(String.format("%s[%d][aggregate]", prefix, i)).toOptionalString());
+
+			if (aggregate != null)
+			{
+				descriptors.add(new AggregateDescriptor(field, aggregate));
+			}
+		}
+
+		return descriptors;
+	}
+
+	private final String field;
+	private final Aggregate aggregate;
+
+	/**
+	 * Constructor
+	 *
+	 * @param field the Kendo UI field name (the escaped property expression, see {@link PropertyUtils#escape(String)})
+	 * @param aggregate the {@link Aggregate}
+	 */
+	public AggregateDescriptor(String field, Aggregate aggregate)
+	{
+		this.field = field;
+		this.aggregate = aggregate;
+	}
+
+	/**
+	 * Gets the Kendo UI field name, which keys the aggregate results
+	 *
+	 * @return the field name
+	 */
+	public String getField()
+	{
+		return this.field;
+	}
+
+	/**
+	 * Gets the property expression
+	 *
+	 * @return the property expression
+	 */
+	public String getProperty()
+	{
+		return PropertyUtils.unescape(this.field);
+	}
+
+	/**
+	 * Gets the aggregate function
+	 *
+	 * @return the {@link Aggregate}
+	 */
+	public Aggregate getAggregate()
+	{
+		return this.aggregate;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return 31 * this.field.hashCode() + this.aggregate.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object object)
+	{
+		if (object instanceof AggregateDescriptor)
+		{
+			AggregateDescriptor descriptor = (AggregateDescriptor) object;
+
+			return this.field.equals(descriptor.field) && this.aggregate == descriptor.aggregate;
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s(%s)", this.aggregate, this.field);
+	}
+}
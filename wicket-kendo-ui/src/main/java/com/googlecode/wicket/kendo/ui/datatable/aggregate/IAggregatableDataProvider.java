@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.aggregate;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+
+import com.googlecode.wicket.kendo.ui.datatable.DataTable;
+import com.googlecode.wicket.kendo.ui.datatable.group.GroupDescriptor;
+
+/**
+ * Specifies a {@link IDataProvider} that is able to compute the aggregates of a {@link DataTable} by itself (ie: using a SQL select count(*), sum(..), ...).<br/>
+ * Otherwise, the aggregates are computed in a single pass over the provider's iterator (see {@link AggregateAccumulator}).
+ * As aggregates are requested on each page request, that pass iterates the whole (filtered) data each time; large data sources should therefore implement this interface.
+ *
+ * @param <T> the type of the model object
+ * @author Sebastien Briquet - sebfz1
+ */
+public interface IAggregatableDataProvider<T> extends IDataProvider<T>
+{
+	/**
+	 * Gets the aggregates over the whole (filtered) data.<br/>
+	 * This is called after the filter has been supplied, if any.
+	 *
+	 * @param descriptors the list of {@link AggregateDescriptor}, never empty
+	 * @return the value of each {@link AggregateDescriptor}, or null to compute the aggregates in memory
+	 */
+	Map<AggregateDescriptor, Object> getAggregates(List<AggregateDescriptor> descriptors);
+
+	/**
+	 * Gets the aggregates of a group (ie: using a SQL select sum(..) ... where ... group by ...).<br/>
+	 * This is called for the groups of the requested page only, after the filter has been supplied, if any.
+	 *
+	 * @param groups the list of {@link GroupDescriptor}
+	 * @param keys the group key path, one key per level: the group is at the depth <code>keys.size() - 1</code>, and its aggregates are the ones of <code>groups.get(keys.size() - 1)</code>
+	 * @return the value of each {@link AggregateDescriptor} of the group, or null to compute the group aggregates in memory
+	 */
+	Map<AggregateDescriptor, Object> getGroupAggregates(List<GroupDescriptor> groups, List<Object> keys);
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.filter;
+
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.apache.wicket.request.IRequestParameters;
+
+import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+import com.googlecode.wicket.kendo.ui.utils.PropertyUtils;
+
+/**
+ * Provides a filter expression group: a list of {@link IFilterDescriptor}<code>s</code>, combined with a logical AND or OR.<br/>
+ * Groups may be nested, ie: <code>(a eq 1) and ((b gt 2) or (c contains 'x'))</code>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class CompositeFilterDescriptor implements IFilterDescriptor
+{
+	private static final long serialVersionUID = 1L;
+
+	/** ISO8601 pattern of the dates sent by the data source (see DataTableBehavior) */
+	private static final String DATE_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+	/**
+	 * Logical operators
+	 */
+	public enum Logic
+	{
+		AND,
+		OR;
+
+		/**
+		 * Gets the logic matching the Kendo UI name
+		 *
+		 * @param name the name, ie: "and"
+		 * @return the {@link Logic}, or {@link #AND} if the name is null or unknown
+		 */
+		public static Logic of(String name)
+		{
+			return "or".equalsIgnoreCase(name) ? OR : AND;
+		}
+
+		@Override
+		public String toString()
+		{
+			return this.name().toLowerCase();
+		}
+	}
+
+	/**
+	 * Parses the filter expression sent by the Kendo UI data source (ie: 'filter[logic]', 'filter[filters][0][field]', 'filter[filters][0][operator]', 'filter[filters][0][value]', 'filter[filters][1][logic]', ...)<br/>
+	 * Values are converted according to the type of the column they belong to (see {@link IColumn#getType()}).
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @param columns the list of {@link IColumn}
+	 * @return the {@link CompositeFilterDescriptor}, or null if the request is not filtered
+	 */
+	public static CompositeFilterDescriptor of(IRequestParameters parameters, List<? extends IColumn> columns)
+	{
+		Map<String, String> types = new HashMap<String, String>();
+
+		for (IColumn column : columns)
+		{
+			types.put(column.getField(), column.getType());
+		}
+
+		return CompositeFilterDescriptor.parse(parameters, "filter", types);
+	}
+
+	/**
+	 * Parses the filter group of the supplied prefix
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @param prefix the parameter prefix of the group
+	 * @param types the column types, by field
+	 * @return the {@link CompositeFilterDescriptor}, or null if the group is not found
+	 */
+	private static CompositeFilterDescriptor parse(IRequestParameters parameters, String prefix, Map<String, String> types)
+	{
+		String logic = parameters.getParameterValue(prefix + "[logic]").toOptionalString();
+		List<IFilterDescriptor> filters = new ArrayList<IFilterDescriptor>();
+
+		for (int i = 0;; i++)
+		{
+			String filter = String.format("%s[filters][%d]", prefix, i);
+			String field = parameters.getParameterValue(filter + "[field]").toOptionalString();
+
+			if (field != null)
+			{
+				FilterOperator operator = FilterOperator.of(parameters.getParameterValue(filter + "[operator]").toOptionalString());
+				String value = parameters.getParameterValue(filter + "[value]").toOptionalString();
+				boolean ignoreCase = parameters.getParameterValue(filter + "[ignoreCase]").toBoolean(true);
+
+				filters.add(new FilterDescriptor(PropertyUtils.unescape(field), operator, operator.isUnary() ? null : CompositeFilterDescriptor.convert(value, types.get(field)), ignoreCase));
+			}
+			else if (parameters.getParameterValue(filter + "[logic]").toOptionalString() != null)
+			{
+				filters.add(CompositeFilterDescriptor.parse(parameters, filter, types)); // nested group
+			}
+			else
+			{
+				break;
+			}
+		}
+
+		if (logic == null && filters.isEmpty())
+		{
+			return null;
+		}
+
+		return new CompositeFilterDescriptor(Logic.of(logic), filters);
+	}
+
+	/**
+	 * Converts the value sent by the data source to the type of the column
+	 *
+	 * @param value the value
+	 * @param type the Kendo UI column type ("string", "number", "date", "boolean"), can be null
+	 * @return the typed value, or the value itself if it cannot be converted
+	 */
+	private static Object convert(String value, String type)
+	{
+		if (value == null || type == null)
+		{
+			return value;
+		}
+
+		try
+		{
+			if ("number".equals(type))
+			{
+				return new BigDecimal(value.trim());
+			}
+
+			if ("boolean".equals(type))
+			{
+				return Boolean.valueOf(value.trim());
+			}
+
+			if ("date".equals(type))
+			{
+				SimpleDateFormat format = new SimpleDateFormat(DATE_PATTERN);
+				format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+				return format.parse(value.trim());
+			}
+		}
+		catch (NumberFormatException e)
+		{
+			// value is kept as is
+		}
+		catch (ParseException e)
+		{
+			// value is kept as is
+		}
+
+		return value;
+	}
+
+
+	private final Logic logic;
+	private final List<IFilterDescriptor> filters;
+
+	/**
+	 * Constructor
+	 *
+	 * @param logic the {@link Logic}
+	 * @param filters the list of {@link IFilterDescriptor}
+	 */
+	public CompositeFilterDescriptor(Logic logic, List<IFilterDescriptor> filters)
+	{
+		this.logic = logic;
+		this.filters = Collections.unmodifiableList(filters);
+	}
+
+	/**
+	 * Gets the logical operator
+	 *
+	 * @return the {@link Logic}
+	 */
+	public Logic getLogic()
+	{
+		return this.logic;
+	}
+
+	/**
+	 * Gets the filters of the group
+	 *
+	 * @return the unmodifiable list of {@link IFilterDescriptor}
+	 */
+	public List<IFilterDescriptor> getFilters()
+	{
+		return this.filters;
+	}
+
+	@Override
+	public boolean accept(Object bean)
+	{
+		for (IFilterDescriptor filter : this.filters)
+		{
+			boolean accepted = filter.accept(bean);
+
+			if (this.logic == Logic.OR && accepted)
+			{
+				return true;
+			}
+
+			if (this.logic == Logic.AND && !accepted)
+			{
+				return false;
+			}
+		}
+
+		return this.logic == Logic.AND || this.filters.isEmpty();
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder("(");
+
+		for (int i = 0; i < this.filters.size(); i++)
+		{
+			if (i > 0)
+			{
+				builder.append(' ').append(this.logic).append(' ');
+			}
+
+			builder.append(this.filters.get(i));
+		}
+
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.filter;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Locale;
+
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
+
+/**
+ * Provides a filter expression leaf: a property, an operator and a typed value.<br/>
+ * The value is typed after the column type: {@link String} ("string"), {@link BigDecimal} ("number"), {@link Date} ("date") or {@link Boolean} ("boolean").
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class FilterDescriptor implements IFilterDescriptor
+{
+	private static final long serialVersionUID = 1L;
+
+	private final String property;
+	private final FilterOperator operator;
+	private final Object value;
+	private final boolean ignoreCase;
+
+	/**
+	 * Constructor
+	 *
+	 * @param property the property expression
+	 * @param operator the {@link FilterOperator}
+	 * @param value the typed value, can be null
+	 */
+	public FilterDescriptor(String property, FilterOperator operator, Object value)
+	{
+		this(property, operator, value, true);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param property the property expression
+	 * @param operator the {@link FilterOperator}
+	 * @param value the typed value, can be null
+	 * @param ignoreCase whether string comparisons are case insensitive
+	 */
+	public FilterDescriptor(String property, FilterOperator operator, Object value, boolean ignoreCase)
+	{
+		this.property = property;
+		this.operator = operator;
+		this.value = value;
+		this.ignoreCase = ignoreCase;
+	}
+
+	/**
+	 * Gets the property expression
+	 *
+	 * @return the property expression
+	 */
+	public String getProperty()
+	{
+		return this.property;
+	}
+
+	/**
+	 * Gets the operator
+	 *
+	 * @return the {@link FilterOperator}
+	 */
+	public FilterOperator getOperator()
+	{
+		return this.operator;
+	}
+
+	/**
+	 * Gets the typed value
+	 *
+	 * @return the value, can be null
+	 */
+	public Object getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * Indicates whether string comparisons are case insensitive
+	 *
+	 * @return true by default
+	 */
+	public boolean isIgnoreCase()
+	{
+		return this.ignoreCase;
+	}
+
+	@Override
+	public boolean accept(Object bean)
+	{
+		Object actual = PropertyAccessor.getValue(this.property, bean);
+
+		switch (this.operator)
+		{
+			case ISNULL:
+				return actual == null;
+			case ISNOTNULL:
+				return actual != null;
+			case ISEMPTY:
+				return actual == null || actual.toString().length() == 0;
+			case ISNOTEMPTY:
+				return actual != null && actual.toString().length() > 0;
+			default:
+				break;
+		}
+
+		// only (in)equality is defined against null
+		if (actual == null || this.value == null)
+		{
+			boolean equal = actual == this.value;
+
+			return this.operator == FilterOperator.EQ ? equal : this.operator == FilterOperator.NEQ && !equal;
+		}
+
+		switch (this.operator)
+		{
+			case EQ:
+				return this.compare(actual) == 0;
+			case NEQ:
+				return this.compare(actual) != 0;
+			case LT:
+				return this.compare(actual) < 0;
+			case LTE:
+				return this.compare(actual) <= 0;
+			case GT:
+				return this.compare(actual) > 0;
+			case GTE:
+				return this.compare(actual) >= 0;
+			case STARTSWITH:
+				return this.normalize(actual.toString()).startsWith(this.normalize(this.value.toString()));
+			case ENDSWITH:
+				return this.normalize(actual.toString()).endsWith(this.normalize(this.value.toString()));
+			case CONTAINS:
+				return this.normalize(actual.toString()).contains(this.normalize(this.value.toString()));
+			case DOESNOTCONTAIN:
+				return !this.normalize(actual.toString()).contains(this.normalize(this.value.toString()));
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Compares the actual (non null) value of the bean to the filter value
+	 *
+	 * @param actual the actual value
+	 * @return a negative integer, zero, or a positive integer as the actual value is less than, equal to, or greater than the filter value
+	 */
+	@SuppressWarnings("unchecked")
+	private int compare(Object actual)
+	{
+		if (actual instanceof Number && this.value instanceof Number)
+		{
+			return FilterDescriptor.compare((Number) actual, (Number) this.value);
+		}
+
+		if (actual instanceof Date && this.value instanceof Date)
+		{
+			return ((Date) actual).compareTo((Date) this.value);
+		}
+
+		if (actual instanceof Comparable && actual.getClass() == this.value.getClass() && !(actual instanceof String))
+		{
+			return ((Comparable<Object>) actual).compareTo(this.value);
+		}
+
+		return this.normalize(actual.toString()).compareTo(this.normalize(this.value.toString()));
+	}
+
+	private String normalize(String value)
+	{
+		return this.ignoreCase ? value.toLowerCase(Locale.ROOT) : value;
+	}
+
+	/**
+	 * Compares two numbers, whatever their types
+	 *
+	 * @param n1 the first number
+	 * @param n2 the second number
+	 * @return a negative integer, zero, or a positive integer as the first number is less than, equal to, or greater than the second
+	 */
+	private static int compare(Number n1, Number n2)
+	{
+		try
+		{
+			return FilterDescriptor.toBigDecimal(n1).compareTo(FilterDescriptor.toBigDecimal(n2));
+		}
+		catch (NumberFormatException e)
+		{
+			return Double.compare(n1.doubleValue(), n2.doubleValue()); // NaN or infinity
+		}
+	}
+
+	private static BigDecimal toBigDecimal(Number number)
+	{
+		if (number instanceof BigDecimal)
+		{
+			return (BigDecimal) number;
+		}
+
+		return new BigDecimal(number.toString());
+	}
+
+	@Override
+	public String toString()
+	{
+		if (this.operator.isUnary())
+		{
+			return String.format("%s %s", this.property, this.operator);
+		}
+
+		return String.format("%s %s %s", this.property, this.operator, this.value);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.filter;
+
+/**
+ * Provides the Kendo UI filter operators
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public enum FilterOperator
+{
+	EQ("eq"),
+	NEQ("neq"),
+	LT("lt"),
+	LTE("lte"),
+	GT("gt"),
+	GTE("gte"),
+	STARTSWITH("startswith"),
+	ENDSWITH("endswith"),
+	CONTAINS("contains"),
+	DOESNOTCONTAIN("doesnotcontain"),
+	ISNULL("isnull"),
+	ISNOTNULL("isnotnull"),
+	ISEMPTY("isempty"),
+	ISNOTEMPTY("isnotempty");
+
+	/**
+	 * Gets the operator matching the Kendo UI name
+	 *
+	 * @param name the operator name, ie: "eq"
+	 * @return the {@link FilterOperator}, or {@link #EQ} if the name is null or unknown
+	 */
+	public static FilterOperator of(String name)
+	{
+		if (name != null)
+		{
+			for (FilterOperator operator : FilterOperator.values())
+			{
+				if (operator.name.equalsIgnoreCase(name))
+				{
+					return operator;
+				}
+			}
+		}
+
+		return EQ;
+	}
+
+	private final String name;
+
+	private FilterOperator(String name)
+	{
+		this.name = name;
+	}
+
+	/**
+	 * Indicates whether the operator applies without a value (ie: isnull)
+	 *
+	 * @return true or false
+	 */
+	public boolean isUnary()
+	{
+		return this == ISNULL || this == ISNOTNULL || this == ISEMPTY || this == ISNOTEMPTY;
+	}
+
+	/**
+	 * Gets the Kendo UI name of the operator
+	 */
+	@Override
+	public String toString()
+	{
+		return this.name;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.filter;
+
+import org.apache.wicket.util.io.IClusterable;
+
+/**
+ * Specifies a node of a filter expression: either a {@link FilterDescriptor} or a {@link CompositeFilterDescriptor}
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public interface IFilterDescriptor extends IClusterable
+{
+	/**
+	 * Indicates whether the bean matches the filter.<br/>
+	 * This allows data providers which do not push the filter down to their store to filter in memory.
+	 *
+	 * @param bean the bean
+	 * @return true or false
+	 */
+	boolean accept(Object bean);
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.filter;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+
+import com.googlecode.wicket.kendo.ui.datatable.DataTable;
+
+/**
+ * Specifies a {@link IDataProvider} that is able to apply the filter expression of a {@link DataTable}.<br/>
+ * The filter is supplied before {@link #size()} and {@link #iterator(long, long)} are called, so it can be translated to a query (ie: a SQL where clause) rather than applied in memory.
+ *
+ * @param <T> the type of the model object
+ * @author Sebastien Briquet - sebfz1
+ */
+public interface IFilterableDataProvider<T> extends IDataProvider<T>
+{
+	/**
+	 * Sets the filter expression requested by the data source
+	 *
+	 * @param filter the {@link CompositeFilterDescriptor}, or null if the data is not filtered
+	 */
+	void setFilter(CompositeFilterDescriptor filter);
+}
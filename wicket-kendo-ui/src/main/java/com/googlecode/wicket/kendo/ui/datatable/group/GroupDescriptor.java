@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.group;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.wicket.extensions.markup.html.repeater.data.sort.SortOrder;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.util.io.IClusterable;
+
+import com.googlecode.wicket.kendo.ui.datatable.aggregate.AggregateDescriptor;
+import com.googlecode.wicket.kendo.ui.datatable.sort.SortDescriptor;
+import com.googlecode.wicket.kendo.ui.utils.PropertyUtils;
+
+/**
+ * Provides a group key: a field, its {@link SortOrder} and the aggregates to compute for each group
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class GroupDescriptor implements IClusterable
+{
+	private static final long serialVersionUID = 1L;
+	private static final String ASC = "asc";
+
+	/**
+	 * Parses the group descriptors sent by the Kendo UI data source (ie: 'group[0][field]', 'group[0][dir]', 'group[0][aggregates][0][field]', ...)
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @return the ordered list of {@link GroupDescriptor}, which is empty if the request is not grouped
+	 */
+	public static List<GroupDescriptor> of(IRequestParameters parameters)
+	{
+		List<GroupDescriptor> descriptors = new ArrayList<GroupDescriptor>();
+
+		for (int i = 0;; i++)
+		{
+			String field = parameters.getParameterValue(String.format("group[%d][field]", i)).toOptionalString();
+
+			if (field == null)
+			{
+				break;
+			}
+
+			String direction = parameters.getParameterValue(String.format("group[%d][dir]", i)).toOptionalString();
+			SortOrder order = direction == null || direction.equals(ASC) ? SortOrder.ASCENDING : SortOrder.DESCENDING;
+
+			descriptors.add(new GroupDescriptor(field, order, AggregateDescriptor.of(parameters, String.format("group[%d][aggregates]", i))));
+		}
+
+		return descriptors;
+	}
+
+	private final String field;
+	private final SortOrder order;
+	private final List<AggregateDescriptor> aggregates;
+
+	/**
+	 * Constructor
+	 *
+	 * @param field the Kendo UI field name (the escaped property expression, see {@link PropertyUtils#escape(String)})
+	 * @param order the {@link SortOrder} of the groups
+	 * @param aggregates the list of {@link AggregateDescriptor} to compute for each group, can be empty
+	 */
+	public GroupDescriptor(String field, SortOrder order, List<AggregateDescriptor> aggregates)
+	{
+		this.field = field;
+		this.order = order;
+		this.aggregates = Collections.unmodifiableList(new ArrayList<AggregateDescriptor>(aggregates));
+	}
+
+	/**
+	 * Gets the Kendo UI field name
+	 *
+	 * @return the field name
+	 */
+	public String getField()
+	{
+		return this.field;
+	}
+
+	/**
+	 * Gets the property expression
+	 *
+	 * @return the property expression
+	 */
+	public String getProperty()
+	{
+		return PropertyUtils.unescape(this.field);
+	}
+
+	/**
+	 * Gets the sort order of the groups
+	 *
+	 * @return the {@link SortOrder}
+	 */
+	public SortOrder getOrder()
+	{
+		return this.order;
+	}
+
+	/**
+	 * Gets the aggregates to compute for each group
+	 *
+	 * @return the unmodifiable list of {@link AggregateDescriptor}
+	 */
+	public List<AggregateDescriptor> getAggregates()
+	{
+		return this.aggregates;
+	}
+
+	/**
+	 * Gets the {@link SortDescriptor} that keeps the members of each group together
+	 *
+	 * @return the {@link SortDescriptor}
+	 */
+	public SortDescriptor toSortDescriptor()
+	{
+		return new SortDescriptor(this.getProperty(), this.order);
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s %s %s", this.field, this.order == SortOrder.DESCENDING ? "desc" : ASC, this.aggregates);
+	}
+}
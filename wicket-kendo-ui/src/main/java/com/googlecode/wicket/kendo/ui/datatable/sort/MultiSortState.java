@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.wicket.util.io.IClusterable;
+
+/**
+ * Provides the sort state of a data provider, as an ordered list of {@link SortDescriptor}<code>s</code>: the first descriptor is the primary sort key, the next ones break its ties.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class MultiSortState implements IClusterable
+{
+	private static final long serialVersionUID = 1L;
+
+	private List<SortDescriptor> descriptors = Collections.emptyList();
+
+	/**
+	 * Gets the sort descriptors
+	 *
+	 * @return the unmodifiable, ordered list of {@link SortDescriptor}
+	 */
+	public List<SortDescriptor> getSortDescriptors()
+	{
+		return this.descriptors;
+	}
+
+	/**
+	 * Sets the sort descriptors
+	 *
+	 * @param descriptors the ordered list of {@link SortDescriptor}, can be empty
+	 */
+	public void setSortDescriptors(List<SortDescriptor> descriptors)
+	{
+		this.descriptors = Collections.unmodifiableList(new ArrayList<SortDescriptor>(descriptors));
+	}
+
+	/**
+	 * Indicates whether there is any sort key
+	 *
+	 * @return true or false
+	 */
+	public boolean isSorted()
+	{
+		return !this.descriptors.isEmpty();
+	}
+
+	/**
+	 * Gets a new {@link Comparator} for in-memory sorting, which compares the beans by each sort key in turn
+	 *
+	 * @param <T> the bean type
+	 * @return the {@link Comparator}
+	 */
+	public <T> Comparator<T> newComparator()
+	{
+		return new SortDescriptorComparator<T>(this.descriptors);
+	}
+
+	@Override
+	public String toString()
+	{
+		return this.descriptors.toString();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.wicket.extensions.markup.html.repeater.data.sort.SortOrder;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.util.io.IClusterable;
+
+import com.googlecode.wicket.kendo.ui.utils.PropertyUtils;
+
+/**
+ * Provides a sort key: a property and its {@link SortOrder}
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class SortDescriptor implements IClusterable
+{
+	private static final long serialVersionUID = 1L;
+	private static final String ASC = "asc";
+
+	/**
+	 * Parses the sort descriptors sent by the Kendo UI data source (ie: 'sort[0][field]', 'sort[0][dir]', 'sort[1][field]', ...)
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @return the ordered list of {@link SortDescriptor}, which is empty if the request is not sorted
+	 */
+	public static List<SortDescriptor> of(IRequestParameters parameters)
+	{
+		List<SortDescriptor> descriptors = new ArrayList<SortDescriptor>();
+
+		for (int i = 0;; i++)
+		{
+			String field = parameters.getParameterValue(String.format("sort[%d][field]", i)).toOptionalString();
+
+			if (field == null)
+			{
+				break;
+			}
+
+			String direction = parameters.getParameterValue(String.format("sort[%d][dir]", i)).toOptionalString();
+
+			if (direction != null)
+			{
+				descriptors.add(new SortDescriptor(PropertyUtils.unescape(field), direction.equals(ASC) ? SortOrder.ASCENDING : SortOrder.DESCENDING));
+			}
+		}
+
+		return descriptors;
+	}
+
+	private final String property;
+	private final SortOrder order;
+
+	/**
+	 * Constructor
+	 *
+	 * @param property the property expression
+	 * @param order the {@link SortOrder}
+	 */
+	public SortDescriptor(String property, SortOrder order)
+	{
+		this.property = property;
+		this.order = order;
+	}
+
+	/**
+	 * Gets the property expression
+	 *
+	 * @return the property expression
+	 */
+	public String getProperty()
+	{
+		return this.property;
+	}
+
+	/**
+	 * Gets the sort order
+	 *
+	 * @return the {@link SortOrder}
+	 */
+	public SortOrder getOrder()
+	{
+		return this.order;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s %s", this.property, this.order == SortOrder.DESCENDING ? "desc" : ASC);
+	}
+}
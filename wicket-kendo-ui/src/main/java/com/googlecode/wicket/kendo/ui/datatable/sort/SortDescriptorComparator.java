@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable.sort;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.wicket.extensions.markup.html.repeater.data.sort.SortOrder;
+
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
+
+/**
+ * Provides a {@link Comparator} that compares beans by a list of {@link SortDescriptor}<code>s</code>, using cached property accessors (see {@link PropertyAccessor}).<br/>
+ * Null values come first in ascending order.
+ *
+ * @param <T> the bean type
+ * @author Sebastien Briquet - sebfz1
+ */
+public class SortDescriptorComparator<T> implements Comparator<T>, Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	private final String[] properties;
+	private final boolean[] descending;
+
+	/** accessors of the last compared bean class */
+	private transient Accessors accessors = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param descriptors the ordered list of {@link SortDescriptor}
+	 */
+	public SortDescriptorComparator(List<SortDescriptor> descriptors)
+	{
+		this.properties = new String[descriptors.size()];
+		this.descending = new boolean[descriptors.size()];
+
+		for (int i = 0; i < this.properties.length; i++)
+		{
+			SortDescriptor descriptor = descriptors.get(i);
+
+			this.properties[i] = descriptor.getProperty();
+			this.descending[i] = descriptor.getOrder() == SortOrder.DESCENDING;
+		}
+	}
+
+	/**
+	 * Gets the accessor of the i-th sort key for the bean
+	 *
+	 * @param bean the bean, not null
+	 * @param i the sort key index
+	 * @return the {@link PropertyAccessor}
+	 */
+	private PropertyAccessor getAccessor(Object bean, int i)
+	{
+		Accessors current = this.accessors;
+
+		if (current == null || current.type != bean.getClass())
+		{
+			current = new Accessors(bean.getClass(), this.properties);
+			this.accessors = current;
+		}
+
+		return current.accessors[i];
+	}
+
+	/**
+	 * Gets the value of the i-th sort key for the bean
+	 *
+	 * @param bean the bean, can be null
+	 * @param i the sort key index
+	 * @return the value
+	 */
+	private Object getValue(Object bean, int i)
+	{
+		return bean != null ? this.getAccessor(bean, i).getValue(bean) : null;
+	}
+
+	@Override
+	public int compare(T o1, T o2)
+	{
+		for (int i = 0; i < this.properties.length; i++)
+		{
+			int result = SortDescriptorComparator.compareValues(this.getValue(o1, i), this.getValue(o2, i));
+
+			if (result != 0)
+			{
+				return this.descending[i] ? -result : result;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Compares two property values, nulls first.<br/>
+	 * Numbers of different types (ie: an Integer and a Double) are compared as {@link BigDecimal}<code>s</code>, so large longs do not lose precision.
+	 *
+	 * @param v1 the first value
+	 * @param v2 the second value
+	 * @return a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater than the second
+	 */
+	@SuppressWarnings("unchecked")
+	public static int compareValues(Object v1, Object v2)
+	{
+		if (v1 == v2)
+		{
+			return 0;
+		}
+
+		if (v1 == null)
+		{
+			return -1;
+		}
+
+		if (v2 == null)
+		{
+			return 1;
+		}
+
+		if (v1 instanceof Comparable && v1.getClass() == v2.getClass())
+		{
+			return ((Comparable<Object>) v1).compareTo(v2);
+		}
+
+		if (v1 instanceof Number && v2 instanceof Number)
+		{
+			return SortDescriptorComparator.compareNumbers((Number) v1, (Number) v2);
+		}
+
+		return v1.toString().compareTo(v2.toString());
+	}
+
+	/**
+	 * Compares two numbers of different types
+	 *
+	 * @param n1 the first number
+	 * @param n2 the second number
+	 * @return a negative integer, zero, or a positive integer as the first number is less than, equal to, or greater than the second
+	 */
+	private static int compareNumbers(Number n1, Number n2)
+	{
+		BigDecimal d1 = SortDescriptorComparator.toBigDecimal(n1);
+		BigDecimal d2 = SortDescriptorComparator.toBigDecimal(n2);
+
+		if (d1 != null && d2 != null)
+		{
+			return d1.compareTo(d2);
+		}
+
+		// NaN, infinities or unknown number types
+		return Double.compare(n1.doubleValue(), n2.doubleValue());
+	}
+
+	/**
+	 * Converts the number to a {@link BigDecimal}
+	 *
+	 * @param number the number
+	 * @return the {@link BigDecimal}, or null if the number has no exact decimal representation (NaN, infinities) or is of an unknown type
+	 */
+	private static BigDecimal toBigDecimal(Number number)
+	{
+		if (number instanceof BigDecimal)
+		{
+			return (BigDecimal) number;
+		}
+
+		if (number instanceof BigInteger)
+		{
+			return new BigDecimal((BigInteger) number);
+		}
+
+		if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte || number instanceof AtomicLong || number instanceof AtomicInteger)
+		{
+			return BigDecimal.valueOf(number.longValue());
+		}
+
+		if (number instanceof Double || number instanceof Float)
+		{
+			double value = number.doubleValue();
+
+			if (!Double.isNaN(value) && !Double.isInfinite(value))
+			{
+				return new BigDecimal(number.toString());
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Holds the accessors of the sort keys for a bean class
+	 */
+	private static class Accessors
+	{
+		private final Class<?> type;
+		private final PropertyAccessor[] accessors;
+
+		public Accessors(Class<?> type, String[] properties)
+		{
+			this.type = type;
+			this.accessors = new PropertyAccessor[properties.length];
+
+			for (int i = 0; i < properties.length; i++)
+			{
+				this.accessors[i] = PropertyAccessor.of(type, properties[i]);
+			}
+		}
+	}
+}
@@ -191,7 +191,7 @@ public class ComboBox<T> extends TextField<String> implements IJQueryWidget
 		// set template (if any) //
 		if (this.template != null)
 		{
-			behavior.setOption("template", String.format("jQuery('#%s').html()", this.templateBehavior.getToken()));
+			behavior.setOption("template", this.templateBehavior.getCompiledTemplate());
 		}
 
 		// set data source //
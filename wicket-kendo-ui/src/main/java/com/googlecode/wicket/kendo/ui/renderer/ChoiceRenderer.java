@@ -16,9 +16,9 @@
  */
 package com.googlecode.wicket.kendo.ui.renderer;
 
-import org.apache.wicket.core.util.lang.PropertyResolver;
-
+import com.googlecode.wicket.jquery.core.JsonWriter;
 import com.googlecode.wicket.jquery.core.renderer.TextRenderer;
+import com.googlecode.wicket.jquery.core.utils.PropertyAccessor;
 
 /**
  * Default implementation of {@link IChoiceRenderer}.
@@ -99,7 +99,7 @@ public class ChoiceRenderer<T> extends TextRenderer<T> implements IChoiceRendere
 	{
 		if (this.valueExpression != null)
 		{
-			Object value = PropertyResolver.getValue(this.valueExpression, object); // if the object is null, null is returned
+			Object value = PropertyAccessor.getValue(this.valueExpression, object); // if the object is null, null is returned
 
 			if (value != null)
 			{
@@ -113,6 +113,26 @@ public class ChoiceRenderer<T> extends TextRenderer<T> implements IChoiceRendere
 	@Override
 	public String toJson(T object)
 	{
-		return String.format("{ \"%s\": \"%s\", \"%s\": \"%s\" }", this.getTextField(), this.getText(object), this.getValueField(), this.getValue(object));
+		JsonWriter writer = JsonWriter.get();
+
+		try
+		{
+			this.toJson(writer, object);
+
+			return writer.toString();
+		}
+		finally
+		{
+			writer.release();
+		}
+	}
+
+	@Override
+	public void toJson(JsonWriter writer, T object)
+	{
+		writer.beginObject();
+		writer.name(this.getTextField()).string(this.getText(object));
+		writer.name(this.getValueField()).string(this.getValue(object));
+		writer.endObject();
 	}
 }
@@ -16,6 +16,7 @@
  */
 package com.googlecode.wicket.kendo.ui.renderer;
 
+import com.googlecode.wicket.jquery.core.JsonWriter;
 import com.googlecode.wicket.jquery.core.renderer.ITextRenderer;
 
 /**
@@ -56,4 +57,12 @@ public interface IChoiceRenderer<T> extends ITextRenderer<T>
 	 * @return the JSON representation of the object
 	 */
 	public abstract String toJson(T object);
+
+	/**
+	 * Writes the JSON representation of the supplied object to the {@link JsonWriter}
+	 *
+	 * @param writer the {@link JsonWriter}
+	 * @param object the object
+	 */
+	public abstract void toJson(JsonWriter writer, T object);
 }
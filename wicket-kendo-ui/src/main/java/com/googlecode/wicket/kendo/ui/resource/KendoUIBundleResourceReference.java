@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.resource;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.request.resource.AbstractResource;
+import org.apache.wicket.request.resource.IResource;
+import org.apache.wicket.request.resource.ResourceReference;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.settings.IJavaScriptLibrarySettings;
+
+import com.googlecode.wicket.jquery.core.resource.ContentHashResourceCachingStrategy;
+
+/**
+ * Provides the resource reference of the Kendo UI combined bundles (see {@link KendoUIModuleRegistry}).<br/>
+ * The modules of the bundle are supplied through the '{@value #MODULES_PARAMETER}' parameter, so any node can serve any bundle.<br/>
+ * The '{@value #VERSION_PARAMETER}' parameter holds the library version; the bundle is cached by the clients only if it matches the embedded library (see {@link ContentHashResourceCachingStrategy#decorateResponse}).<br/>
+ * The reference is registered by the module's {@link org.apache.wicket.IInitializer}, so its urls resolve before any page has rendered it.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class KendoUIBundleResourceReference extends ResourceReference
+{
+	private static final long serialVersionUID = 1L;
+
+	/** Parameter holding the comma separated list of modules */
+	public static final String MODULES_PARAMETER = "modules";
+
+	/** Parameter holding the version of the library (see {@link KendoUIModuleRegistry#getVersion()}) */
+	public static final String VERSION_PARAMETER = ContentHashResourceCachingStrategy.VERSION_PARAMETER;
+
+	private static final KendoUIBundleResourceReference INSTANCE = new KendoUIBundleResourceReference();
+
+	/**
+	 * Gets the instance of the resource reference
+	 *
+	 * @return the single instance of the resource reference
+	 */
+	public static KendoUIBundleResourceReference get()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Gets the {@link PageParameters} of the bundle of the supplied modules
+	 *
+	 * @param modules the module ids, in library order
+	 * @return the {@link PageParameters}
+	 */
+	public static PageParameters newParameters(List<String> modules)
+	{
+		KendoUIModuleRegistry registry = KendoUIModuleRegistry.get();
+
+		return new PageParameters().add(MODULES_PARAMETER, registry.getSignature(modules)).add(VERSION_PARAMETER, registry.getVersion());
+	}
+
+	/**
+	 * Private constructor
+	 */
+	private KendoUIBundleResourceReference()
+	{
+		super(KendoUIBundleResourceReference.class, "kendo.bundle.js");
+	}
+
+	@Override
+	public IResource getResource()
+	{
+		return new KendoUIBundleResource();
+	}
+
+	@Override
+	public Iterable<? extends HeaderItem> getDependencies()
+	{
+		IJavaScriptLibrarySettings settings = Application.get().getJavaScriptLibrarySettings();
+
+		return Collections.singletonList(JavaScriptHeaderItem.forReference(settings.getJQueryReference()));
+	}
+
+	/**
+	 * Provides the resource that streams the combined bundle
+	 */
+	private static class KendoUIBundleResource extends AbstractResource
+	{
+		private static final long serialVersionUID = 1L;
+		private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+		@Override
+		protected ResourceResponse newResourceResponse(Attributes attributes)
+		{
+			KendoUIModuleRegistry registry = KendoUIModuleRegistry.get();
+
+			String modules = attributes.getParameters().get(MODULES_PARAMETER).toString("");
+			final byte[] bytes = registry.getBundle(registry.sort(Arrays.asList(modules.split(",")))).getBytes(UTF_8);
+
+			ResourceResponse response = new ResourceResponse();
+			response.setContentType("text/javascript");
+			response.setTextEncoding(UTF_8.name());
+			response.setContentLength(bytes.length);
+			ContentHashResourceCachingStrategy.decorateResponse(response, attributes, registry.getVersion());
+			response.setWriteCallback(new WriteCallback() {
+
+				@Override
+				public void writeData(Attributes attributes)
+				{
+					attributes.getResponse().write(bytes);
+				}
+			});
+
+			return response;
+		}
+	}
+}
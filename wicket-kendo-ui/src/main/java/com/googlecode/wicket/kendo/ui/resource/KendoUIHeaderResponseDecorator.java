@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.resource;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.IHeaderItemWrapper;
+import org.apache.wicket.markup.head.PriorityHeaderItem;
+import org.apache.wicket.markup.html.DecoratingHeaderResponse;
+import org.apache.wicket.markup.html.IHeaderResponseDecorator;
+
+import com.googlecode.wicket.jquery.core.resource.ChainingHeaderResponseDecorator;
+import com.googlecode.wicket.jquery.core.settings.LoadingMode;
+
+/**
+ * Provides a {@link IHeaderResponseDecorator} that merges the {@link KendoUIModuleHeaderItem}<code>s</code> rendered by a page (or an ajax response) into a single bundle.<br/>
+ * Without this decorator, modules are rendered one by one.<br/>
+ * <br/>
+ * Usage:
+ * <pre><code>
+ * public void init()
+ * {
+ *     super.init();
+ *
+ *     this.setHeaderResponseDecorator(new KendoUIHeaderResponseDecorator());
+ * }
+ * </code></pre>
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class KendoUIHeaderResponseDecorator extends ChainingHeaderResponseDecorator
+{
+	/**
+	 * Constructor
+	 */
+	public KendoUIHeaderResponseDecorator()
+	{
+		super();
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param decorator another {@link IHeaderResponseDecorator} to chain with, can be null
+	 */
+	public KendoUIHeaderResponseDecorator(IHeaderResponseDecorator decorator)
+	{
+		super(decorator);
+	}
+
+	@Override
+	protected IHeaderResponse newHeaderResponse(IHeaderResponse response)
+	{
+		return new KendoUIHeaderResponse(response);
+	}
+
+	/**
+	 * {@link IHeaderResponse} that collects the modules of the {@link KendoUIModuleHeaderItem}<code>s</code> and renders their bundle on close
+	 */
+	private static class KendoUIHeaderResponse extends DecoratingHeaderResponse
+	{
+		private final Set<String> modules = new LinkedHashSet<String>();
+		private LoadingMode mode = LoadingMode.BLOCKING;
+
+		public KendoUIHeaderResponse(IHeaderResponse response)
+		{
+			super(response);
+		}
+
+		@Override
+		public void render(HeaderItem item)
+		{
+			HeaderItem wrapped = item;
+
+			while (wrapped instanceof IHeaderItemWrapper)
+			{
+				wrapped = ((IHeaderItemWrapper) wrapped).getWrapped();
+			}
+
+			if (wrapped instanceof KendoUIModuleHeaderItem)
+			{
+				this.modules.addAll(((KendoUIModuleHeaderItem) wrapped).getModules());
+				this.mode = ((KendoUIModuleHeaderItem) wrapped).getLoadingMode();
+			}
+			else
+			{
+				super.render(item);
+			}
+		}
+
+		@Override
+		public void close()
+		{
+			if (!this.modules.isEmpty())
+			{
+				super.render(new PriorityHeaderItem(KendoUIModuleHeaderItem.forBundle(this.modules, this.mode)));
+				this.modules.clear();
+			}
+
+			super.close();
+		}
+	}
+}
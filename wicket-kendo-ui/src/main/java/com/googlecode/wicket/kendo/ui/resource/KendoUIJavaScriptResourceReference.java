@@ -16,8 +16,7 @@
  */
 package com.googlecode.wicket.kendo.ui.resource;
 
-import org.apache.wicket.resource.JQueryPluginResourceReference;
-
+import com.googlecode.wicket.jquery.core.resource.PrecompressedResourceReference;
 import com.googlecode.wicket.kendo.ui.settings.IKendoUILibrarySettings;
 
 /**
@@ -28,7 +27,7 @@ import com.googlecode.wicket.kendo.ui.settings.IKendoUILibrarySettings;
  * @author Sebastien Briquet - sebfz1
  *
  */
-public class KendoUIJavaScriptResourceReference extends JQueryPluginResourceReference
+public class KendoUIJavaScriptResourceReference extends PrecompressedResourceReference
 {
 	private static final long serialVersionUID = 1L;
 
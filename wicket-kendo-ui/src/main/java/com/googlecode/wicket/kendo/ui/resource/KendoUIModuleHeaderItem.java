@@ -0,0 +1,351 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.resource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.markup.head.JavaScriptHeaderItem;
+import org.apache.wicket.request.Response;
+
+import com.googlecode.wicket.jquery.core.resource.JQueryLoaderHeaderItem;
+import com.googlecode.wicket.jquery.core.resource.PreloadHeaderResponseDecorator.IPreloadableHeaderItem;
+import com.googlecode.wicket.jquery.core.settings.LoadingMode;
+
+/**
+ * Provides a {@link HeaderItem} that renders the Kendo UI modules a behavior needs.<br/>
+ * When the application uses the {@link KendoUIHeaderResponseDecorator}, items rendered by the page are merged into a single combined bundle (see {@link #forBundle(Collection, LoadingMode)}).<br/>
+ * Otherwise, each module is rendered as its own slice, with the slices of its dependencies, so widgets of a same page never download a module twice.<br/>
+ * Unless the {@link LoadingMode} is {@link LoadingMode#BLOCKING}, scripts are loaded through the script loader and provide an alias per module (see {@link #getAlias(String)}).
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class KendoUIModuleHeaderItem extends HeaderItem implements IPreloadableHeaderItem
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Gets the alias of a module, provided by the bundle when it is loaded through the script loader
+	 *
+	 * @param module the module id
+	 * @return the alias, like 'kendo.grid'
+	 */
+	public static String getAlias(String module)
+	{
+		return "kendo." + module;
+	}
+
+	/**
+	 * Gets the aliases of the supplied modules
+	 *
+	 * @param modules the module ids
+	 * @return the aliases
+	 */
+	private static String[] getAliases(List<String> modules)
+	{
+		String[] aliases = new String[modules.size()];
+
+		for (int i = 0; i < aliases.length; i++)
+		{
+			aliases[i] = KendoUIModuleHeaderItem.getAlias(modules.get(i));
+		}
+
+		return aliases;
+	}
+
+	/**
+	 * Gets the {@link HeaderItem} of the bundle of the supplied modules
+	 *
+	 * @param modules the module ids, in library order
+	 * @param mode the {@link LoadingMode}
+	 * @param depends the aliases the bundle waits for, when loaded through the script loader
+	 * @return the {@link HeaderItem}
+	 */
+	private static HeaderItem newBundleItem(List<String> modules, LoadingMode mode, List<String> depends)
+	{
+		if (mode != LoadingMode.BLOCKING)
+		{
+			return new JQueryLoaderHeaderItem(KendoUIBundleResourceReference.get(), KendoUIBundleResourceReference.newParameters(modules), mode == LoadingMode.ASYNC, depends, KendoUIModuleHeaderItem.getAliases(modules));
+		}
+
+		return JavaScriptHeaderItem.forReference(KendoUIBundleResourceReference.get(), KendoUIBundleResourceReference.newParameters(modules), null);
+	}
+
+	/**
+	 * Gets the {@link HeaderItem} that renders the supplied modules, and all their dependencies, as a single bundle
+	 *
+	 * @param modules the module ids (ie: 'grid', 'dropdownlist')
+	 * @param mode the {@link LoadingMode}
+	 * @return the {@link KendoUIModuleHeaderItem}
+	 */
+	public static KendoUIModuleHeaderItem forBundle(Collection<String> modules, LoadingMode mode)
+	{
+		return new KendoUIModuleHeaderItem(modules, mode, true);
+	}
+
+	private final List<String> modules;
+	private final LoadingMode mode;
+	private final boolean bundled;
+
+	/**
+	 * Constructor
+	 *
+	 * @param modules the module ids (ie: 'grid', 'dropdownlist')
+	 */
+	public KendoUIModuleHeaderItem(String... modules)
+	{
+		this(Arrays.asList(modules));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param modules the module ids (ie: 'grid', 'dropdownlist')
+	 */
+	public KendoUIModuleHeaderItem(Collection<String> modules)
+	{
+		this(modules, LoadingMode.BLOCKING);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param modules the module ids (ie: 'grid', 'dropdownlist')
+	 * @param mode the {@link LoadingMode}
+	 */
+	public KendoUIModuleHeaderItem(Collection<String> modules, LoadingMode mode)
+	{
+		this(modules, mode, false);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param modules the module ids (ie: 'grid', 'dropdownlist')
+	 * @param mode the {@link LoadingMode}
+	 * @param bundled true to render the modules as a single bundle, false to render a slice per module
+	 */
+	private KendoUIModuleHeaderItem(Collection<String> modules, LoadingMode mode, boolean bundled)
+	{
+		this.modules = KendoUIModuleRegistry.get().resolve(modules);
+		this.mode = mode;
+		this.bundled = bundled;
+	}
+
+	/**
+	 * Gets the resolved module ids, in library order
+	 *
+	 * @return the list of module ids
+	 */
+	public List<String> getModules()
+	{
+		return this.modules;
+	}
+
+	/**
+	 * Gets the {@link LoadingMode}
+	 *
+	 * @return the {@link LoadingMode}
+	 */
+	public LoadingMode getLoadingMode()
+	{
+		return this.mode;
+	}
+
+	/**
+	 * Gets the aliases of the resolved modules
+	 *
+	 * @return the aliases
+	 */
+	public String[] getAliases()
+	{
+		return KendoUIModuleHeaderItem.getAliases(this.modules);
+	}
+
+	/**
+	 * Gets the {@link HeaderItem}<code>s</code> that render the modules: the bundle, or the slices
+	 *
+	 * @return the list of {@link HeaderItem}
+	 */
+	private List<HeaderItem> getItems()
+	{
+		if (this.bundled)
+		{
+			return Collections.singletonList(KendoUIModuleHeaderItem.newBundleItem(this.modules, this.mode, Collections.<String> emptyList()));
+		}
+
+		List<HeaderItem> items = new ArrayList<HeaderItem>();
+
+		for (String module : this.modules)
+		{
+			items.add(new SliceHeaderItem(module, this.mode));
+		}
+
+		return items;
+	}
+
+	@Override
+	public Iterable<?> getRenderTokens()
+	{
+		return Collections.singletonList((this.bundled ? "kendo-bundle-" : "kendo-modules-") + KendoUIModuleRegistry.get().getSignature(this.modules));
+	}
+
+	@Override
+	public Iterable<? extends HeaderItem> getDependencies()
+	{
+		if (this.bundled)
+		{
+			return this.getItems().get(0).getDependencies();
+		}
+
+		// the slices are rendered as dependencies, so each one is rendered once per page //
+		return this.getItems();
+	}
+
+	@Override
+	public Iterable<? extends HeaderItem> getPreloadableItems()
+	{
+		return this.getItems();
+	}
+
+	@Override
+	public void render(Response response)
+	{
+		if (this.bundled)
+		{
+			this.getItems().get(0).render(response);
+		}
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(new Object[] { this.modules, this.mode, this.bundled });
+	}
+
+	@Override
+	public boolean equals(Object object)
+	{
+		if (object instanceof KendoUIModuleHeaderItem)
+		{
+			KendoUIModuleHeaderItem item = (KendoUIModuleHeaderItem) object;
+
+			return this.modules.equals(item.modules) && this.mode == item.mode && this.bundled == item.bundled;
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "KendoUIModuleHeaderItem(" + this.modules + (this.bundled ? ", bundled" : "") + ")";
+	}
+
+	/**
+	 * {@link HeaderItem} of a single module, which depends on the slices of the modules it depends on
+	 */
+	private static class SliceHeaderItem extends HeaderItem implements IPreloadableHeaderItem
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final String module;
+		private final LoadingMode mode;
+
+		public SliceHeaderItem(String module, LoadingMode mode)
+		{
+			this.module = module;
+			this.mode = mode;
+		}
+
+		/**
+		 * Gets the {@link HeaderItem} of the slice, which waits for the aliases of its dependencies when loaded through the script loader
+		 *
+		 * @return the {@link HeaderItem}
+		 */
+		private HeaderItem getItem()
+		{
+			List<String> depends = new ArrayList<String>();
+
+			for (String dependency : KendoUIModuleRegistry.get().getDependencies(this.module))
+			{
+				depends.add(KendoUIModuleHeaderItem.getAlias(dependency));
+			}
+
+			return KendoUIModuleHeaderItem.newBundleItem(Collections.singletonList(this.module), this.mode, depends);
+		}
+
+		@Override
+		public Iterable<?> getRenderTokens()
+		{
+			return Collections.singletonList("kendo-module-" + this.module);
+		}
+
+		@Override
+		public Iterable<? extends HeaderItem> getDependencies()
+		{
+			List<HeaderItem> dependencies = new ArrayList<HeaderItem>();
+
+			for (HeaderItem item : this.getItem().getDependencies())
+			{
+				dependencies.add(item);
+			}
+
+			for (String dependency : KendoUIModuleRegistry.get().getDependencies(this.module))
+			{
+				dependencies.add(new SliceHeaderItem(dependency, this.mode));
+			}
+
+			return dependencies;
+		}
+
+		@Override
+		public Iterable<? extends HeaderItem> getPreloadableItems()
+		{
+			return Collections.singletonList(this.getItem());
+		}
+
+		@Override
+		public void render(Response response)
+		{
+			this.getItem().render(response);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this.module.hashCode() * 31 + this.mode.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			return (object instanceof SliceHeaderItem) && this.module.equals(((SliceHeaderItem) object).module) && this.mode == ((SliceHeaderItem) object).mode;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "SliceHeaderItem(" + this.module + ")";
+		}
+	}
+}
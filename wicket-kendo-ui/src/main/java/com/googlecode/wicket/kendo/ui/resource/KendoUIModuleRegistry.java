@@ -0,0 +1,461 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.javascript.IJavaScriptCompressor;
+import org.apache.wicket.util.io.IOUtils;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.string.Strings;
+
+/**
+ * Provides the registry of the Kendo UI modules embedded in kendo.web.js<br/>
+ * Modules, and their dependencies, are read from the <code>kendo_module({ id: ..., depends: [...] })</code> declarations of the library, so any set of modules can be sliced into a combined bundle.<br/>
+ * Bundles are cached per module-set signature.
+ *
+ * @author Sebastien Briquet - sebfz1
+ *
+ */
+public class KendoUIModuleRegistry
+{
+	private static final String SOURCE = "kendo.web.js";
+	private static final String CORE = "core";
+	private static final int MAX_BUNDLES = 32;
+	private static final String ALGORITHM = "MD5";
+
+	private static final Pattern MODULE_PATTERN = Pattern.compile("kendo_module\\(\\{\\s*id: \"([^\"]+)\"(.*?)\\n\\}\\);", Pattern.DOTALL);
+	private static final Pattern DEPENDS_PATTERN = Pattern.compile("depends: \\[([^\\]]*)\\]");
+	private static final Pattern ID_PATTERN = Pattern.compile("\"([^\"]+)\"");
+
+	/**
+	 * Holds the instance, so the embedded library is parsed once, on first use, without synchronizing the callers
+	 */
+	private static class Holder
+	{
+		private static final KendoUIModuleRegistry INSTANCE = new KendoUIModuleRegistry(KendoUIModuleRegistry.load());
+	}
+
+	/**
+	 * Gets the {@link KendoUIModuleRegistry} instance.<br/>
+	 * The embedded library is parsed the first time this method is called.
+	 *
+	 * @return the {@link KendoUIModuleRegistry} instance
+	 */
+	public static KendoUIModuleRegistry get()
+	{
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * Loads the embedded kendo.web.js
+	 *
+	 * @return the library source
+	 */
+	private static String load()
+	{
+		InputStream stream = KendoUIModuleRegistry.class.getResourceAsStream(SOURCE);
+
+		if (stream == null)
+		{
+			throw new WicketRuntimeException(String.format("Unable to find %s", SOURCE));
+		}
+
+		try
+		{
+			return IOUtils.toString(stream, "UTF-8");
+		}
+		catch (IOException e)
+		{
+			throw new WicketRuntimeException(String.format("Unable to read %s", SOURCE), e);
+		}
+		finally
+		{
+			IOUtils.closeQuietly(stream);
+		}
+	}
+
+
+	private final String source;
+	private final String version;
+	private final Map<String, Module> modules;
+	private final Map<String, String> bundles;
+
+	/**
+	 * Constructor
+	 *
+	 * @param source the kendo.web.js source
+	 */
+	KendoUIModuleRegistry(String source)
+	{
+		this.source = source;
+		this.version = KendoUIModuleRegistry.hash(source);
+		this.modules = new LinkedHashMap<String, Module>();
+		this.bundles = Collections.synchronizedMap(new BundleCache(MAX_BUNDLES));
+
+		this.parse();
+	}
+
+	/**
+	 * Computes the hash of the library source
+	 *
+	 * @param source the kendo.web.js source
+	 * @return the hex-encoded hash
+	 */
+	private static String hash(String source)
+	{
+		try
+		{
+			StringBuilder builder = new StringBuilder();
+
+			for (byte b : MessageDigest.getInstance(ALGORITHM).digest(source.getBytes("UTF-8")))
+			{
+				builder.append(String.format("%02x", b));
+			}
+
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+		catch (UnsupportedEncodingException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Slices the source into modules. A module starts with its <code>kendo_module</code> declaration and ends where the next one starts.<br/>
+	 * The code preceding the first declaration belongs to the first module ('core').
+	 */
+	private void parse()
+	{
+		Matcher matcher = MODULE_PATTERN.matcher(this.source);
+		Module previous = null;
+
+		while (matcher.find())
+		{
+			Module module = new Module(matcher.group(1), previous == null ? 0 : matcher.start());
+
+			Matcher depends = DEPENDS_PATTERN.matcher(matcher.group(2));
+
+			while (depends.find())
+			{
+				Matcher ids = ID_PATTERN.matcher(depends.group(1));
+
+				while (ids.find())
+				{
+					module.dependencies.add(ids.group(1));
+				}
+			}
+
+			if (previous != null)
+			{
+				previous.end = matcher.start();
+			}
+
+			this.modules.put(module.id, module);
+			previous = module;
+		}
+
+		if (previous != null)
+		{
+			previous.end = this.source.length();
+		}
+	}
+
+	// Properties //
+
+	/**
+	 * Indicates whether the module is part of the library
+	 *
+	 * @param id the module id (ie: 'grid', 'dropdownlist')
+	 * @return true or false
+	 */
+	public boolean contains(String id)
+	{
+		return this.modules.containsKey(id);
+	}
+
+	/**
+	 * Gets the version of the library, which is the hash of the embedded kendo.web.js.<br/>
+	 * The bundles only depend on the library and on the module ids, so the version can be used to fingerprint their urls.
+	 *
+	 * @return the hex-encoded hash of the library
+	 */
+	public String getVersion()
+	{
+		return this.version;
+	}
+
+	/**
+	 * Gets the ids of all the modules of the library, in library order
+	 *
+	 * @return the list of module ids
+	 */
+	public List<String> getModules()
+	{
+		return new ArrayList<String>(this.modules.keySet());
+	}
+
+	// Methods //
+
+	/**
+	 * Resolves the supplied modules and all their dependencies.<br/>
+	 * Unknown modules are ignored (features may declare dependencies which are not part of kendo.web.js, like mobile modules).
+	 *
+	 * @param ids the module ids
+	 * @return the ids of the resolved modules, in library order
+	 */
+	public List<String> resolve(Collection<String> ids)
+	{
+		Set<String> resolved = new HashSet<String>();
+		this.resolve(CORE, resolved);
+
+		for (String id : ids)
+		{
+			this.resolve(id, resolved);
+		}
+
+		List<String> list = new ArrayList<String>();
+
+		for (String id : this.modules.keySet())
+		{
+			if (resolved.contains(id))
+			{
+				list.add(id);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Gets the modules the supplied module directly depends on. Every module but 'core' depends on 'core'.
+	 *
+	 * @param id the module id
+	 * @return the ids of the dependencies which are part of the library
+	 */
+	public List<String> getDependencies(String id)
+	{
+		List<String> list = new ArrayList<String>();
+		Module module = this.modules.get(id);
+
+		if (module != null)
+		{
+			if (!CORE.equals(id))
+			{
+				list.add(CORE);
+			}
+
+			for (String dependency : module.dependencies)
+			{
+				if (this.modules.containsKey(dependency) && !list.contains(dependency))
+				{
+					list.add(dependency);
+				}
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Gets the supplied modules, in library order, without resolving their dependencies.<br/>
+	 * Unknown modules are ignored.
+	 *
+	 * @param ids the module ids
+	 * @return the ids of the modules which are part of the library, in library order
+	 */
+	public List<String> sort(Collection<String> ids)
+	{
+		List<String> list = new ArrayList<String>();
+
+		for (String id : this.modules.keySet())
+		{
+			if (ids.contains(id))
+			{
+				list.add(id);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Adds the module and its dependencies to the resolved set
+	 *
+	 * @param id the module id
+	 * @param resolved the resolved set
+	 */
+	private void resolve(String id, Set<String> resolved)
+	{
+		Module module = this.modules.get(id);
+
+		if (module != null && resolved.add(id))
+		{
+			for (String dependency : module.dependencies)
+			{
+				this.resolve(dependency, resolved);
+			}
+		}
+	}
+
+	/**
+	 * Gets the signature of a set of modules
+	 *
+	 * @param ids the module ids, in library order
+	 * @return the signature
+	 */
+	public String getSignature(List<String> ids)
+	{
+		return Strings.join(",", ids);
+	}
+
+	/**
+	 * Gets the combined bundle of the supplied modules. Dependencies are not added to the bundle.<br/>
+	 * Each module is guarded, so it is executed only once even if several bundles sharing it are loaded by the same page (ie: through ajax).<br/>
+	 * The bundle is compressed with the application's {@link IJavaScriptCompressor}, if any.
+	 *
+	 * @param ids the module ids, in library order (see {@link #resolve(Collection)} and {@link #sort(Collection)})
+	 * @return the javascript bundle
+	 */
+	public String getBundle(List<String> ids)
+	{
+		Args.notNull(ids, "ids");
+
+		String signature = this.getSignature(ids);
+		String bundle = this.bundles.get(signature);
+
+		if (bundle == null)
+		{
+			bundle = this.compress(this.newBundle(ids));
+			this.bundles.put(signature, bundle);
+		}
+
+		return bundle;
+	}
+
+	/**
+	 * Creates the combined bundle of the supplied modules
+	 *
+	 * @param ids the resolved module ids
+	 * @return the javascript bundle
+	 */
+	private String newBundle(List<String> ids)
+	{
+		StringBuilder builder = new StringBuilder();
+
+		// if the whole library has already been loaded, nothing should be executed //
+		builder.append("window.kendo_modules = window.kendo_modules || (window.kendo ? { all: true } : {});\n");
+
+		for (String id : ids)
+		{
+			Module module = this.modules.get(id);
+
+			if (module != null)
+			{
+				builder.append("if (!kendo_modules.all && !kendo_modules['").append(id).append("']) {\n");
+				builder.append("kendo_modules['").append(id).append("'] = true;\n");
+				builder.append(this.source, module.start, module.end);
+				builder.append("\n}\n");
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Compresses the bundle using the application's {@link IJavaScriptCompressor}
+	 *
+	 * @param bundle the javascript bundle
+	 * @return the compressed bundle, or the bundle itself if there is no compressor
+	 */
+	private String compress(String bundle)
+	{
+		if (Application.exists())
+		{
+			IJavaScriptCompressor compressor = Application.get().getResourceSettings().getJavaScriptCompressor();
+
+			if (compressor != null)
+			{
+				return compressor.compress(bundle);
+			}
+		}
+
+		return bundle;
+	}
+
+	/**
+	 * Kendo UI module slice
+	 */
+	private static class Module
+	{
+		private final String id;
+		private final int start;
+		private int end;
+		private final List<String> dependencies;
+
+		public Module(String id, int start)
+		{
+			this.id = id;
+			this.start = start;
+			this.end = start;
+			this.dependencies = new ArrayList<String>();
+		}
+	}
+
+	/**
+	 * Least recently used cache of bundles
+	 */
+	private static class BundleCache extends LinkedHashMap<String, String>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+
+		public BundleCache(int capacity)
+		{
+			super(capacity, 0.75f, true);
+
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+		{
+			return this.size() > this.capacity;
+		}
+	}
+}
@@ -30,21 +30,16 @@ import com.googlecode.wicket.kendo.ui.resource.ConsoleStyleSheetResourceReferenc
  */
 public class ConsoleLibrarySettings extends JavaScriptLibrarySettings implements IConsoleLibrarySettings
 {
-	private static ConsoleLibrarySettings instance = null;
+	private static final ConsoleLibrarySettings INSTANCE = new ConsoleLibrarySettings();
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link ConsoleLibrarySettings} instance
 	 * @return the {@link ConsoleLibrarySettings} instance
 	 */
-	public static synchronized ConsoleLibrarySettings get()
+	public static ConsoleLibrarySettings get()
 	{
-		if (ConsoleLibrarySettings.instance == null)
-		{
-			ConsoleLibrarySettings.instance = new ConsoleLibrarySettings();
-		}
-
-		return ConsoleLibrarySettings.instance;
+		return ConsoleLibrarySettings.INSTANCE;
 	}
 
 
@@ -19,7 +19,11 @@ package com.googlecode.wicket.kendo.ui.settings;
 import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.def.JavaScriptLibrarySettings;
 
+import com.googlecode.wicket.jquery.core.settings.IJQueryLoaderSettings;
+import com.googlecode.wicket.jquery.core.settings.LoadingMode;
+import com.googlecode.wicket.kendo.ui.resource.KendoUIHeaderResponseDecorator;
 import com.googlecode.wicket.kendo.ui.resource.KendoUIJavaScriptResourceReference;
+import com.googlecode.wicket.kendo.ui.resource.KendoUIModuleRegistry;
 
 /**
  * Default implementation of {@link IKendoUILibrarySettings}.<br/>
@@ -27,25 +31,23 @@ import com.googlecode.wicket.kendo.ui.resource.KendoUIJavaScriptResourceReferenc
  * @author Sebastien Briquet - sebfz1
  *
  */
-public class KendoUILibrarySettings extends JavaScriptLibrarySettings implements IKendoUILibrarySettings
+public class KendoUILibrarySettings extends JavaScriptLibrarySettings implements IKendoUILibrarySettings, IJQueryLoaderSettings
 {
-	private static KendoUILibrarySettings instance = null;
+	private static final KendoUILibrarySettings INSTANCE = new KendoUILibrarySettings();
+
+	private boolean kendoUIModular = false;
+	private LoadingMode loadingMode = LoadingMode.BLOCKING;
 
 	/**
 	 * INTERNAL USE<br/>
 	 * Gets the {@link KendoUILibrarySettings} instance
 	 * @return the {@link KendoUILibrarySettings} instance
 	 */
-	public static synchronized KendoUILibrarySettings get()
+	public static KendoUILibrarySettings get()
 	{
-		if (KendoUILibrarySettings.instance == null)
-		{
-			KendoUILibrarySettings.instance = new KendoUILibrarySettings();
-		}
-
-		return KendoUILibrarySettings.instance;
+		return KendoUILibrarySettings.INSTANCE;
 	}
-
+
 
 	/**
 	 * Constructor
@@ -60,6 +62,45 @@ public class KendoUILibrarySettings extends JavaScriptLibrarySettings implements
 		return KendoUIJavaScriptResourceReference.get();
 	}
 
+	/**
+	 * Indicates whether Kendo UI is loaded per module (see {@link KendoUIModuleRegistry})
+	 *
+	 * @return true if behaviors render a bundle of the modules they need, false if the whole library is rendered
+	 */
+	public boolean isKendoUIModular()
+	{
+		return this.kendoUIModular;
+	}
+
+	/**
+	 * Sets whether Kendo UI is loaded per module (see {@link KendoUIModuleRegistry}).<br/>
+	 * If true, behaviors render a bundle of the modules they need (sliced from the embedded kendo.web.js) instead of {@link #getKendoUIJavaScriptReference()}.<br/>
+	 * Use the {@link KendoUIHeaderResponseDecorator} to merge the modules of a page into a single bundle.
+	 *
+	 * @param modular true to load Kendo UI per module
+	 */
+	public void setKendoUIModular(boolean modular)
+	{
+		this.kendoUIModular = modular;
+	}
+
+	@Override
+	public LoadingMode getLoadingMode()
+	{
+		return this.loadingMode;
+	}
+
+	/**
+	 * Sets the {@link LoadingMode} of the javascript libraries.<br/>
+	 * If the mode is not {@link LoadingMode#BLOCKING}, Kendo UI is loaded by the script loader and widget statements are queued until it is loaded.
+	 *
+	 * @param mode the {@link LoadingMode}
+	 */
+	public void setLoadingMode(LoadingMode mode)
+	{
+		this.loadingMode = mode != null ? mode : LoadingMode.BLOCKING;
+	}
+
 	@Override
 	public ResourceReference getKendoUICommonStyleSheetReference()
 	{